@@ -0,0 +1,22 @@
+package io.github.gabrielmsouza.catalogo.application.castmember.delete;
+
+import io.github.gabrielmsouza.catalogo.application.UnitUseCase;
+import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberGateway;
+
+import java.util.Objects;
+import java.util.Set;
+
+public class DeleteAllCastMembersUseCase extends UnitUseCase<Set<String>> {
+    private final CastMemberGateway gateway;
+
+    public DeleteAllCastMembersUseCase(final CastMemberGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public void execute(final Set<String> ids) {
+        if (Objects.nonNull(ids) && !ids.isEmpty()) {
+            this.gateway.deleteAllById(ids);
+        }
+    }
+}
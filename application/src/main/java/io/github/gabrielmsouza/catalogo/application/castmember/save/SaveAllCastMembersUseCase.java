@@ -0,0 +1,32 @@
+package io.github.gabrielmsouza.catalogo.application.castmember.save;
+
+import io.github.gabrielmsouza.catalogo.application.UseCase;
+import io.github.gabrielmsouza.catalogo.domain.castmember.CastMember;
+import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberGateway;
+import io.github.gabrielmsouza.catalogo.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SaveAllCastMembersUseCase extends UseCase<List<CastMember>, List<CastMember>> {
+    private final CastMemberGateway gateway;
+
+    public SaveAllCastMembersUseCase(final CastMemberGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public List<CastMember> execute(final List<CastMember> members) {
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        final var notification = Notification.create();
+        members.forEach(aMember -> aMember.validate(notification));
+        if (notification.hasErrors()) {
+            throw NotificationException.with("Invalid cast members", notification);
+        }
+        return this.gateway.saveAll(members);
+    }
+}
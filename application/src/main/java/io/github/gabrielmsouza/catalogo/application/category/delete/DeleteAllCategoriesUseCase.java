@@ -0,0 +1,22 @@
+package io.github.gabrielmsouza.catalogo.application.category.delete;
+
+import io.github.gabrielmsouza.catalogo.application.UnitUseCase;
+import io.github.gabrielmsouza.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.Set;
+
+public class DeleteAllCategoriesUseCase extends UnitUseCase<Set<String>> {
+    private final CategoryGateway gateway;
+
+    public DeleteAllCategoriesUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public void execute(final Set<String> ids) {
+        if (Objects.nonNull(ids) && !ids.isEmpty()) {
+            this.gateway.deleteAllById(ids);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.gabrielmsouza.catalogo.application.category.save;
+
+import io.github.gabrielmsouza.catalogo.application.UseCase;
+import io.github.gabrielmsouza.catalogo.domain.category.Category;
+import io.github.gabrielmsouza.catalogo.domain.category.CategoryGateway;
+import io.github.gabrielmsouza.catalogo.domain.exceptions.NotificationException;
+import io.github.gabrielmsouza.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SaveAllCategoriesUseCase extends UseCase<List<Category>, List<Category>> {
+    private final CategoryGateway gateway;
+
+    public SaveAllCategoriesUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public List<Category> execute(final List<Category> categories) {
+        if (Objects.isNull(categories) || categories.isEmpty()) {
+            return List.of();
+        }
+
+        final var notification = Notification.create();
+        categories.forEach(aCategory -> aCategory.validate(notification));
+        if (notification.hasErrors()) {
+            throw NotificationException.with("Invalid categories", notification);
+        }
+        return this.gateway.saveAll(categories);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.gabrielmsouza.catalogo.application.genre.delete;
+
+import io.github.gabrielmsouza.catalogo.application.UnitUseCase;
+import io.github.gabrielmsouza.catalogo.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.Set;
+
+public class DeleteAllGenresUseCase extends UnitUseCase<Set<String>> {
+    private final GenreGateway gateway;
+
+    public DeleteAllGenresUseCase(final GenreGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public void execute(final Set<String> ids) {
+        if (Objects.nonNull(ids) && !ids.isEmpty()) {
+            this.gateway.deleteAllById(ids);
+        }
+    }
+}
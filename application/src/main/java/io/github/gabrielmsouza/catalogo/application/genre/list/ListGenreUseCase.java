@@ -5,6 +5,7 @@ import io.github.gabrielmsouza.catalogo.domain.genre.Genre;
 import io.github.gabrielmsouza.catalogo.domain.genre.GenreGateway;
 import io.github.gabrielmsouza.catalogo.domain.genre.GenreSearchQuery;
 import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
 
 import java.time.Instant;
 import java.util.Objects;
@@ -28,8 +29,21 @@ public class ListGenreUseCase extends UseCase<ListGenreUseCase.Input, Pagination
             String terms,
             String sort,
             String direction,
-            Set<String> categories
+            Set<String> categories,
+            String cursor,
+            TotalHitsMode totalHits
     ) {
+        public Input(
+                final int page,
+                final int perPage,
+                final String terms,
+                final String sort,
+                final String direction,
+                final Set<String> categories
+        ) {
+            this(page, perPage, terms, sort, direction, categories, null, null);
+        }
+
         public GenreSearchQuery toQuery() {
             return new GenreSearchQuery(
                     page(),
@@ -37,7 +51,9 @@ public class ListGenreUseCase extends UseCase<ListGenreUseCase.Input, Pagination
                     terms(),
                     sort(),
                     direction(),
-                    categories()
+                    categories(),
+                    cursor(),
+                    totalHits()
             );
         }
     }
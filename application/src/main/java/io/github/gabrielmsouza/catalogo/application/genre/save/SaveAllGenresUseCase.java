@@ -0,0 +1,39 @@
+package io.github.gabrielmsouza.catalogo.application.genre.save;
+
+import io.github.gabrielmsouza.catalogo.application.UseCase;
+import io.github.gabrielmsouza.catalogo.domain.genre.Genre;
+import io.github.gabrielmsouza.catalogo.domain.genre.GenreGateway;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SaveAllGenresUseCase extends UseCase<List<SaveGenreUseCase.Input>, List<SaveGenreUseCase.Output>> {
+    private final GenreGateway gateway;
+
+    public SaveAllGenresUseCase(final GenreGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public List<SaveGenreUseCase.Output> execute(final List<SaveGenreUseCase.Input> inputs) {
+        if (inputs == null || inputs.isEmpty()) {
+            return List.of();
+        }
+
+        final var genres = inputs.stream()
+                .map(input -> Genre.with(
+                        input.id(),
+                        input.name(),
+                        input.active(),
+                        input.categories(),
+                        input.createdAt(),
+                        input.updatedAt(),
+                        input.deletedAt()
+                ))
+                .toList();
+
+        return this.gateway.saveAll(genres).stream()
+                .map(aGenre -> new SaveGenreUseCase.Output(aGenre.id()))
+                .toList();
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.gabrielmsouza.catalogo.application.video.delete;
+
+import io.github.gabrielmsouza.catalogo.application.UnitUseCase;
+import io.github.gabrielmsouza.catalogo.domain.video.VideoGateway;
+
+import java.util.Objects;
+import java.util.Set;
+
+public class DeleteAllVideosUseCase extends UnitUseCase<DeleteAllVideosUseCase.Input> {
+    private final VideoGateway videoGateway;
+
+    public DeleteAllVideosUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public void execute(final Input input) {
+        if (Objects.isNull(input) || input.videoIds().isEmpty()) {
+            return;
+        }
+        this.videoGateway.deleteAllById(input.videoIds());
+    }
+
+    public record Input(Set<String> videoIds) {
+        @Override
+        public Set<String> videoIds() {
+            return videoIds != null ? videoIds : Set.of();
+        }
+    }
+}
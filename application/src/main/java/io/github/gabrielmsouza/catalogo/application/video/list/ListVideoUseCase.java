@@ -2,6 +2,7 @@ package io.github.gabrielmsouza.catalogo.application.video.list;
 
 import io.github.gabrielmsouza.catalogo.application.UseCase;
 import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
 import io.github.gabrielmsouza.catalogo.domain.video.Video;
 import io.github.gabrielmsouza.catalogo.domain.video.VideoGateway;
 import io.github.gabrielmsouza.catalogo.domain.video.VideoSearchQuery;
@@ -19,20 +20,7 @@ public class ListVideoUseCase extends UseCase<ListVideoUseCase.Input, Pagination
 
     @Override
     public Pagination<Output> execute(final ListVideoUseCase.Input input) {
-        final var aQuery = new VideoSearchQuery(
-                input.page(),
-                input.perPage(),
-                input.terms(),
-                input.sort(),
-                input.direction(),
-                input.rating(),
-                input.launchedAt(),
-                input.categories(),
-                input.castMembers(),
-                input.genres()
-        );
-
-        return this.videoGateway.findAll(aQuery)
+        return this.videoGateway.findAll(input.toQuery())
                 .map(Output::from);
     }
 
@@ -46,16 +34,50 @@ public class ListVideoUseCase extends UseCase<ListVideoUseCase.Input, Pagination
             Integer launchedAt,
             Set<String> categories,
             Set<String> castMembers,
-            Set<String> genres
+            Set<String> genres,
+            Set<String> fields,
+            String cursor,
+            TotalHitsMode totalHits
     ) {
+        public Input(
+                final int page,
+                final int perPage,
+                final String terms,
+                final String sort,
+                final String direction,
+                final String rating,
+                final Integer launchedAt,
+                final Set<String> categories,
+                final Set<String> castMembers,
+                final Set<String> genres
+        ) {
+            this(page, perPage, terms, sort, direction, rating, launchedAt, categories, castMembers, genres, Set.of(), null, null);
+        }
 
+        public VideoSearchQuery toQuery() {
+            return new VideoSearchQuery(
+                    page(),
+                    perPage(),
+                    terms(),
+                    sort(),
+                    direction(),
+                    rating(),
+                    launchedAt(),
+                    categories(),
+                    castMembers(),
+                    genres(),
+                    fields(),
+                    cursor(),
+                    totalHits()
+            );
+        }
     }
 
     public record Output(
             String id,
             String title,
             String description,
-            int yearLaunched,
+            Integer yearLaunched,
             String rating,
             Double duration,
             boolean opened,
@@ -77,8 +99,8 @@ public class ListVideoUseCase extends UseCase<ListVideoUseCase.Input, Pagination
                     video.id(),
                     video.title(),
                     video.description(),
-                    video.launchedAt().getValue(),
-                    video.rating().getName(),
+                    video.launchedAt() != null ? video.launchedAt().getValue() : null,
+                    video.rating() != null ? video.rating().getName() : null,
                     video.duration(),
                     video.opened(),
                     video.published(),
@@ -0,0 +1,50 @@
+package io.github.gabrielmsouza.catalogo.application.video.save;
+
+import io.github.gabrielmsouza.catalogo.application.UseCase;
+import io.github.gabrielmsouza.catalogo.domain.video.Video;
+import io.github.gabrielmsouza.catalogo.domain.video.VideoGateway;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SaveAllVideosUseCase extends UseCase<List<SaveVideoUseCase.Input>, List<SaveVideoUseCase.Output>> {
+    private final VideoGateway videoGateway;
+
+    public SaveAllVideosUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public List<SaveVideoUseCase.Output> execute(final List<SaveVideoUseCase.Input> inputs) {
+        if (Objects.isNull(inputs) || inputs.isEmpty()) {
+            return List.of();
+        }
+
+        final var videos = inputs.stream()
+                .map(input -> Video.with(
+                        input.id(),
+                        input.title(),
+                        input.description(),
+                        input.launchedAt(),
+                        input.duration(),
+                        input.rating(),
+                        input.opened(),
+                        input.published(),
+                        input.createdAt(),
+                        input.updatedAt(),
+                        input.video(),
+                        input.trailer(),
+                        input.banner(),
+                        input.thumbnail(),
+                        input.thumbnailHalf(),
+                        input.categories(),
+                        input.castMembers(),
+                        input.genres()
+                ))
+                .toList();
+
+        return this.videoGateway.saveAll(videos).stream()
+                .map(video -> new SaveVideoUseCase.Output(video.id()))
+                .toList();
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.gabrielmsouza.catalogo.application.castmember.save;
+
+import io.github.gabrielmsouza.catalogo.application.UseCaseTest;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.castmember.CastMember;
+import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberGateway;
+import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberType;
+import io.github.gabrielmsouza.catalogo.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.catalogo.domain.utils.IDUtils;
+import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class SaveAllCastMembersUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private SaveAllCastMembersUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Test
+    void givenValidCastMembers_whenCallsSaveAll_thenShouldPersistThemInBulk() {
+        // given
+        final var members = List.of(Fixture.CastMembers.actor(), Fixture.CastMembers.director());
+
+        when(this.castMemberGateway.saveAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualMembers = this.useCase.execute(members);
+
+        // then
+        assertEquals(members, actualMembers);
+        verify(this.castMemberGateway, times(1)).saveAll(eq(members));
+        verify(this.castMemberGateway, never()).save(any());
+    }
+
+    @Test
+    void givenOneInvalidCastMember_whenCallsSaveAll_thenShouldReturnError() {
+        // given
+        final var invalid = CastMember.with(
+                IDUtils.uuid(),
+                "",
+                CastMemberType.ACTOR,
+                InstantUtils.now(),
+                InstantUtils.now()
+        );
+        final var members = List.of(Fixture.CastMembers.actor(), invalid);
+
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'name' should not be empty";
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> this.useCase.execute(members));
+
+        // then
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(this.castMemberGateway, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.gabrielmsouza.catalogo.application.category.delete;
+
+import io.github.gabrielmsouza.catalogo.application.UseCaseTest;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DeleteAllCategoriesUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DeleteAllCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @Test
+    void givenValidIds_whenCallsDeleteAll_thenShouldBeOk() {
+        // given
+        final var expectedIds = Set.of(Fixture.Categories.aulas().id(), Fixture.Categories.lives().id());
+
+        doNothing().when(gateway).deleteAllById(any());
+
+        // when
+        assertDoesNotThrow(() -> useCase.execute(expectedIds));
+
+        // then
+        verify(gateway, times(1)).deleteAllById(eq(expectedIds));
+    }
+
+    @Test
+    void givenEmptyIds_whenCallsDeleteAll_thenShouldBeOk() {
+        // given
+        final Set<String> expectedIds = Set.of();
+
+        // when
+        assertDoesNotThrow(() -> useCase.execute(expectedIds));
+        assertDoesNotThrow(() -> useCase.execute(null));
+
+        // then
+        verify(gateway, never()).deleteAllById(any());
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.gabrielmsouza.catalogo.application.category.save;
+
+import io.github.gabrielmsouza.catalogo.application.UseCaseTest;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.category.Category;
+import io.github.gabrielmsouza.catalogo.domain.category.CategoryGateway;
+import io.github.gabrielmsouza.catalogo.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.catalogo.domain.utils.IDUtils;
+import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class SaveAllCategoriesUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private SaveAllCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenValidCategories_whenCallsSaveAll_thenShouldPersistThemInBulk() {
+        // given
+        final var categories = List.of(Fixture.Categories.aulas(), Fixture.Categories.lives());
+
+        when(this.categoryGateway.saveAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualCategories = this.useCase.execute(categories);
+
+        // then
+        assertEquals(categories, actualCategories);
+        verify(this.categoryGateway, times(1)).saveAll(eq(categories));
+        verify(this.categoryGateway, never()).save(any());
+    }
+
+    @Test
+    void givenEmptyCategories_whenCallsSaveAll_thenShouldDoNothing() {
+        // given
+        final List<Category> categories = List.of();
+
+        // when
+        final var actualCategories = this.useCase.execute(categories);
+
+        // then
+        assertTrue(actualCategories.isEmpty());
+        verify(this.categoryGateway, never()).saveAll(any());
+    }
+
+    @Test
+    void givenOneInvalidCategory_whenCallsSaveAll_thenShouldReturnError() {
+        // given
+        final var invalid = Category.with(
+                IDUtils.uuid(),
+                "",
+                "Conteudo gravado",
+                true,
+                InstantUtils.now(),
+                InstantUtils.now(),
+                null
+        );
+        final var categories = List.of(Fixture.Categories.aulas(), invalid);
+
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'name' should not be empty";
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> this.useCase.execute(categories));
+
+        // then
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(this.categoryGateway, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.gabrielmsouza.catalogo.application.genre.delete;
+
+import io.github.gabrielmsouza.catalogo.application.UseCaseTest;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DeleteAllGenresUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DeleteAllGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway gateway;
+
+    @Test
+    void givenValidIds_whenCallsDeleteAll_thenShouldBeOk() {
+        // given
+        final var expectedIds = Set.of(Fixture.Genres.tech().id(), Fixture.Genres.business().id());
+
+        doNothing().when(gateway).deleteAllById(any());
+
+        // when
+        assertDoesNotThrow(() -> useCase.execute(expectedIds));
+
+        // then
+        verify(gateway, times(1)).deleteAllById(eq(expectedIds));
+    }
+
+    @Test
+    void givenEmptyIds_whenCallsDeleteAll_thenShouldBeOk() {
+        // when
+        assertDoesNotThrow(() -> useCase.execute(Set.of()));
+        assertDoesNotThrow(() -> useCase.execute(null));
+
+        // then
+        verify(gateway, never()).deleteAllById(any());
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.gabrielmsouza.catalogo.application.genre.save;
+
+import io.github.gabrielmsouza.catalogo.application.UseCaseTest;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.catalogo.domain.genre.Genre;
+import io.github.gabrielmsouza.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SaveAllGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private SaveAllGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway gateway;
+
+    @Test
+    void givenValidInputs_whenCallsSaveAll_thenShouldPersistThemInBulk() {
+        // given
+        final var tech = Fixture.Genres.tech();
+        final var business = Fixture.Genres.business();
+
+        when(gateway.saveAll(any())).thenAnswer(returnsFirstArg());
+
+        final var inputs = List.of(input(tech), input(business));
+
+        // when
+        final var actualOutput = this.useCase.execute(inputs);
+
+        // then
+        assertEquals(List.of(new SaveGenreUseCase.Output(tech.id()), new SaveGenreUseCase.Output(business.id())), actualOutput);
+
+        verify(gateway, times(1)).saveAll(argThat(genres ->
+                genres.size() == 2
+                        && tech.id().equals(genres.get(0).id())
+                        && business.id().equals(genres.get(1).id())
+        ));
+        verify(gateway, never()).save(any());
+    }
+
+    @Test
+    void givenNullInputs_whenCallsSaveAll_thenShouldDoNothing() {
+        // when
+        final var actualOutput = this.useCase.execute(null);
+
+        // then
+        assertTrue(actualOutput.isEmpty());
+        verify(gateway, never()).saveAll(any());
+    }
+
+    @Test
+    void givenOneInvalidInput_whenCallsSaveAll_thenShouldReturnError() {
+        // given
+        final var tech = Fixture.Genres.tech();
+        final var invalid = new SaveGenreUseCase.Input(
+                tech.id(), "", tech.active(), tech.categories(), tech.createdAt(), tech.updatedAt(), tech.deletedAt()
+        );
+
+        // when
+        assertThrows(DomainException.class, () -> this.useCase.execute(List.of(input(tech), invalid)));
+
+        // then
+        verify(gateway, never()).saveAll(any());
+    }
+
+    private static SaveGenreUseCase.Input input(final Genre aGenre) {
+        return new SaveGenreUseCase.Input(
+                aGenre.id(),
+                aGenre.name(),
+                aGenre.active(),
+                aGenre.categories(),
+                aGenre.createdAt(),
+                aGenre.updatedAt(),
+                aGenre.deletedAt()
+        );
+    }
+}
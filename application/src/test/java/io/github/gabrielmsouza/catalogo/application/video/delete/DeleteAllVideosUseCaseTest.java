@@ -0,0 +1,46 @@
+package io.github.gabrielmsouza.catalogo.application.video.delete;
+
+import io.github.gabrielmsouza.catalogo.application.UseCaseTest;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.video.VideoGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+public class DeleteAllVideosUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DeleteAllVideosUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Test
+    public void givenValidIds_whenCallsDeleteAll_shouldBeOk() {
+        // given
+        final var expectedIds = Set.of(Fixture.Videos.java21().id(), Fixture.Videos.golang().id());
+
+        doNothing()
+                .when(this.videoGateway).deleteAllById(any());
+
+        // when
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteAllVideosUseCase.Input(expectedIds)));
+
+        // then
+        verify(this.videoGateway, times(1)).deleteAllById(eq(expectedIds));
+    }
+
+    @Test
+    public void givenNullInput_whenCallsDeleteAll_shouldBeOk() {
+        // when
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(null));
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(new DeleteAllVideosUseCase.Input(null)));
+
+        // then
+        verify(this.videoGateway, never()).deleteAllById(any());
+    }
+}
@@ -3,6 +3,7 @@ package io.github.gabrielmsouza.catalogo.application.video.list;
 import io.github.gabrielmsouza.catalogo.application.UseCaseTest;
 import io.github.gabrielmsouza.catalogo.domain.Fixture;
 import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
+import io.github.gabrielmsouza.catalogo.domain.video.Video;
 import io.github.gabrielmsouza.catalogo.domain.video.VideoGateway;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 
 class ListVideoUseCaseTest extends UseCaseTest {
@@ -76,4 +78,34 @@ class ListVideoUseCaseTest extends UseCaseTest {
                         expectedItems.containsAll(actualOutput.data())
         );
     }
+
+    @Test
+    public void givenAProjectionWithoutLaunchedAtAndRating_whenCallsListVideos_shouldReturnThemAsNull() {
+        // given
+        final var expectedFields = Set.of("id", "title");
+        final var partial = Video.partial(
+                "123", "System Design Interviews", null, null, null, null, false, false,
+                null, null, null, null, null, null, null, null, null, null
+        );
+
+        final var aQuery = new ListVideoUseCase.Input(
+                0, 10, "", "title", "asc", null, null,
+                Set.of(), Set.of(), Set.of(),
+                expectedFields, null, null
+        );
+
+        when(this.videoGateway.findAll(argThat(query -> expectedFields.equals(query.fields()))))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(partial)));
+
+        // when
+        final var actualOutput = this.useCase.execute(aQuery);
+
+        // then
+        final var actualVideo = actualOutput.data().get(0);
+        Assertions.assertEquals("123", actualVideo.id());
+        Assertions.assertEquals("System Design Interviews", actualVideo.title());
+        Assertions.assertNull(actualVideo.yearLaunched());
+        Assertions.assertNull(actualVideo.rating());
+        Assertions.assertNull(actualVideo.createdAt());
+    }
 }
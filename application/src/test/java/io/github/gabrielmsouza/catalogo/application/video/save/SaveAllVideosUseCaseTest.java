@@ -0,0 +1,86 @@
+package io.github.gabrielmsouza.catalogo.application.video.save;
+
+import io.github.gabrielmsouza.catalogo.application.UseCaseTest;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.video.Video;
+import io.github.gabrielmsouza.catalogo.domain.video.VideoGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SaveAllVideosUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private SaveAllVideosUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenValidInputs_whenCallsSaveAll_shouldPersistThemInBulk() {
+        // given
+        final var java21 = Fixture.Videos.java21();
+        final var golang = Fixture.Videos.golang();
+
+        when(videoGateway.saveAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = this.useCase.execute(List.of(input(java21), input(golang)));
+
+        // then
+        assertEquals(List.of(new SaveVideoUseCase.Output(java21.id()), new SaveVideoUseCase.Output(golang.id())), actualOutput);
+
+        final ArgumentCaptor<List<Video>> captor = ArgumentCaptor.forClass(List.class);
+        verify(videoGateway, times(1)).saveAll(captor.capture());
+        verify(videoGateway, never()).save(any());
+
+        final var actualVideos = captor.getValue();
+        assertEquals(2, actualVideos.size());
+        assertEquals(java21.id(), actualVideos.get(0).id());
+        assertEquals(java21.title(), actualVideos.get(0).title());
+        assertEquals(golang.id(), actualVideos.get(1).id());
+        assertEquals(golang.title(), actualVideos.get(1).title());
+    }
+
+    @Test
+    public void givenEmptyInputs_whenCallsSaveAll_shouldDoNothing() {
+        // when
+        final var actualOutput = this.useCase.execute(List.of());
+
+        // then
+        assertTrue(actualOutput.isEmpty());
+        verify(videoGateway, never()).saveAll(any());
+    }
+
+    private static SaveVideoUseCase.Input input(final Video aVideo) {
+        return new SaveVideoUseCase.Input(
+                aVideo.id(),
+                aVideo.title(),
+                aVideo.description(),
+                aVideo.launchedAt().getValue(),
+                aVideo.duration(),
+                aVideo.rating().getName(),
+                aVideo.opened(),
+                aVideo.published(),
+                aVideo.createdAt().toString(),
+                aVideo.updatedAt().toString(),
+                aVideo.video(),
+                aVideo.trailer(),
+                aVideo.banner(),
+                aVideo.thumbnail(),
+                aVideo.thumbnailHalf(),
+                aVideo.categories(),
+                aVideo.castMembers(),
+                aVideo.genres()
+        );
+    }
+}
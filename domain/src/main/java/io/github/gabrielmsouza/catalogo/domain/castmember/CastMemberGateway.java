@@ -8,7 +8,9 @@ import java.util.Set;
 
 public interface CastMemberGateway {
     CastMember save(CastMember aMember);
+    List<CastMember> saveAll(List<CastMember> members);
     void deleteById(String anId);
+    void deleteAllById(Set<String> ids);
     Optional<CastMember> findById(String anId);
     Pagination<CastMember> findAll(CastMemberSearchQuery aQuery);
     List<CastMember> findAllById(Set<String> ids);
@@ -1,10 +1,39 @@
 package io.github.gabrielmsouza.catalogo.domain.castmember;
 
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
+
 public record CastMemberSearchQuery(
     int page,
     int perPage,
     String terms,
     String sort,
-    String direction
+    String direction,
+    String cursor,
+    TotalHitsMode totalHits
 ) {
+    public CastMemberSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, null);
+    }
+
+    public CastMemberSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, null);
+    }
+
+    @Override
+    public TotalHitsMode totalHits() {
+        return totalHits != null ? totalHits : TotalHitsMode.EXACT;
+    }
 }
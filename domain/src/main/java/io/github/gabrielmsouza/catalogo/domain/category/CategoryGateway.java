@@ -8,7 +8,9 @@ import java.util.Set;
 
 public interface CategoryGateway {
     Category save(Category aCategory);
+    List<Category> saveAll(List<Category> categories);
     void deleteById(String anId);
+    void deleteAllById(Set<String> ids);
     Optional<Category> findById(String anId);
     Pagination<Category> findAll(CategorySearchQuery aQuery);
     List<Category> findAllById(Set<String> ids);
@@ -8,7 +8,9 @@ import java.util.Set;
 
 public interface GenreGateway {
     Genre save(Genre aGenre);
+    List<Genre> saveAll(List<Genre> genres);
     void deleteById(String genreId);
+    void deleteAllById(Set<String> ids);
     Optional<Genre> findById(String genreId);
     Pagination<Genre> findAll(GenreSearchQuery aQuery);
     List<Genre> findAllById(Set<String> ids);
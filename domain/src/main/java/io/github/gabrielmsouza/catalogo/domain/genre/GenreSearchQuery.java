@@ -1,5 +1,7 @@
 package io.github.gabrielmsouza.catalogo.domain.genre;
 
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
+
 import java.util.Set;
 
 public record GenreSearchQuery(
@@ -8,8 +10,33 @@ public record GenreSearchQuery(
     String terms,
     String sort,
     String direction,
-    Set<String> categories
+    Set<String> categories,
+    String cursor,
+    TotalHitsMode totalHits
 ) {
+    public GenreSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<String> categories
+    ) {
+        this(page, perPage, terms, sort, direction, categories, null, null);
+    }
+
+    public GenreSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<String> categories,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, categories, cursor, null);
+    }
+
     @Override
     public String terms() {
         return terms != null ? terms : "";
@@ -29,4 +56,9 @@ public record GenreSearchQuery(
     public Set<String> categories() {
         return categories != null ? categories : Set.of();
     }
+
+    @Override
+    public TotalHitsMode totalHits() {
+        return totalHits != null ? totalHits : TotalHitsMode.EXACT;
+    }
 }
@@ -3,6 +3,12 @@ package io.github.gabrielmsouza.catalogo.domain.pagination;
 public record Metadata(
         int currentPage,
         int  perPage,
-        long total
+        long total,
+        boolean exactTotal,
+        String nextCursor,
+        String prevCursor
 ) {
+    public Metadata(final int currentPage, final int perPage, final long total) {
+        this(currentPage, perPage, total, true, null, null);
+    }
 }
@@ -0,0 +1,7 @@
+package io.github.gabrielmsouza.catalogo.domain.pagination;
+
+public enum TotalHitsMode {
+    NONE,
+    APPROXIMATE,
+    EXACT
+}
@@ -51,7 +51,8 @@ public class Video {
             final String thumbnailHalf,
             final Set<String> categories,
             final Set<String> castMembers,
-            final Set<String> genres
+            final Set<String> genres,
+            final boolean partial
     ) {
         this.id = id;
         this.title = title;
@@ -72,6 +73,10 @@ public class Video {
         this.genres = genres != null ? genres : Set.of();
         this.castMembers = castMembers != null ? castMembers : Set.of();
 
+        if (partial) {
+            return;
+        }
+
         validate(new ThrowsValidationHandler());
 
         if (video == null || video.isBlank()) {
@@ -129,7 +134,54 @@ public class Video {
                 thumbnailHalf,
                 categories,
                 castMembers,
-                genres
+                genres,
+                false
+        );
+    }
+
+    /**
+     * Builds a video holding only a projection of its properties, skipping validation; the missing ones stay null.
+     */
+    public static Video partial(
+            final String id,
+            final String title,
+            final String description,
+            final Integer launchedAt,
+            final Double duration,
+            final String rating,
+            final boolean opened,
+            final boolean published,
+            final String createdAt,
+            final String updatedAt,
+            final String video,
+            final String trailer,
+            final String banner,
+            final String thumbnail,
+            final String thumbnailHalf,
+            final Set<String> categories,
+            final Set<String> castMembers,
+            final Set<String> genres
+    ) {
+        return new Video(
+                id,
+                title,
+                description,
+                launchedAt,
+                duration != null ? duration : 0.0,
+                rating,
+                opened,
+                published,
+                createdAt,
+                updatedAt,
+                video,
+                trailer,
+                banner,
+                thumbnail,
+                thumbnailHalf,
+                categories,
+                castMembers,
+                genres,
+                true
         );
     }
 
@@ -138,13 +190,13 @@ public class Video {
                 video.id(),
                 video.title(),
                 video.description(),
-                video.launchedAt().getValue(),
+                video.launchedAt() != null ? video.launchedAt().getValue() : null,
                 video.duration(),
-                video.rating().getName(),
+                video.rating() != null ? video.rating().getName() : null,
                 video.opened(),
                 video.published(),
-                video.createdAt().toString(),
-                video.updatedAt().toString(),
+                video.createdAt() != null ? video.createdAt().toString() : null,
+                video.updatedAt() != null ? video.updatedAt().toString() : null,
                 video.video(),
                 video.trailer(),
                 video.banner(),
@@ -2,11 +2,15 @@ package io.github.gabrielmsouza.catalogo.domain.video;
 
 import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface VideoGateway {
     Video save(Video video);
+    List<Video> saveAll(List<Video> videos);
     void deleteById(String videoId);
+    void deleteAllById(Set<String> videoIds);
     Optional<Video> findById(String videoId);
     Pagination<Video> findAll(VideoSearchQuery aQuery);
 }
@@ -1,5 +1,7 @@
 package io.github.gabrielmsouza.catalogo.domain.video;
 
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
+
 import java.util.Set;
 
 public record VideoSearchQuery(
@@ -12,8 +14,42 @@ public record VideoSearchQuery(
         Integer launchedAt,
         Set<String> categories,
         Set<String> castMembers,
-        Set<String> genres
+        Set<String> genres,
+        Set<String> fields,
+        String cursor,
+        TotalHitsMode totalHits
 ) {
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String rating,
+            final Integer launchedAt,
+            final Set<String> categories,
+            final Set<String> castMembers,
+            final Set<String> genres
+    ) {
+        this(page, perPage, terms, sort, direction, rating, launchedAt, categories, castMembers, genres, Set.of(), null, null);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String rating,
+            final Integer launchedAt,
+            final Set<String> categories,
+            final Set<String> castMembers,
+            final Set<String> genres,
+            final Set<String> fields
+    ) {
+        this(page, perPage, terms, sort, direction, rating, launchedAt, categories, castMembers, genres, fields, null, null);
+    }
+
     @Override
     public String terms() {
         return terms != null ? terms : "";
@@ -43,4 +79,17 @@ public record VideoSearchQuery(
     public Set<String> genres() {
         return genres != null ? genres : Set.of();
     }
+
+    /**
+     * Names of the {@link Video} properties to load; an empty set loads all of them.
+     */
+    @Override
+    public Set<String> fields() {
+        return fields != null ? fields : Set.of();
+    }
+
+    @Override
+    public TotalHitsMode totalHits() {
+        return totalHits != null ? totalHits : TotalHitsMode.EXACT;
+    }
 }
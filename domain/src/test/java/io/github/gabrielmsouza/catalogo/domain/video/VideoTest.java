@@ -520,6 +520,48 @@ class VideoTest extends UnitTest {
         Assertions.assertEquals(expectedThumbnailHalf, actualVideo.thumbnailHalf());
     }
 
+    @Test
+    public void givenOnlySomeProps_whenCallsVideoPartial_shouldInstantiateWithoutValidating() {
+        // given
+        final var expectedId = IDUtils.uuid();
+        final var expectedTitle = "System Design Interviews";
+
+        // when
+        final var actualVideo = Video.partial(
+                expectedId,
+                expectedTitle,
+                null,
+                null,
+                null,
+                null,
+                false,
+                true,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+
+        // then
+        Assertions.assertEquals(expectedId, actualVideo.id());
+        Assertions.assertEquals(expectedTitle, actualVideo.title());
+        Assertions.assertNull(actualVideo.description());
+        Assertions.assertNull(actualVideo.launchedAt());
+        Assertions.assertNull(actualVideo.rating());
+        Assertions.assertNull(actualVideo.createdAt());
+        Assertions.assertNull(actualVideo.updatedAt());
+        Assertions.assertTrue(actualVideo.published());
+        Assertions.assertEquals(Set.of(), actualVideo.categories());
+        Assertions.assertEquals(Set.of(), actualVideo.castMembers());
+        Assertions.assertEquals(Set.of(), actualVideo.genres());
+    }
+
     @Test
     public void givenAnInvalidNullId_whenCallWith_thenShouldReceiveError() {
         // given
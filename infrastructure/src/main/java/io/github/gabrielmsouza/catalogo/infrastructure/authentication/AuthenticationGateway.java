@@ -4,7 +4,10 @@ public interface AuthenticationGateway {
     AuthenticationResult login(ClientCredentialsInput input);
     AuthenticationResult refresh(RefreshTokenInput input);
 
-    record AuthenticationResult(String accessToken, String refreshToken) {}
+    /**
+     * {@code expiresIn} is the access token lifetime in seconds.
+     */
+    record AuthenticationResult(String accessToken, String refreshToken, long expiresIn) {}
 
     record ClientCredentialsInput(String clientId, String clientSecret) {}
 
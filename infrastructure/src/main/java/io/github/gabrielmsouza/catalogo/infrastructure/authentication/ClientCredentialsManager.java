@@ -1,15 +1,41 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.authentication;
 
+import com.google.common.base.Ticker;
+import io.github.gabrielmsouza.catalogo.infrastructure.authentication.AuthenticationGateway.AuthenticationResult;
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.AuthenticationGateway.ClientCredentialsInput;
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.AuthenticationGateway.RefreshTokenInput;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.VirtualThreads;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.KeycloakProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
+/**
+ * Refreshes the token in the background once {@code refresh-ratio} of its lifetime has passed.
+ */
 @Component
 public class ClientCredentialsManager implements GetClientCredentials, RefreshClientCredentials {
+    private static final Logger LOG = LoggerFactory.getLogger(ClientCredentialsManager.class);
+
+    private static final String REFRESH_METRIC = "catalogo.auth.token.refresh";
+    private static final String GRANT_TAG = "grant";
+    private static final String RESULT_TAG = "result";
+
     // AtomicReferenceFieldUpdater is a class that allows to update the value of a field atomically.
     private static final AtomicReferenceFieldUpdater<ClientCredentialsManager, ClientCredentials> UPDATER
             = AtomicReferenceFieldUpdater.newUpdater(ClientCredentialsManager.class, ClientCredentials.class, "credentials");
@@ -20,38 +46,152 @@ public class ClientCredentialsManager implements GetClientCredentials, RefreshCl
 
     private final AuthenticationGateway authenticationGateway;
     private final KeycloakProperties keycloakProperties;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final Ticker ticker;
+    private final AtomicBoolean refreshing;
+    private final ReentrantLock lock;
 
+    @Autowired
     public ClientCredentialsManager(
             final AuthenticationGateway authenticationGateway,
-            final KeycloakProperties keycloakProperties
+            final KeycloakProperties keycloakProperties,
+            @VirtualThreads final ExecutorService executor,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(authenticationGateway, keycloakProperties, executor, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), Ticker.systemTicker());
+    }
+
+    ClientCredentialsManager(
+            final AuthenticationGateway authenticationGateway,
+            final KeycloakProperties keycloakProperties,
+            final Executor executor,
+            final MeterRegistry meterRegistry,
+            final Ticker ticker
     ) {
         this.authenticationGateway = Objects.requireNonNull(authenticationGateway);
         this.keycloakProperties = Objects.requireNonNull(keycloakProperties);
+        this.executor = Objects.requireNonNull(executor);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.ticker = Objects.requireNonNull(ticker);
+        this.refreshing = new AtomicBoolean();
+        this.lock = new ReentrantLock();
     }
 
     @Override
     public String retrieve() {
-        return this.credentials.accessToken();
+        final var current = this.credentials;
+        final var now = this.ticker.read();
+        if (current == null || current.isExpired(now)) {
+            return refreshExpired(current).accessToken();
+        }
+        if (current.isStale(now)) {
+            refreshInBackground();
+        }
+        return current.accessToken();
     }
 
     @Override
     public void refresh() {
+        this.lock.lock();
+        try {
+            doRefresh();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void refreshIfStale() {
+        final var current = this.credentials;
+        if (current != null && !current.isStale(this.ticker.read())) {
+            return;
+        }
+        if (this.refreshing.compareAndSet(false, true)) {
+            try {
+                refresh();
+            } finally {
+                this.refreshing.set(false);
+            }
+        }
+    }
+
+    private ClientCredentials refreshExpired(final ClientCredentials seen) {
+        this.lock.lock();
+        try {
+            // another caller may have refreshed it while this one was waiting for the lock
+            final var current = this.credentials;
+            if (current != seen && current != null && !current.isExpired(this.ticker.read())) {
+                return current;
+            }
+            return doRefresh();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!this.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.executor.execute(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException ex) {
+                    LOG.warn("Failed to refresh client credentials ahead of expiry [clientId:{}]", clientId(), ex);
+                } finally {
+                    this.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            this.refreshing.set(false);
+        }
+    }
+
+    private ClientCredentials doRefresh() {
         final var result = Objects.isNull(this.credentials) ? login() : refreshToken();
-        UPDATER.set(this, new ClientCredentials(clientId(), result.accessToken(), result.refreshToken()));
+        final var issuedAt = this.ticker.read();
+        final var lifetime = Duration.ofSeconds(result.expiresIn()).toNanos();
+        final var refreshed = new ClientCredentials(
+                clientId(),
+                result.accessToken(),
+                result.refreshToken(),
+                issuedAt + (long) (lifetime * this.keycloakProperties.refreshRatio()),
+                issuedAt + lifetime
+        );
+        UPDATER.set(this, refreshed);
+        return refreshed;
     }
 
-    private AuthenticationGateway.AuthenticationResult login() {
-        return this.authenticationGateway.login(new ClientCredentialsInput(clientId(), clientSecret()));
+    private AuthenticationResult login() {
+        return timed("client_credentials", () -> this.authenticationGateway.login(new ClientCredentialsInput(clientId(), clientSecret())));
     }
 
-    private AuthenticationGateway.AuthenticationResult refreshToken() {
+    private AuthenticationResult refreshToken() {
         try {
-            return this.authenticationGateway.refresh(new RefreshTokenInput(clientId(), clientSecret(), this.credentials.refreshToken()));
+            return timed("refresh_token", () -> this.authenticationGateway.refresh(new RefreshTokenInput(clientId(), clientSecret(), this.credentials.refreshToken())));
         } catch (RuntimeException ex) {
             return this.login();
         }
     }
 
+    private AuthenticationResult timed(final String grant, final Supplier<AuthenticationResult> call) {
+        final var sample = Timer.start(this.meterRegistry);
+        var result = "failure";
+        try {
+            final var output = call.get();
+            result = "success";
+            return output;
+        } finally {
+            sample.stop(Timer.builder(REFRESH_METRIC)
+                    .description("Latency of the token requests to Keycloak by grant and result")
+                    .tag(GRANT_TAG, grant)
+                    .tag(RESULT_TAG, result)
+                    .register(this.meterRegistry));
+        }
+    }
+
     private String clientId() {
         return this.keycloakProperties.clientId();
     }
@@ -60,6 +200,20 @@ public class ClientCredentialsManager implements GetClientCredentials, RefreshCl
         return this.keycloakProperties.clientSecret();
     }
 
-    record ClientCredentials(String clientId, String accessToken, String refreshToken) {
+    /**
+     * {@code refreshAt} and {@code expiresAt} are ticker nanos.
+     */
+    record ClientCredentials(String clientId, String accessToken, String refreshToken, long refreshAt, long expiresAt) {
+        ClientCredentials(final String clientId, final String accessToken, final String refreshToken) {
+            this(clientId, accessToken, refreshToken, Long.MAX_VALUE, Long.MAX_VALUE);
+        }
+
+        boolean isStale(final long now) {
+            return now >= this.refreshAt;
+        }
+
+        boolean isExpired(final long now) {
+            return now >= this.expiresAt;
+        }
     }
 }
@@ -12,6 +12,9 @@ import java.util.Objects;
 
 @Component
 public class KeycloakAuthenticationGateway implements AuthenticationGateway {
+    // Keycloak's default access token lifespan, for responses without expires_in
+    private static final long DEFAULT_EXPIRES_IN = 300;
+
     private final RestClient restClient;
     private final String tokenUri;
 
@@ -40,7 +43,7 @@ public class KeycloakAuthenticationGateway implements AuthenticationGateway {
             throw InternalErrorException.with("Failed to create client credentials [clientId:%s]".formatted(input.clientId()));
         }
 
-        return new AuthenticationResult(result.accessToken, result.refreshToken);
+        return new AuthenticationResult(result.accessToken, result.refreshToken, expiresIn(result));
     }
 
     @Override
@@ -64,12 +67,20 @@ public class KeycloakAuthenticationGateway implements AuthenticationGateway {
             throw InternalErrorException.with("Failed to refresh client credentials [clientId:%s]".formatted(input.clientId()));
         }
 
-        return new AuthenticationResult(result.accessToken, result.refreshToken);
+        return new AuthenticationResult(result.accessToken, result.refreshToken, expiresIn(result));
+    }
+
+    private static long expiresIn(final KeycloakAuthenticationResult result) {
+        return result.expiresIn == null || result.expiresIn <= 0 ? DEFAULT_EXPIRES_IN : result.expiresIn;
     }
 
     public record KeycloakAuthenticationResult(
             String accessToken,
-            String refreshToken
+            String refreshToken,
+            Long expiresIn
     ) {
+        public KeycloakAuthenticationResult(final String accessToken, final String refreshToken) {
+            this(accessToken, refreshToken, null);
+        }
     }
 }
@@ -2,4 +2,6 @@ package io.github.gabrielmsouza.catalogo.infrastructure.authentication;
 
 public interface RefreshClientCredentials {
     void refresh();
+
+    void refreshIfStale();
 }
@@ -6,13 +6,14 @@ import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberSearchQuery;
 import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
 import io.github.gabrielmsouza.catalogo.infrastructure.castmember.persistence.CastMemberDocument;
 import io.github.gabrielmsouza.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.SearchIndexWriter;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SearchCursor;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.TotalHitsTracking;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchOperations;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 
@@ -22,34 +23,55 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.StreamSupport;
 
-import static org.springframework.data.elasticsearch.core.query.Criteria.where;
+import static io.github.gabrielmsouza.catalogo.infrastructure.utils.SubstringQuery.containing;
 
 @Component
 @Profile("!dev")
 public class CastMemberElasticsearchGateway implements CastMemberGateway {
+    private static final String INDEX = "cast_members";
     private static final String NAME_PROP = "name";
     private static final String KEYWORD = ".keyword";
 
     private final CastMemberRepository repository;
     private final SearchOperations searchOperations;
+    private final SearchIndexWriter writer;
 
     public CastMemberElasticsearchGateway(
             final CastMemberRepository repository,
-            final SearchOperations searchOperations
+            final SearchOperations searchOperations,
+            final SearchIndexWriter writer
     ) {
         this.repository = Objects.requireNonNull(repository);
         this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.writer = Objects.requireNonNull(writer);
     }
 
     @Override
     public CastMember save(final CastMember aCastMember) {
-        this.repository.save(CastMemberDocument.from(aCastMember));
+        this.writer.save(INDEX, aCastMember.id(), CastMemberDocument.from(aCastMember));
         return aCastMember;
     }
 
+    @Override
+    public List<CastMember> saveAll(final List<CastMember> members) {
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        this.writer.saveAll(INDEX, members.stream().map(CastMemberDocument::from).toList());
+        return members;
+    }
+
     @Override
     public void deleteById(final String anId) {
-        this.repository.deleteById(anId);
+        this.writer.deleteById(INDEX, anId);
+    }
+
+    @Override
+    public void deleteAllById(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        this.writer.deleteAllById(INDEX, ids);
     }
 
     @Override
@@ -63,21 +85,19 @@ public class CastMemberElasticsearchGateway implements CastMemberGateway {
         final var currentPage = aQuery.page();
         final var perPage = aQuery.perPage();
 
+        final var cursor = SearchCursor.decode(aQuery.cursor());
+
         final var sort = Sort.by(Sort.Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
-        final var page = PageRequest.of(currentPage, perPage, sort);
+        final var page = cursor.pageable(currentPage, perPage, sort);
 
-        final var query = StringUtils.isNotEmpty(terms)
-                ? new CriteriaQuery(where("name").contains(terms), page)
+        final Query query = StringUtils.isNotEmpty(terms)
+                ? NativeQuery.builder().withQuery(containing(terms, NAME_PROP)).withPageable(page).build()
                 : Query.findAll().setPageable(page);
+        cursor.applyTo(query);
+        TotalHitsTracking.applyTo(query, aQuery.totalHits());
 
         final var res = this.searchOperations.search(query, CastMemberDocument.class);
-        final var total = res.getTotalHits();
-        final var members = res.stream()
-                .map(SearchHit::getContent)
-                .map(CastMemberDocument::toCastMember)
-                .toList();
-
-        return new Pagination<>(currentPage, perPage, total, members);
+        return cursor.paginate(res, currentPage, perPage, CastMemberDocument::toCastMember);
     }
 
     @Override
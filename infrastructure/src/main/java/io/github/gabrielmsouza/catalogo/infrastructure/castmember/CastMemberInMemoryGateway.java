@@ -28,11 +28,28 @@ public class CastMemberInMemoryGateway implements CastMemberGateway {
         return aCastMember;
     }
 
+    @Override
+    public List<CastMember> saveAll(final List<CastMember> members) {
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        members.forEach(it -> this.db.put(it.id(), it));
+        return members;
+    }
+
     @Override
     public void deleteById(final String anId) {
         this.db.remove(anId);
     }
 
+    @Override
+    public void deleteAllById(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        ids.forEach(this.db::remove);
+    }
+
     @Override
     public Optional<CastMember> findById(final String anId) {
         return Optional.ofNullable(this.db.get(anId));
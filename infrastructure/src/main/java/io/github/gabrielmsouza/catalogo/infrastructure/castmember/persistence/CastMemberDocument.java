@@ -2,19 +2,26 @@ package io.github.gabrielmsouza.catalogo.infrastructure.castmember.persistence;
 
 import io.github.gabrielmsouza.catalogo.domain.castmember.CastMember;
 import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberType;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.VersionedDocument;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.*;
 
 import java.time.Instant;
 
-@Document(indexName = "cast_members")
-public class CastMemberDocument {
+@Setting(settingPath = "/elasticsearch/index-settings.json")
+@Document(indexName = "cast_members", createIndex = false, versionType = Document.VersionType.EXTERNAL_GTE, storeVersionInSource = false)
+public class CastMemberDocument implements VersionedDocument {
     @Id
     private String id;
 
     @MultiField(
             mainField = @Field(type = FieldType.Text, name = "name"),
-            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+            otherFields = {
+                @InnerField(suffix = "keyword", type = FieldType.Keyword),
+                @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "substring", searchAnalyzer = "substring"),
+                @InnerField(suffix = "autocomplete", type = FieldType.Text, analyzer = "autocomplete", searchAnalyzer = "autocomplete_search")
+            }
     )
     private String name;
 
@@ -27,6 +34,9 @@ public class CastMemberDocument {
     @Field(type = FieldType.Date, name = "updated_at")
     private Instant updatedAt;
 
+    @Version
+    private Long version;
+
     public CastMemberDocument(
             final String id,
             final String name,
@@ -61,6 +71,7 @@ public class CastMemberDocument {
         );
     }
 
+    @Override
     public String id() {
         return id;
     }
@@ -100,4 +111,13 @@ public class CastMemberDocument {
     public void setUpdatedAt(Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long version() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
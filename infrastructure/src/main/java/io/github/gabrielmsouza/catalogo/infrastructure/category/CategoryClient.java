@@ -2,8 +2,18 @@ package io.github.gabrielmsouza.catalogo.infrastructure.category;
 
 import io.github.gabrielmsouza.catalogo.domain.category.Category;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface CategoryClient {
     Optional<Category> categoryOfId(String anId);
+
+    /**
+     * Same call as the blocking variant on a virtual thread, it does not go through the admin cache.
+     */
+    CompletableFuture<Optional<Category>> categoryOfIdAsync(String anId);
+
+    Map<String, Category> categoriesOfIds(Set<String> ids);
 }
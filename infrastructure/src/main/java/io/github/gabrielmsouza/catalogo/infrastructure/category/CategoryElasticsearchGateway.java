@@ -6,13 +6,15 @@ import io.github.gabrielmsouza.catalogo.domain.category.CategorySearchQuery;
 import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.persistence.CategoryDocument;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.persistence.CategoryRepository;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.SearchIndexWriter;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SearchCursor;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.TotalHitsTracking;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchOperations;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 
@@ -22,34 +24,56 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.StreamSupport;
 
-import static org.springframework.data.elasticsearch.core.query.Criteria.where;
+import static io.github.gabrielmsouza.catalogo.infrastructure.utils.SubstringQuery.containing;
 
 @Component
 @Profile("!dev")
 public class CategoryElasticsearchGateway implements CategoryGateway {
+    private static final String INDEX = "categories";
     private static final String NAME_PROP = "name";
+    private static final String DESCRIPTION_PROP = "description";
     private static final String KEYWORD = ".keyword";
 
     private final CategoryRepository repository;
     private final SearchOperations searchOperations;
+    private final SearchIndexWriter writer;
 
     public CategoryElasticsearchGateway(
             final CategoryRepository repository,
-            final SearchOperations searchOperations
+            final SearchOperations searchOperations,
+            final SearchIndexWriter writer
     ) {
         this.repository = Objects.requireNonNull(repository);
         this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.writer = Objects.requireNonNull(writer);
     }
 
     @Override
     public Category save(final Category aCategory) {
-        this.repository.save(CategoryDocument.from(aCategory));
+        this.writer.save(INDEX, aCategory.id(), CategoryDocument.from(aCategory));
         return aCategory;
     }
 
+    @Override
+    public List<Category> saveAll(final List<Category> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return List.of();
+        }
+        this.writer.saveAll(INDEX, categories.stream().map(CategoryDocument::from).toList());
+        return categories;
+    }
+
     @Override
     public void deleteById(final String anId) {
-        this.repository.deleteById(anId);
+        this.writer.deleteById(INDEX, anId);
+    }
+
+    @Override
+    public void deleteAllById(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        this.writer.deleteAllById(INDEX, ids);
     }
 
     @Override
@@ -63,27 +87,25 @@ public class CategoryElasticsearchGateway implements CategoryGateway {
         final var currentPage = aQuery.page();
         final var perPage = aQuery.perPage();
 
+        final var cursor = SearchCursor.decode(aQuery.cursor());
+
         final var sort = Sort.by(Sort.Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
-        final var page = PageRequest.of(currentPage, perPage, sort);
+        final var page = cursor.pageable(currentPage, perPage, sort);
 
         final var query = buildQuery(terms, page);
+        cursor.applyTo(query);
+        TotalHitsTracking.applyTo(query, aQuery.totalHits());
 
         final var res = this.searchOperations.search(query, CategoryDocument.class);
-        final var total = res.getTotalHits();
-        final var categories = res.stream()
-                .map(SearchHit::getContent)
-                .map(CategoryDocument::toCategory)
-                .toList();
-
-        return new Pagination<>(currentPage, perPage, total, categories);
+        return cursor.paginate(res, currentPage, perPage, CategoryDocument::toCategory);
     }
 
-    private Query buildQuery(final String terms, final  PageRequest page) {
+    private Query buildQuery(final String terms, final Pageable page) {
         if (StringUtils.isNotEmpty(terms)) {
-            final var criteria = where("name").contains(terms)
-                    .or(where("description").contains(terms));
-
-            return new CriteriaQuery(criteria, page);
+            return NativeQuery.builder()
+                    .withQuery(containing(terms, NAME_PROP, DESCRIPTION_PROP))
+                    .withPageable(page)
+                    .build();
         }
         return Query.findAll().setPageable(page);
     }
@@ -28,11 +28,28 @@ public class CategoryInMemoryGateway implements CategoryGateway {
         return aCategory;
     }
 
+    @Override
+    public List<Category> saveAll(final List<Category> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return List.of();
+        }
+        categories.forEach(it -> this.db.put(it.id(), it));
+        return categories;
+    }
+
     @Override
     public void deleteById(final String anId) {
         this.db.remove(anId);
     }
 
+    @Override
+    public void deleteAllById(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        ids.forEach(this.db::remove);
+    }
+
     @Override
     public Optional<Category> findById(final String anId) {
         return Optional.ofNullable(this.db.get(anId));
@@ -4,17 +4,33 @@ import io.github.gabrielmsouza.catalogo.domain.category.Category;
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.GetClientCredentials;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.models.CategoryDTO;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.Categories;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.VirtualThreads;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.HedgingProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.RestClientProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.AdaptiveLimiter;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.Hedger;
 import io.github.gabrielmsouza.catalogo.infrastructure.utils.HttpClient;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.ListResponse;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.NegativeCache;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SingleFlight;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
@@ -24,23 +40,86 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 public class CategoryRestClient implements CategoryClient, HttpClient {
     public static final String NAMESPACE = "categories";
 
+    private static final ParameterizedTypeReference<ListResponse<CategoryDTO>> LIST_TYPE = new ParameterizedTypeReference<>() {
+    };
+
     private final RestClient restClient;
+    private final RestClientProperties properties;
     private final GetClientCredentials clientCredentials;
+    private final SingleFlight singleFlight;
+    private final NegativeCache negativeCache;
+    private final AdaptiveLimiter limiter;
+    private final Hedger hedger;
+    private final ExecutorService executor;
 
     public CategoryRestClient(
             final @Categories RestClient categoryHttpClient,
-            final GetClientCredentials clientCredentials
+            final @Categories RestClientProperties properties,
+            final GetClientCredentials clientCredentials,
+            final HedgingProperties hedging,
+            @VirtualThreads final ExecutorService executor,
+            final ObjectProvider<MeterRegistry> meterRegistry
     ) {
         this.restClient = Objects.requireNonNull(categoryHttpClient);
+        this.properties = Objects.requireNonNull(properties);
         this.clientCredentials = Objects.requireNonNull(clientCredentials);
+        this.executor = Objects.requireNonNull(executor);
+        final var registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.singleFlight = new SingleFlight(NAMESPACE, registry);
+        this.negativeCache = new NegativeCache(NAMESPACE, properties.negativeCacheTtl(), properties.negativeCacheMaxEntries(), registry);
+        this.limiter = new AdaptiveLimiter(
+                NAMESPACE,
+                properties.limitInitial(),
+                properties.limitMin(),
+                properties.limitMax(),
+                properties.limitMaxWait(),
+                properties.limitSlowCall(),
+                registry
+        );
+        this.hedger = new Hedger(NAMESPACE, hedging.settingsOf(NAMESPACE), executor, registry);
     }
 
     @Override
-    @Cacheable(key = "#categoryId")
+    @Cacheable(key = "#categoryId", sync = true)
     @Retry(name = NAMESPACE)
     @Bulkhead(name = NAMESPACE)
     @CircuitBreaker(name = NAMESPACE)
     public Optional<Category> categoryOfId(final String categoryId) {
+        return fetch(categoryId);
+    }
+
+    @Override
+    @Retry(name = NAMESPACE)
+    @Bulkhead(name = NAMESPACE)
+    @CircuitBreaker(name = NAMESPACE)
+    public CompletableFuture<Optional<Category>> categoryOfIdAsync(final String categoryId) {
+        return doAsync(() -> fetch(categoryId));
+    }
+
+    @Override
+    @Retry(name = NAMESPACE)
+    @Bulkhead(name = NAMESPACE)
+    @CircuitBreaker(name = NAMESPACE)
+    public Map<String, Category> categoriesOfIds(final Set<String> categoryIds) {
+        final var token = this.clientCredentials.retrieve();
+        return doGetAll(categoryIds, this.properties.batchSize(), Category::id, chunk -> {
+            final var ids = String.join(",", chunk);
+            return this.restClient
+                    .get()
+                    .uri(uri -> uri.queryParam("ids", ids).queryParam("perPage", chunk.size()).build())
+                    .header(AUTHORIZATION, "Bearer " + token)
+                    .retrieve()
+                    .onStatus(isNotFound, notFoundHandler(ids))
+                    .onStatus(is5xx, a5xxHandler(ids))
+                    .body(LIST_TYPE)
+                    .items()
+                    .stream()
+                    .map(CategoryDTO::toCategory)
+                    .toList();
+        });
+    }
+
+    private Optional<Category> fetch(final String categoryId) {
         final var token = this.clientCredentials.retrieve();
         final Supplier<CategoryDTO> request = () ->
                 this.restClient
@@ -59,4 +138,29 @@ public class CategoryRestClient implements CategoryClient, HttpClient {
     public String namespace() {
         return NAMESPACE;
     }
+
+    @Override
+    public SingleFlight singleFlight() {
+        return this.singleFlight;
+    }
+
+    @Override
+    public NegativeCache negativeCache() {
+        return this.negativeCache;
+    }
+
+    @Override
+    public AdaptiveLimiter limiter() {
+        return this.limiter;
+    }
+
+    @Override
+    public Hedger hedger() {
+        return this.hedger;
+    }
+
+    @Override
+    public ExecutorService executor() {
+        return this.executor;
+    }
 }
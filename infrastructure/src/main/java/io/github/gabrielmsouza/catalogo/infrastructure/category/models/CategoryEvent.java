@@ -1,6 +1,41 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.category.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.gabrielmsouza.catalogo.domain.category.Category;
+import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
 
-public record CategoryEvent(@JsonProperty("id") String id) {
+import java.util.Objects;
+
+public record CategoryEvent(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("active") Boolean active,
+        @JsonProperty("created_at") Long createdAt,
+        @JsonProperty("updated_at") Long updatedAt,
+        @JsonProperty("deleted_at") Long deletedAt
+) {
+    public CategoryEvent(final String id) {
+        this(id, null, null, null, null, null, null);
+    }
+
+    /**
+     * Debezium row images carry every column of the categories table; a payload holding only the id (as produced
+     * before the connector captured full rows) has to be resolved through the admin API.
+     */
+    public boolean isFullRow() {
+        return Objects.nonNull(name) && Objects.nonNull(active) && Objects.nonNull(createdAt) && Objects.nonNull(updatedAt);
+    }
+
+    public Category toCategory() {
+        return Category.with(
+                id,
+                name,
+                description,
+                active,
+                InstantUtils.fromTimestamp(createdAt),
+                InstantUtils.fromTimestamp(updatedAt),
+                InstantUtils.fromTimestamp(deletedAt)
+        );
+    }
 }
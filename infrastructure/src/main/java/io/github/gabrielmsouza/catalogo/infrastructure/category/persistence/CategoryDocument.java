@@ -1,23 +1,36 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.category.persistence;
 
 import io.github.gabrielmsouza.catalogo.domain.category.Category;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.VersionedDocument;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.*;
 
 import java.time.Instant;
 
-@Document(indexName = "categories")
-public class CategoryDocument {
+@Setting(settingPath = "/elasticsearch/index-settings.json")
+@Document(indexName = "categories", createIndex = false, versionType = Document.VersionType.EXTERNAL_GTE, storeVersionInSource = false)
+public class CategoryDocument implements VersionedDocument {
     @Id
     private String id;
 
     @MultiField(
         mainField = @Field(type = FieldType.Text, name = "name"),
-        otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+        otherFields = {
+            @InnerField(suffix = "keyword", type = FieldType.Keyword),
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "substring", searchAnalyzer = "substring"),
+            @InnerField(suffix = "autocomplete", type = FieldType.Text, analyzer = "autocomplete", searchAnalyzer = "autocomplete_search")
+        }
     )
     private String name;
 
-    @Field(type = FieldType.Text, name = "description")
+    @MultiField(
+        mainField = @Field(type = FieldType.Text, name = "description"),
+        otherFields = {
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "substring", searchAnalyzer = "substring"),
+            @InnerField(suffix = "autocomplete", type = FieldType.Text, analyzer = "autocomplete", searchAnalyzer = "autocomplete_search")
+        }
+    )
     private String description;
 
     @Field(type = FieldType.Boolean, name = "active")
@@ -29,6 +42,9 @@ public class CategoryDocument {
     @Field(type = FieldType.Date, name = "updated_at")
     private Instant updatedAt;
 
+    @Version
+    private Long version;
+
     @Field(type = FieldType.Date, name = "deleted_at")
     private Instant deletedAt;
 
@@ -78,6 +94,7 @@ public class CategoryDocument {
         );
     }
 
+    @Override
     public String id() {
         return id;
     }
@@ -133,4 +150,13 @@ public class CategoryDocument {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Long version() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
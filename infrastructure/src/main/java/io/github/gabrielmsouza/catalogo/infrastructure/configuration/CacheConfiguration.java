@@ -1,25 +1,94 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.configuration;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.cache.Cache2kBuilderCustomizer;
+import io.github.gabrielmsouza.catalogo.infrastructure.category.CategoryClient;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.CacheProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.genre.GenreClient;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.RefreshAheadCache;
+import io.github.gabrielmsouza.catalogo.infrastructure.video.VideoClient;
+import org.cache2k.extra.spring.SpringCache2kCacheManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 @EnableCaching
 @Configuration(proxyBeanMethods = false)
 public class CacheConfiguration {
     @Bean
     @ConditionalOnProperty(name = "cache.type", havingValue = "cache2k")
-    Cache2kBuilderCustomizer cache2kBuilderCustomizer(
-            @Value("${cache.max-entries}") final int maxEntries,
-            @Value("${cache.ttl}") final int ttl
+    CacheManager cacheManager(final CacheProperties props) {
+        final var cache2k = new SpringCache2kCacheManager();
+        final var refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+        final var caches = new ArrayList<Cache>();
+        for (final var name : props.names()) {
+            final var settings = props.settingsOf(name);
+            cache2k.addCache(name, builder -> builder
+                    .entryCapacity(settings.maxEntries())
+                    .expireAfterWrite(settings.ttl().plus(settings.staleWhileRevalidate())));
+            caches.add(new RefreshAheadCache(
+                    cache2k.getCache(name),
+                    settings.ttl(),
+                    settings.refreshAhead(),
+                    settings.staleWhileRevalidate(),
+                    refreshExecutor,
+                    Clock.systemUTC()
+            ));
+        }
+
+        final var manager = new RefreshAheadCacheManager(cache2k, refreshExecutor);
+        manager.setCaches(caches);
+        return manager;
+    }
+
+    /**
+     * Background reloads call the admin API through the async client methods, which skip the cache.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.type", havingValue = "cache2k")
+    SmartInitializingSingleton refreshAheadLoaders(
+            final CacheManager cacheManager,
+            final CategoryClient categoryClient,
+            final GenreClient genreClient,
+            final VideoClient videoClient
     ) {
-        return builder -> builder
-                .entryCapacity(maxEntries)
-                .expireAfterWrite(Duration.ofSeconds(ttl));
+        return () -> {
+            loader(cacheManager, "admin-categories", id -> categoryClient.categoryOfIdAsync((String) id).join().orElse(null));
+            loader(cacheManager, "admin-genres", id -> genreClient.genreOfIdAsync((String) id).join().orElse(null));
+            loader(cacheManager, "admin-videos", id -> videoClient.videoOfIdAsync((String) id).join().orElse(null));
+        };
+    }
+
+    private static void loader(final CacheManager cacheManager, final String name, final Function<Object, ?> loader) {
+        if (cacheManager.getCache(name) instanceof RefreshAheadCache cache) {
+            cache.loader(loader);
+        }
+    }
+
+    static class RefreshAheadCacheManager extends SimpleCacheManager implements DisposableBean {
+        private final SpringCache2kCacheManager cache2k;
+        private final ExecutorService refreshExecutor;
+
+        RefreshAheadCacheManager(final SpringCache2kCacheManager cache2k, final ExecutorService refreshExecutor) {
+            this.cache2k = cache2k;
+            this.refreshExecutor = refreshExecutor;
+        }
+
+        @Override
+        public void destroy() {
+            this.refreshExecutor.shutdownNow();
+            this.cache2k.destroy();
+        }
     }
 }
@@ -0,0 +1,54 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.GraphQLProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.graphql.DocumentCache;
+import io.github.gabrielmsouza.catalogo.infrastructure.graphql.HashedDocumentProvider;
+import io.github.gabrielmsouza.catalogo.infrastructure.graphql.PersistedQueryRequestFilter;
+import io.github.gabrielmsouza.catalogo.infrastructure.graphql.QueryCostInstrumentation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class GraphQLConfiguration {
+    @Bean
+    GraphQlSourceBuilderCustomizer documentCacheCustomizer(
+            final GraphQLProperties props,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final var cache = new DocumentCache(props.documentCacheSize(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        final var provider = new HashedDocumentProvider(cache, props.persistedQueries());
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(provider));
+    }
+
+    @Bean
+    QueryCostInstrumentation queryCostInstrumentation(
+            final GraphQLProperties props,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new QueryCostInstrumentation(
+                props.maxCost(),
+                props.maxDepth(),
+                props.fieldWeights(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "graphql.persisted-queries", havingValue = "true", matchIfMissing = true)
+    FilterRegistrationBean<PersistedQueryRequestFilter> persistedQueryRequestFilter(
+            final ObjectMapper mapper,
+            @Value("${spring.graphql.path:/graphql}") final String path
+    ) {
+        final var registration = new FilterRegistrationBean<>(new PersistedQueryRequestFilter(mapper));
+        registration.addUrlPatterns(path);
+        return registration;
+    }
+}
@@ -2,7 +2,9 @@ package io.github.gabrielmsouza.catalogo.infrastructure.configuration;
 
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.KafkaProperties;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -11,7 +13,12 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +26,8 @@ import java.util.Objects;
 
 @Configuration(proxyBeanMethods = false)
 public class KafkaConfiguration {
+    private static final String DLT_SUFFIX = "-dlt";
+
     private final KafkaProperties props;
 
     public KafkaConfiguration(final KafkaProperties props) {
@@ -33,10 +42,44 @@ public class KafkaConfiguration {
         return factory;
     }
 
+    @Bean
+    KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaBatchListenerFactory(
+            final ObjectProvider<KafkaOperations<?, ?>> kafkaOperations
+    ) {
+        final var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
+        factory.setConsumerFactory(batchConsumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setPollTimeout(props.poolTimeout());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.getContainerProperties().setIdleBetweenPolls(props.batchWindow());
+        factory.setCommonErrorHandler(batchErrorHandler(kafkaOperations));
+        return factory;
+    }
+
+    private DefaultErrorHandler batchErrorHandler(final ObjectProvider<KafkaOperations<?, ?>> kafkaOperations) {
+        final var backOff = new FixedBackOff(props.batchBackoff(), Math.max(props.batchMaxAttempts() - 1, 0));
+        final var operations = kafkaOperations.getIfAvailable();
+        if (operations == null) {
+            return new DefaultErrorHandler(backOff);
+        }
+        final var recoverer = new DeadLetterPublishingRecoverer(
+                operations,
+                (record, ex) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1)
+        );
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
     private ConsumerFactory<String, Object> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerConfigs());
     }
 
+    private ConsumerFactory<String, Object> batchConsumerFactory() {
+        final var configs = consumerConfigs();
+        configs.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, this.props.maxPollRecords());
+        configs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return new DefaultKafkaConsumerFactory<>(configs);
+    }
+
     private Map<String, Object> consumerConfigs() {
         final var props = new HashMap<String, Object>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, this.props.bootstrapServers());
@@ -5,6 +5,7 @@ import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontation
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.Genres;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.Keycloak;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.Videos;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.VirtualThreads;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.RestClientProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -15,7 +16,10 @@ import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration(proxyBeanMethods = false)
 public class RestClientConfiguration {
@@ -47,33 +51,62 @@ public class RestClientConfiguration {
         return new RestClientProperties();
     }
 
+    /**
+     * Runs the admin API calls of the async client methods and the JDK client's own response handling, each
+     * blocked call parks a virtual thread instead of holding a listener or pool thread.
+     */
+    @Bean(destroyMethod = "close")
+    @VirtualThreads
+    ExecutorService restClientExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
     @Bean
     @Categories
-    RestClient categoryHttpClient(@Categories final RestClientProperties properties, final ObjectMapper mapper) {
-        return restClient(properties, mapper);
+    RestClient categoryHttpClient(
+            @Categories final RestClientProperties properties,
+            final ObjectMapper mapper,
+            @VirtualThreads final ExecutorService executor
+    ) {
+        return restClient(properties, mapper, executor);
     }
 
     @Bean
     @Genres
-    RestClient genresHttpClient(@Genres final RestClientProperties properties, final ObjectMapper mapper) {
-        return restClient(properties, mapper);
+    RestClient genresHttpClient(
+            @Genres final RestClientProperties properties,
+            final ObjectMapper mapper,
+            @VirtualThreads final ExecutorService executor
+    ) {
+        return restClient(properties, mapper, executor);
     }
 
     @Bean
     @Videos
-    RestClient videosHttpClient(@Videos final RestClientProperties properties, final ObjectMapper mapper) {
-        return restClient(properties, mapper);
+    RestClient videosHttpClient(
+            @Videos final RestClientProperties properties,
+            final ObjectMapper mapper,
+            @VirtualThreads final ExecutorService executor
+    ) {
+        return restClient(properties, mapper, executor);
     }
 
-
     @Bean
     @Keycloak
-    RestClient keycloakHttpClient(@Keycloak final RestClientProperties properties, final ObjectMapper mapper) {
-        return restClient(properties, mapper);
+    RestClient keycloakHttpClient(
+            @Keycloak final RestClientProperties properties,
+            final ObjectMapper mapper,
+            @VirtualThreads final ExecutorService executor
+    ) {
+        return restClient(properties, mapper, executor);
     }
 
-    private RestClient restClient(final RestClientProperties properties, final ObjectMapper mapper) {
-        final var factory = new JdkClientHttpRequestFactory();
+    private RestClient restClient(final RestClientProperties properties, final ObjectMapper mapper, final ExecutorService executor) {
+        final var httpClient = HttpClient.newBuilder()
+                .version(properties.httpVersion())
+                .executor(executor)
+                .build();
+        final var factory = new JdkClientHttpRequestFactory(httpClient, executor);
         factory.setReadTimeout(properties.readTimeout());
         return RestClient.builder()
                 .baseUrl(properties.baseUrl())
@@ -0,0 +1,76 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration;
+
+import io.github.gabrielmsouza.catalogo.infrastructure.castmember.persistence.CastMemberDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.category.persistence.CategoryDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.genre.persistence.GenreDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.Reindexer;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SubstringQuery;
+import io.github.gabrielmsouza.catalogo.infrastructure.video.persistence.VideoDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Brings indices created before the n-gram subfields existed up to the current mapping by reindexing them: the next
+ * version is created with the analysis settings and the current mapping, backfilled and swapped in behind the aliases,
+ * so the live index is never closed. Creating that version succeeds on a single instance only, the others find the
+ * reindex already running and leave it alone. Indices that already have the subfields are left untouched.
+ */
+@Component
+@Profile("!dev")
+@ConditionalOnProperty(name = "elasticsearch.substring-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class SubstringFieldsMigration implements ApplicationRunner {
+    private static final Logger LOG = LoggerFactory.getLogger(SubstringFieldsMigration.class);
+
+    private static final Map<Class<?>, String> PROBES = new LinkedHashMap<>();
+
+    static {
+        PROBES.put(CategoryDocument.class, "name");
+        PROBES.put(CastMemberDocument.class, "name");
+        PROBES.put(GenreDocument.class, "name");
+        PROBES.put(VideoDocument.class, "title");
+    }
+
+    private final ElasticsearchOperations operations;
+    private final Reindexer reindexer;
+
+    public SubstringFieldsMigration(final ElasticsearchOperations operations, final Reindexer reindexer) {
+        this.operations = Objects.requireNonNull(operations);
+        this.reindexer = Objects.requireNonNull(reindexer);
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        PROBES.forEach((type, probe) -> {
+            final var indexOps = this.operations.indexOps(type);
+            final var index = indexOps.getIndexCoordinates().getIndexName();
+            try {
+                if (indexOps.exists() && !hasSubstringFields(indexOps, probe)) {
+                    LOG.info("Reindexing {} to add the substring fields", index);
+                    this.reindexer.start(index);
+                }
+            } catch (final Exception e) {
+                LOG.warn("Substring fields migration of index {} not started here, another instance may be running it", index, e);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    static boolean hasSubstringFields(final IndexOperations indexOps, final String probe) {
+        final var properties = (Map<String, Object>) indexOps.getMapping().get("properties");
+        if (properties == null || !(properties.get(probe) instanceof Map<?, ?> field)) {
+            return false;
+        }
+        return field.get("fields") instanceof Map<?, ?> subfields && subfields.containsKey(SubstringQuery.NGRAM);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration;
+
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.VirtualThreads;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Active with {@code spring.threads.virtual.enabled}. Undertow keeps its IO threads for accepting and reading the
+ * requests, but every servlet invocation runs on its own virtual thread instead of one of the {@code worker} threads,
+ * so a request waiting on Elasticsearch no longer holds a slot that the next one queues for.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+    @Bean
+    UndertowDeploymentInfoCustomizer virtualThreadsDeploymentInfoCustomizer(@VirtualThreads final ExecutorService executor) {
+        return deploymentInfo -> deploymentInfo.setExecutor(executor).setAsyncExecutor(executor);
+    }
+
+    /**
+     * Boot backs off from this executor because of the {@link VirtualThreads} one, and Spring GraphQL only hands the
+     * blocking controller methods (all of ours) to an executor registered under this name.
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    SimpleAsyncTaskExecutor applicationTaskExecutor(final SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.virtualThreads(true)
+                .threadNamePrefix("graphql-")
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Configuration(proxyBeanMethods = false)
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+    private List<String> names = List.of();
+    private int maxEntries = 200;
+    private long ttl = 60;
+    private long refreshAhead;
+    private long staleWhileRevalidate;
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public List<String> names() {
+        return names;
+    }
+
+    public void setNames(List<String> names) {
+        this.names = names;
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long ttl() {
+        return ttl;
+    }
+
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    public long refreshAhead() {
+        return refreshAhead;
+    }
+
+    public void setRefreshAhead(long refreshAhead) {
+        this.refreshAhead = refreshAhead;
+    }
+
+    public long staleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    public void setStaleWhileRevalidate(long staleWhileRevalidate) {
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    public Map<String, Spec> caches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Spec> caches) {
+        this.caches = caches;
+    }
+
+    public Settings settingsOf(final String name) {
+        final var spec = this.caches.getOrDefault(name, new Spec());
+        return new Settings(
+                Objects.requireNonNullElse(spec.maxEntries, this.maxEntries),
+                Duration.ofSeconds(Objects.requireNonNullElse(spec.ttl, this.ttl)),
+                Duration.ofSeconds(Objects.requireNonNullElse(spec.refreshAhead, this.refreshAhead)),
+                Duration.ofSeconds(Objects.requireNonNullElse(spec.staleWhileRevalidate, this.staleWhileRevalidate))
+        );
+    }
+
+    public record Settings(int maxEntries, Duration ttl, Duration refreshAhead, Duration staleWhileRevalidate) {
+    }
+
+    public static class Spec {
+        private Integer maxEntries;
+        private Long ttl;
+        private Long refreshAhead;
+        private Long staleWhileRevalidate;
+
+        public void setMaxEntries(Integer maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public void setTtl(Long ttl) {
+            this.ttl = ttl;
+        }
+
+        public void setRefreshAhead(Long refreshAhead) {
+            this.refreshAhead = refreshAhead;
+        }
+
+        public void setStaleWhileRevalidate(Long staleWhileRevalidate) {
+            this.staleWhileRevalidate = staleWhileRevalidate;
+        }
+    }
+}
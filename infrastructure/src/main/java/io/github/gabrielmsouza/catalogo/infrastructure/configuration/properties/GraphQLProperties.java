@@ -0,0 +1,57 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration(proxyBeanMethods = false)
+@ConfigurationProperties(prefix = "graphql")
+public class GraphQLProperties {
+    private boolean persistedQueries = true;
+    private int documentCacheSize = 1_000;
+    private long maxCost = 10_000;
+    private int maxDepth = 8;
+    private Map<String, Long> fieldWeights = new HashMap<>();
+
+    public boolean persistedQueries() {
+        return persistedQueries;
+    }
+
+    public void setPersistedQueries(boolean persistedQueries) {
+        this.persistedQueries = persistedQueries;
+    }
+
+    public int documentCacheSize() {
+        return documentCacheSize;
+    }
+
+    public void setDocumentCacheSize(int documentCacheSize) {
+        this.documentCacheSize = documentCacheSize;
+    }
+
+    public long maxCost() {
+        return maxCost;
+    }
+
+    public void setMaxCost(long maxCost) {
+        this.maxCost = maxCost;
+    }
+
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    public Map<String, Long> fieldWeights() {
+        return fieldWeights;
+    }
+
+    public void setFieldWeights(Map<String, Long> fieldWeights) {
+        this.fieldWeights = fieldWeights;
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Configuration(proxyBeanMethods = false)
+@ConfigurationProperties(prefix = "hedging")
+public class HedgingProperties {
+    private boolean enabled;
+    private double percentile = 95;
+    private long minDelay = 50;
+    private double budget = 0.1;
+    private Map<String, Spec> instances = new HashMap<>();
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double percentile() {
+        return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+        this.percentile = percentile;
+    }
+
+    public long minDelay() {
+        return minDelay;
+    }
+
+    public void setMinDelay(long minDelay) {
+        this.minDelay = minDelay;
+    }
+
+    public double budget() {
+        return budget;
+    }
+
+    public void setBudget(double budget) {
+        this.budget = budget;
+    }
+
+    public Map<String, Spec> instances() {
+        return instances;
+    }
+
+    public void setInstances(Map<String, Spec> instances) {
+        this.instances = instances;
+    }
+
+    public Settings settingsOf(final String namespace) {
+        final var spec = this.instances.getOrDefault(namespace, new Spec());
+        return new Settings(
+                Objects.requireNonNullElse(spec.enabled, this.enabled),
+                Objects.requireNonNullElse(spec.percentile, this.percentile),
+                Duration.ofMillis(Objects.requireNonNullElse(spec.minDelay, this.minDelay)),
+                Objects.requireNonNullElse(spec.budget, this.budget)
+        );
+    }
+
+    public record Settings(boolean enabled, double percentile, Duration minDelay, double budget) {
+    }
+
+    public static class Spec {
+        private Boolean enabled;
+        private Double percentile;
+        private Long minDelay;
+        private Double budget;
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setPercentile(Double percentile) {
+            this.percentile = percentile;
+        }
+
+        public void setMinDelay(Long minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public void setBudget(Double budget) {
+            this.budget = budget;
+        }
+    }
+}
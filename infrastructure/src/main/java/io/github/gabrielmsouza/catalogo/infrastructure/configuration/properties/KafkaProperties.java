@@ -9,6 +9,13 @@ public class KafkaProperties {
     private String bootstrapServers;
     private int poolTimeout;
     private boolean autoCreateTopics;
+    private int maxPollRecords = 500;
+    private int batchMaxAttempts = 4;
+    private long batchBackoff = 1_000;
+    private long batchWindow;
+    private int maxInFlight = 16;
+    private boolean invalidationsEnabled;
+    private String invalidationsTopic;
 
     public String bootstrapServers() {
         return bootstrapServers;
@@ -33,4 +40,60 @@ public class KafkaProperties {
     public void setAutoCreateTopics(boolean autoCreateTopics) {
         this.autoCreateTopics = autoCreateTopics;
     }
+
+    public int maxPollRecords() {
+        return maxPollRecords;
+    }
+
+    public void setMaxPollRecords(int maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    public int batchMaxAttempts() {
+        return batchMaxAttempts;
+    }
+
+    public void setBatchMaxAttempts(int batchMaxAttempts) {
+        this.batchMaxAttempts = batchMaxAttempts;
+    }
+
+    public long batchBackoff() {
+        return batchBackoff;
+    }
+
+    public void setBatchBackoff(long batchBackoff) {
+        this.batchBackoff = batchBackoff;
+    }
+
+    public long batchWindow() {
+        return batchWindow;
+    }
+
+    public void setBatchWindow(long batchWindow) {
+        this.batchWindow = batchWindow;
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public boolean invalidationsEnabled() {
+        return invalidationsEnabled;
+    }
+
+    public void setInvalidationsEnabled(boolean invalidationsEnabled) {
+        this.invalidationsEnabled = invalidationsEnabled;
+    }
+
+    public String invalidationsTopic() {
+        return invalidationsTopic;
+    }
+
+    public void setInvalidationsTopic(String invalidationsTopic) {
+        this.invalidationsTopic = invalidationsTopic;
+    }
 }
@@ -9,6 +9,7 @@ public class KeycloakProperties {
     private String clientId;
     private String clientSecret;
     private String tokenUri;
+    private double refreshRatio = 0.75;
 
     public String clientId() {
         return clientId;
@@ -33,4 +34,12 @@ public class KeycloakProperties {
     public void setTokenUri(String tokenUri) {
         this.tokenUri = tokenUri;
     }
+
+    public double refreshRatio() {
+        return refreshRatio;
+    }
+
+    public void setRefreshRatio(double refreshRatio) {
+        this.refreshRatio = refreshRatio;
+    }
 }
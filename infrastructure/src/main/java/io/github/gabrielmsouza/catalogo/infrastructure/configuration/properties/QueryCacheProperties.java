@@ -0,0 +1,80 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Configuration(proxyBeanMethods = false)
+@ConfigurationProperties(prefix = "query-cache")
+public class QueryCacheProperties {
+    private boolean enabled;
+    private int maxEntries = 500;
+    private long ttl = 10;
+    private Map<String, Spec> instances = new HashMap<>();
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long ttl() {
+        return ttl;
+    }
+
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    public Map<String, Spec> instances() {
+        return instances;
+    }
+
+    public void setInstances(Map<String, Spec> instances) {
+        this.instances = instances;
+    }
+
+    public Settings settingsOf(final String index) {
+        final var spec = this.instances.getOrDefault(index, new Spec());
+        return new Settings(
+                Objects.requireNonNullElse(spec.enabled, this.enabled),
+                Objects.requireNonNullElse(spec.maxEntries, this.maxEntries),
+                Duration.ofSeconds(Objects.requireNonNullElse(spec.ttl, this.ttl))
+        );
+    }
+
+    public record Settings(boolean enabled, int maxEntries, Duration ttl) {
+    }
+
+    public static class Spec {
+        private Boolean enabled;
+        private Integer maxEntries;
+        private Long ttl;
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setMaxEntries(Integer maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public void setTtl(Long ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConfigurationProperties(prefix = "elasticsearch.reindex")
+public class ReindexProperties {
+    private int retainedVersions = 1;
+
+    public int retainedVersions() {
+        return retainedVersions;
+    }
+
+    public void setRetainedVersions(int retainedVersions) {
+        this.retainedVersions = retainedVersions;
+    }
+}
@@ -1,8 +1,20 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 public class RestClientProperties {
     private String baseUrl;
     private int readTimeout;
+    private HttpClient.Version httpVersion = HttpClient.Version.HTTP_1_1;
+    private int batchSize = 50;
+    private long negativeCacheTtl = 10_000;
+    private int negativeCacheMaxEntries = 1_000;
+    private int limitInitial = 25;
+    private int limitMin = 1;
+    private int limitMax = 100;
+    private long limitMaxWait = 100;
+    private long limitSlowCall = 1_000;
 
     public String baseUrl() {
         return baseUrl;
@@ -19,4 +31,76 @@ public class RestClientProperties {
     public void setReadTimeout(int readTimeout) {
         this.readTimeout = readTimeout;
     }
+
+    public HttpClient.Version httpVersion() {
+        return httpVersion;
+    }
+
+    public void setHttpVersion(HttpClient.Version httpVersion) {
+        this.httpVersion = httpVersion;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration negativeCacheTtl() {
+        return Duration.ofMillis(negativeCacheTtl);
+    }
+
+    public void setNegativeCacheTtl(long negativeCacheTtl) {
+        this.negativeCacheTtl = negativeCacheTtl;
+    }
+
+    public int negativeCacheMaxEntries() {
+        return negativeCacheMaxEntries;
+    }
+
+    public void setNegativeCacheMaxEntries(int negativeCacheMaxEntries) {
+        this.negativeCacheMaxEntries = negativeCacheMaxEntries;
+    }
+
+    public int limitInitial() {
+        return limitInitial;
+    }
+
+    public void setLimitInitial(int limitInitial) {
+        this.limitInitial = limitInitial;
+    }
+
+    public int limitMin() {
+        return limitMin;
+    }
+
+    public void setLimitMin(int limitMin) {
+        this.limitMin = limitMin;
+    }
+
+    public int limitMax() {
+        return limitMax;
+    }
+
+    public void setLimitMax(int limitMax) {
+        this.limitMax = limitMax;
+    }
+
+    public Duration limitMaxWait() {
+        return Duration.ofMillis(limitMaxWait);
+    }
+
+    public void setLimitMaxWait(long limitMaxWait) {
+        this.limitMaxWait = limitMaxWait;
+    }
+
+    public Duration limitSlowCall() {
+        return Duration.ofMillis(limitSlowCall);
+    }
+
+    public void setLimitSlowCall(long limitSlowCall) {
+        this.limitSlowCall = limitSlowCall;
+    }
 }
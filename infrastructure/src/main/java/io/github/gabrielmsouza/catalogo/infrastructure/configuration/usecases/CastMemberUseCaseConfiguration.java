@@ -1,10 +1,16 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.configuration.usecases;
 
+import io.github.gabrielmsouza.catalogo.application.castmember.delete.DeleteAllCastMembersUseCase;
 import io.github.gabrielmsouza.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
 import io.github.gabrielmsouza.catalogo.application.castmember.get.GetAllCastMembersByIdUseCase;
 import io.github.gabrielmsouza.catalogo.application.castmember.list.ListCastMemberUseCase;
+import io.github.gabrielmsouza.catalogo.application.castmember.save.SaveAllCastMembersUseCase;
 import io.github.gabrielmsouza.catalogo.application.castmember.save.SaveCastMemberUseCase;
 import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberGateway;
+import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberSearchQuery;
+import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.QueryResultCaches;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.QueryResultCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,6 +18,8 @@ import java.util.Objects;
 
 @Configuration(proxyBeanMethods = false)
 public class CastMemberUseCaseConfiguration {
+    private static final String INDEX = "cast_members";
+
     private final CastMemberGateway gateway;
 
     public CastMemberUseCaseConfiguration(final CastMemberGateway gateway) {
@@ -29,12 +37,51 @@ public class CastMemberUseCaseConfiguration {
     }
 
     @Bean
-    ListCastMemberUseCase listCastMemberUseCase() {
-        return new ListCastMemberUseCase(gateway);
+    SaveAllCastMembersUseCase saveAllCastMembersUseCase() {
+        return new SaveAllCastMembersUseCase(gateway);
+    }
+
+    @Bean
+    DeleteAllCastMembersUseCase deleteAllCastMembersUseCase() {
+        return new DeleteAllCastMembersUseCase(gateway);
+    }
+
+    @Bean
+    ListCastMemberUseCase listCastMemberUseCase(final QueryResultCaches resultCaches) {
+        return new CachedListCastMemberUseCase(gateway, resultCaches.of(INDEX));
     }
 
     @Bean
     GetAllCastMembersByIdUseCase getAllCastMembersByIdUseCase() {
         return new GetAllCastMembersByIdUseCase(gateway);
     }
+
+    /**
+     * Same as the categories one, cast member searches are rarely filtered so most of them share a few entries.
+     */
+    static class CachedListCastMemberUseCase extends ListCastMemberUseCase {
+        private final QueryResultCache cache;
+
+        CachedListCastMemberUseCase(final CastMemberGateway gateway, final QueryResultCache cache) {
+            super(gateway);
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @Override
+        public Pagination<Output> execute(final CastMemberSearchQuery aQuery) {
+            return this.cache.get(normalize(aQuery), () -> super.execute(aQuery));
+        }
+
+        private static CastMemberSearchQuery normalize(final CastMemberSearchQuery query) {
+            return new CastMemberSearchQuery(
+                    query.page(),
+                    query.perPage(),
+                    query.terms(),
+                    query.sort(),
+                    query.direction(),
+                    query.cursor(),
+                    query.totalHits()
+            );
+        }
+    }
 }
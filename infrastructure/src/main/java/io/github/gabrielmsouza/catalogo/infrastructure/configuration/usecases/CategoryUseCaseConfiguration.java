@@ -1,10 +1,16 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.configuration.usecases;
 
+import io.github.gabrielmsouza.catalogo.application.category.delete.DeleteAllCategoriesUseCase;
 import io.github.gabrielmsouza.catalogo.application.category.delete.DeleteCategoryUseCase;
 import io.github.gabrielmsouza.catalogo.application.category.get.GetAllCategoriesByIdUseCase;
 import io.github.gabrielmsouza.catalogo.application.category.list.ListCategoryUseCase;
+import io.github.gabrielmsouza.catalogo.application.category.save.SaveAllCategoriesUseCase;
 import io.github.gabrielmsouza.catalogo.application.category.save.SaveCategoryUseCase;
 import io.github.gabrielmsouza.catalogo.domain.category.CategoryGateway;
+import io.github.gabrielmsouza.catalogo.domain.category.CategorySearchQuery;
+import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.QueryResultCaches;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.QueryResultCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,6 +18,8 @@ import java.util.Objects;
 
 @Configuration(proxyBeanMethods = false)
 public class CategoryUseCaseConfiguration {
+    private static final String INDEX = "categories";
+
     private final CategoryGateway gateway;
 
     public CategoryUseCaseConfiguration(final CategoryGateway gateway) {
@@ -29,12 +37,52 @@ public class CategoryUseCaseConfiguration {
     }
 
     @Bean
-    ListCategoryUseCase listCategoryUseCase() {
-        return new ListCategoryUseCase(gateway);
+    SaveAllCategoriesUseCase saveAllCategoriesUseCase() {
+        return new SaveAllCategoriesUseCase(gateway);
+    }
+
+    @Bean
+    DeleteAllCategoriesUseCase deleteAllCategoriesUseCase() {
+        return new DeleteAllCategoriesUseCase(gateway);
+    }
+
+    @Bean
+    ListCategoryUseCase listCategoryUseCase(final QueryResultCaches resultCaches) {
+        return new CachedListCategoryUseCase(gateway, resultCaches.of(INDEX));
     }
 
     @Bean
     GetAllCategoriesByIdUseCase getAllCategoriesByIdUseCase() {
         return new GetAllCategoriesByIdUseCase(gateway);
     }
+
+    /**
+     * Serves repeated searches from the result cache of the index, keyed by the search query rebuilt from its
+     * accessors so a missing argument and its default share an entry.
+     */
+    static class CachedListCategoryUseCase extends ListCategoryUseCase {
+        private final QueryResultCache cache;
+
+        CachedListCategoryUseCase(final CategoryGateway gateway, final QueryResultCache cache) {
+            super(gateway);
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @Override
+        public Pagination<Output> execute(final CategorySearchQuery aQuery) {
+            return this.cache.get(normalize(aQuery), () -> super.execute(aQuery));
+        }
+
+        private static CategorySearchQuery normalize(final CategorySearchQuery query) {
+            return new CategorySearchQuery(
+                    query.page(),
+                    query.perPage(),
+                    query.terms(),
+                    query.sort(),
+                    query.direction(),
+                    query.cursor(),
+                    query.totalHits()
+            );
+        }
+    }
 }
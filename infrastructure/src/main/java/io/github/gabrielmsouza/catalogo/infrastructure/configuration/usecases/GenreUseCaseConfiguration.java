@@ -1,10 +1,16 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.configuration.usecases;
 
+import io.github.gabrielmsouza.catalogo.application.genre.delete.DeleteAllGenresUseCase;
 import io.github.gabrielmsouza.catalogo.application.genre.delete.DeleteGenreUseCase;
 import io.github.gabrielmsouza.catalogo.application.genre.get.GetAllGenresByIdUseCase;
 import io.github.gabrielmsouza.catalogo.application.genre.list.ListGenreUseCase;
+import io.github.gabrielmsouza.catalogo.application.genre.save.SaveAllGenresUseCase;
 import io.github.gabrielmsouza.catalogo.application.genre.save.SaveGenreUseCase;
 import io.github.gabrielmsouza.catalogo.domain.genre.GenreGateway;
+import io.github.gabrielmsouza.catalogo.domain.genre.GenreSearchQuery;
+import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.QueryResultCaches;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.QueryResultCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,6 +18,8 @@ import java.util.Objects;
 
 @Configuration(proxyBeanMethods = false)
 public class GenreUseCaseConfiguration {
+    private static final String INDEX = "genres";
+
     private final GenreGateway gateway;
 
     public GenreUseCaseConfiguration(final GenreGateway gateway) {
@@ -29,12 +37,52 @@ public class GenreUseCaseConfiguration {
     }
 
     @Bean
-    ListGenreUseCase listGenreUseCase() {
-        return new ListGenreUseCase(gateway);
+    SaveAllGenresUseCase saveAllGenresUseCase() {
+        return new SaveAllGenresUseCase(gateway);
+    }
+
+    @Bean
+    DeleteAllGenresUseCase deleteAllGenresUseCase() {
+        return new DeleteAllGenresUseCase(gateway);
+    }
+
+    @Bean
+    ListGenreUseCase listGenreUseCase(final QueryResultCaches resultCaches) {
+        return new CachedListGenreUseCase(gateway, resultCaches.of(INDEX));
     }
 
     @Bean
     GetAllGenresByIdUseCase getAllGenresByIdUseCase() {
         return new GetAllGenresByIdUseCase(gateway);
     }
+
+    /**
+     * Genre pages repeat the same category filters, the query is rebuilt so a missing set and an empty one match.
+     */
+    static class CachedListGenreUseCase extends ListGenreUseCase {
+        private final QueryResultCache cache;
+
+        CachedListGenreUseCase(final GenreGateway gateway, final QueryResultCache cache) {
+            super(gateway);
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @Override
+        public Pagination<Output> execute(final Input input) {
+            return this.cache.get(normalize(input.toQuery()), () -> super.execute(input));
+        }
+
+        private static GenreSearchQuery normalize(final GenreSearchQuery query) {
+            return new GenreSearchQuery(
+                    query.page(),
+                    query.perPage(),
+                    query.terms(),
+                    query.sort(),
+                    query.direction(),
+                    query.categories(),
+                    query.cursor(),
+                    query.totalHits()
+            );
+        }
+    }
 }
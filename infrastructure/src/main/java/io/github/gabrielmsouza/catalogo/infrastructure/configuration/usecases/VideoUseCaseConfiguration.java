@@ -1,10 +1,16 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.configuration.usecases;
 
+import io.github.gabrielmsouza.catalogo.application.video.delete.DeleteAllVideosUseCase;
 import io.github.gabrielmsouza.catalogo.application.video.delete.DeleteVideoUseCase;
 import io.github.gabrielmsouza.catalogo.application.video.get.GetVideoUseCase;
 import io.github.gabrielmsouza.catalogo.application.video.list.ListVideoUseCase;
+import io.github.gabrielmsouza.catalogo.application.video.save.SaveAllVideosUseCase;
 import io.github.gabrielmsouza.catalogo.application.video.save.SaveVideoUseCase;
+import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
 import io.github.gabrielmsouza.catalogo.domain.video.VideoGateway;
+import io.github.gabrielmsouza.catalogo.domain.video.VideoSearchQuery;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.QueryResultCaches;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.QueryResultCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,6 +18,8 @@ import java.util.Objects;
 
 @Configuration(proxyBeanMethods = false)
 public class VideoUseCaseConfiguration {
+    private static final String INDEX = "videos";
+
     private final VideoGateway videoGateway;
 
     public VideoUseCaseConfiguration(final VideoGateway videoGateway) {
@@ -24,8 +32,8 @@ public class VideoUseCaseConfiguration {
     }
 
     @Bean
-    ListVideoUseCase listVideoUseCase() {
-        return new ListVideoUseCase(videoGateway);
+    ListVideoUseCase listVideoUseCase(final QueryResultCaches resultCaches) {
+        return new CachedListVideoUseCase(videoGateway, resultCaches.of(INDEX));
     }
 
     @Bean
@@ -33,8 +41,53 @@ public class VideoUseCaseConfiguration {
         return new SaveVideoUseCase(videoGateway);
     }
 
+    @Bean
+    SaveAllVideosUseCase saveAllVideosUseCase() {
+        return new SaveAllVideosUseCase(videoGateway);
+    }
+
+    @Bean
+    DeleteAllVideosUseCase deleteAllVideosUseCase() {
+        return new DeleteAllVideosUseCase(videoGateway);
+    }
+
     @Bean
     GetVideoUseCase getVideoUseCase() {
         return new GetVideoUseCase(videoGateway);
     }
+
+    /**
+     * The {@code fields} selection is part of the key, two queries loading different properties never share a page.
+     */
+    static class CachedListVideoUseCase extends ListVideoUseCase {
+        private final QueryResultCache cache;
+
+        CachedListVideoUseCase(final VideoGateway gateway, final QueryResultCache cache) {
+            super(gateway);
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        @Override
+        public Pagination<Output> execute(final Input input) {
+            return this.cache.get(normalize(input.toQuery()), () -> super.execute(input));
+        }
+
+        private static VideoSearchQuery normalize(final VideoSearchQuery query) {
+            return new VideoSearchQuery(
+                    query.page(),
+                    query.perPage(),
+                    query.terms(),
+                    query.sort(),
+                    query.direction(),
+                    query.rating(),
+                    query.launchedAt(),
+                    query.categories(),
+                    query.castMembers(),
+                    query.genres(),
+                    query.fields(),
+                    query.cursor(),
+                    query.totalHits()
+            );
+        }
+    }
 }
@@ -0,0 +1,13 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.exceptions;
+
+import io.github.gabrielmsouza.catalogo.domain.exceptions.NoStacktraceException;
+
+public class LimitExceededException extends NoStacktraceException {
+    protected LimitExceededException(final String aMessage) {
+        super(aMessage);
+    }
+
+    public static LimitExceededException with(final String aMessage) {
+        return new LimitExceededException(aMessage);
+    }
+}
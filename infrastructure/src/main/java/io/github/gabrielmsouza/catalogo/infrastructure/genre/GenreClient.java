@@ -2,8 +2,18 @@ package io.github.gabrielmsouza.catalogo.infrastructure.genre;
 
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.models.GenreDTO;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface GenreClient {
     Optional<GenreDTO> genreOfId(String genreId);
+
+    /**
+     * Same call as the blocking variant on a virtual thread, it does not go through the admin cache.
+     */
+    CompletableFuture<Optional<GenreDTO>> genreOfIdAsync(String genreId);
+
+    Map<String, GenreDTO> genresOfIds(Set<String> genreIds);
 }
@@ -1,20 +1,24 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.genre;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import io.github.gabrielmsouza.catalogo.domain.genre.Genre;
 import io.github.gabrielmsouza.catalogo.domain.genre.GenreGateway;
 import io.github.gabrielmsouza.catalogo.domain.genre.GenreSearchQuery;
 import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.persistence.GenreDocument;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.persistence.GenreRepository;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.SearchIndexWriter;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SearchCursor;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.TotalHitsTracking;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
-import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchOperations;
-import org.springframework.data.elasticsearch.core.query.Criteria;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -25,33 +29,56 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.StreamSupport;
 
+import static io.github.gabrielmsouza.catalogo.infrastructure.utils.SubstringQuery.containing;
+
 @Component
 @Profile("!dev")
 public class GenreElasticsearchGateway implements GenreGateway {
+    private static final String INDEX = "genres";
     private static final String NAME_PROP = "name";
     private static final String KEYWORD = ".keyword";
     private static final String CATEGORIES_PROP = "categories";
 
     private final GenreRepository repository;
     private final SearchOperations operations;
+    private final SearchIndexWriter writer;
 
     public GenreElasticsearchGateway(
             final GenreRepository repository,
-            final SearchOperations operations
+            final SearchOperations operations,
+            final SearchIndexWriter writer
     ) {
         this.repository = Objects.requireNonNull(repository);
         this.operations = Objects.requireNonNull(operations);
+        this.writer = Objects.requireNonNull(writer);
     }
 
     @Override
     public Genre save(final Genre aGenre) {
-        this.repository.save(GenreDocument.from(aGenre));
+        this.writer.save(INDEX, aGenre.id(), GenreDocument.from(aGenre));
         return aGenre;
     }
 
+    @Override
+    public List<Genre> saveAll(final List<Genre> genres) {
+        if (genres == null || genres.isEmpty()) {
+            return List.of();
+        }
+        this.writer.saveAll(INDEX, genres.stream().map(GenreDocument::from).toList());
+        return genres;
+    }
+
     @Override
     public void deleteById(final String anId) {
-        this.repository.deleteById(anId);
+        this.writer.deleteById(INDEX, anId);
+    }
+
+    @Override
+    public void deleteAllById(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        this.writer.deleteAllById(INDEX, ids);
     }
 
     @Override
@@ -65,22 +92,19 @@ public class GenreElasticsearchGateway implements GenreGateway {
         final var currentPage = aQuery.page();
         final var itemsPerPage = aQuery.perPage();
 
+        final var cursor = SearchCursor.decode(aQuery.cursor());
+
         final var sort = Sort.by(Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
-        final var page = PageRequest.of(currentPage, itemsPerPage, sort);
+        final var page = cursor.pageable(currentPage, itemsPerPage, sort);
 
         final Query query = StringUtils.isEmpty(terms) && CollectionUtils.isEmpty(aQuery.categories())
                 ? Query.findAll().setPageable(page)
-                : new CriteriaQuery(createCriteria(aQuery), page);
+                : createQuery(aQuery, page);
+        cursor.applyTo(query);
+        TotalHitsTracking.applyTo(query, aQuery.totalHits());
 
         final var res = this.operations.search(query, GenreDocument.class);
-        final var total = res.getTotalHits();
-
-        final var genres = res.stream()
-                .map(SearchHit::getContent)
-                .map(GenreDocument::toGenre)
-                .toList();
-
-        return new Pagination<>(currentPage, itemsPerPage, total, genres);
+        return cursor.paginate(res, currentPage, itemsPerPage, GenreDocument::toGenre);
     }
 
     @Override
@@ -93,16 +117,19 @@ public class GenreElasticsearchGateway implements GenreGateway {
                 .toList();
     }
 
-    private static Criteria createCriteria(final GenreSearchQuery aQuery) {
-        Criteria criteria = null;
+    private static NativeQuery createQuery(final GenreSearchQuery aQuery, final Pageable page) {
+        final var bool = new BoolQuery.Builder();
         if (StringUtils.isNotEmpty(aQuery.terms())) {
-            criteria = Criteria.where(NAME_PROP).contains(aQuery.terms());
+            bool.must(containing(aQuery.terms(), NAME_PROP));
         }
         if (!CollectionUtils.isEmpty(aQuery.categories())) {
-            final var categoriesWhere = Criteria.where(CATEGORIES_PROP).in(aQuery.categories());
-            criteria = criteria != null ? criteria.and(categoriesWhere) : categoriesWhere;
+            final var categories = aQuery.categories().stream().map(FieldValue::of).toList();
+            bool.filter(QueryBuilders.terms(t -> t.field(CATEGORIES_PROP).terms(it -> it.value(categories))));
         }
-        return criteria;
+        return NativeQuery.builder()
+                .withQuery(bool.build()._toQuery())
+                .withPageable(page)
+                .build();
     }
 
     private String buildSort(final String sort) {
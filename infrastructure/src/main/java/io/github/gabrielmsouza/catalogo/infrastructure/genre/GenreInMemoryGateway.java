@@ -28,11 +28,28 @@ public class GenreInMemoryGateway implements GenreGateway {
         return aGenre;
     }
 
+    @Override
+    public List<Genre> saveAll(final List<Genre> genres) {
+        if (genres == null || genres.isEmpty()) {
+            return List.of();
+        }
+        genres.forEach(it -> this.db.put(it.id(), it));
+        return genres;
+    }
+
     @Override
     public void deleteById(final String anId) {
         this.db.remove(anId);
     }
 
+    @Override
+    public void deleteAllById(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        ids.forEach(this.db::remove);
+    }
+
     @Override
     public Optional<Genre> findById(final String anId) {
         return Optional.ofNullable(this.db.get(anId));
@@ -2,19 +2,35 @@ package io.github.gabrielmsouza.catalogo.infrastructure.genre;
 
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.GetClientCredentials;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.Genres;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.VirtualThreads;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.HedgingProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.RestClientProperties;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.models.GenreDTO;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.AdaptiveLimiter;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.Hedger;
 import io.github.gabrielmsouza.catalogo.infrastructure.utils.HttpClient;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.ListResponse;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.NegativeCache;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SingleFlight;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
@@ -24,23 +40,82 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 public class GenreRestClient implements GenreClient, HttpClient {
     public static final String NAMESPACE = "genres";
 
+    private static final ParameterizedTypeReference<ListResponse<GenreDTO>> LIST_TYPE = new ParameterizedTypeReference<>() {
+    };
+
     private final RestClient restClient;
+    private final RestClientProperties properties;
     private final GetClientCredentials clientCredentials;
+    private final SingleFlight singleFlight;
+    private final NegativeCache negativeCache;
+    private final AdaptiveLimiter limiter;
+    private final Hedger hedger;
+    private final ExecutorService executor;
 
     public GenreRestClient(
             @Genres final RestClient restClient,
-            final GetClientCredentials clientCredentials
+            @Genres final RestClientProperties properties,
+            final GetClientCredentials clientCredentials,
+            final HedgingProperties hedging,
+            @VirtualThreads final ExecutorService executor,
+            final ObjectProvider<MeterRegistry> meterRegistry
     ) {
         this.restClient = Objects.requireNonNull(restClient);
+        this.properties = Objects.requireNonNull(properties);
         this.clientCredentials = Objects.requireNonNull(clientCredentials);
+        this.executor = Objects.requireNonNull(executor);
+        final var registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.singleFlight = new SingleFlight(NAMESPACE, registry);
+        this.negativeCache = new NegativeCache(NAMESPACE, properties.negativeCacheTtl(), properties.negativeCacheMaxEntries(), registry);
+        this.limiter = new AdaptiveLimiter(
+                NAMESPACE,
+                properties.limitInitial(),
+                properties.limitMin(),
+                properties.limitMax(),
+                properties.limitMaxWait(),
+                properties.limitSlowCall(),
+                registry
+        );
+        this.hedger = new Hedger(NAMESPACE, hedging.settingsOf(NAMESPACE), executor, registry);
     }
 
     @Override
-    @Cacheable(key = "#genreId")
+    @Cacheable(key = "#genreId", sync = true)
     @Retry(name = NAMESPACE)
     @Bulkhead(name = NAMESPACE)
     @CircuitBreaker(name = NAMESPACE)
     public Optional<GenreDTO> genreOfId(final String genreId) {
+        return fetch(genreId);
+    }
+
+    @Override
+    @Retry(name = NAMESPACE)
+    @Bulkhead(name = NAMESPACE)
+    @CircuitBreaker(name = NAMESPACE)
+    public CompletableFuture<Optional<GenreDTO>> genreOfIdAsync(final String genreId) {
+        return doAsync(() -> fetch(genreId));
+    }
+
+    @Override
+    @Retry(name = NAMESPACE)
+    @Bulkhead(name = NAMESPACE)
+    @CircuitBreaker(name = NAMESPACE)
+    public Map<String, GenreDTO> genresOfIds(final Set<String> genreIds) {
+        final var token = this.clientCredentials.retrieve();
+        return doGetAll(genreIds, this.properties.batchSize(), GenreDTO::id, chunk -> {
+            final var ids = String.join(",", chunk);
+            return this.restClient.get()
+                    .uri(uri -> uri.queryParam("ids", ids).queryParam("perPage", chunk.size()).build())
+                    .header(AUTHORIZATION, "bearer " + token)
+                    .retrieve()
+                    .onStatus(isNotFound, notFoundHandler(ids))
+                    .onStatus(is5xx, a5xxHandler(ids))
+                    .body(LIST_TYPE)
+                    .items();
+        });
+    }
+
+    private Optional<GenreDTO> fetch(final String genreId) {
         final var token = this.clientCredentials.retrieve();
         final Supplier<GenreDTO> request = () -> this.restClient.get()
                 .uri("/{id}", genreId)
@@ -56,4 +131,29 @@ public class GenreRestClient implements GenreClient, HttpClient {
     public String namespace() {
         return NAMESPACE;
     }
+
+    @Override
+    public SingleFlight singleFlight() {
+        return this.singleFlight;
+    }
+
+    @Override
+    public NegativeCache negativeCache() {
+        return this.negativeCache;
+    }
+
+    @Override
+    public AdaptiveLimiter limiter() {
+        return this.limiter;
+    }
+
+    @Override
+    public Hedger hedger() {
+        return this.hedger;
+    }
+
+    @Override
+    public ExecutorService executor() {
+        return this.executor;
+    }
 }
@@ -2,5 +2,21 @@ package io.github.gabrielmsouza.catalogo.infrastructure.genre.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-public record GenreEvent(@JsonProperty("id") String id) {
+import java.util.Objects;
+
+public record GenreEvent(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("active") Boolean active,
+        @JsonProperty("created_at") Long createdAt,
+        @JsonProperty("updated_at") Long updatedAt,
+        @JsonProperty("deleted_at") Long deletedAt
+) {
+    public GenreEvent(final String id) {
+        this(id, null, null, null, null, null);
+    }
+
+    public boolean isFullRow() {
+        return Objects.nonNull(name) && Objects.nonNull(active) && Objects.nonNull(createdAt) && Objects.nonNull(updatedAt);
+    }
 }
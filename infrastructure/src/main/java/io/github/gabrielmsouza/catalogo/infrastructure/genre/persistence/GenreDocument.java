@@ -1,20 +1,27 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.genre.persistence;
 
 import io.github.gabrielmsouza.catalogo.domain.genre.Genre;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.VersionedDocument;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.*;
 
 import java.time.Instant;
 import java.util.Set;
 
-@Document(indexName = "genres")
-public class GenreDocument {
+@Setting(settingPath = "/elasticsearch/index-settings.json")
+@Document(indexName = "genres", createIndex = false, versionType = Document.VersionType.EXTERNAL_GTE, storeVersionInSource = false)
+public class GenreDocument implements VersionedDocument {
     @Id
     private String id;
 
     @MultiField(
             mainField = @Field(type = FieldType.Text, name = "name"),
-            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+            otherFields = {
+                @InnerField(suffix = "keyword", type = FieldType.Keyword),
+                @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "substring", searchAnalyzer = "substring"),
+                @InnerField(suffix = "autocomplete", type = FieldType.Text, analyzer = "autocomplete", searchAnalyzer = "autocomplete_search")
+            }
     )
     private String name;
 
@@ -30,6 +37,9 @@ public class GenreDocument {
     @Field(type = FieldType.Date, name = "updated_at")
     private Instant updatedAt;
 
+    @Version
+    private Long version;
+
     @Field(type = FieldType.Date, name = "deleted_at")
     private Instant deletedAt;
 
@@ -79,6 +89,7 @@ public class GenreDocument {
         );
     }
 
+    @Override
     public String id() {
         return id;
     }
@@ -134,4 +145,13 @@ public class GenreDocument {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Long version() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -1,12 +1,15 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
 
+import graphql.schema.DataFetchingFieldSelectionSet;
 import io.github.gabrielmsouza.catalogo.application.castmember.list.ListCastMemberUseCase;
 import io.github.gabrielmsouza.catalogo.application.castmember.save.SaveCastMemberUseCase;
 import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberSearchQuery;
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
 import io.github.gabrielmsouza.catalogo.infrastructure.castmember.CastMemberGQLPresenter;
 import io.github.gabrielmsouza.catalogo.infrastructure.castmember.models.CastMemberDTO;
 import io.github.gabrielmsouza.catalogo.infrastructure.castmember.models.CastMemberGQL;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.security.Roles;
+import io.github.gabrielmsouza.catalogo.infrastructure.graphql.models.PageGQL;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -38,12 +41,28 @@ public class CastMemberGraphQLController {
             @Argument String sort,
             @Argument String direction
     ) {
-        final var aQuery = new CastMemberSearchQuery(page, perPage, search, sort, direction);
+        final var aQuery = new CastMemberSearchQuery(page, perPage, search, sort, direction, null, TotalHitsMode.NONE);
         return this.listCastMemberUseCase.execute(aQuery)
                 .map(CastMemberGQLPresenter::present)
                 .data();
     }
 
+    @QueryMapping
+    @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_CAST_MEMBERS })
+    public PageGQL<CastMemberGQL> castMembersPage(
+            @Argument String search,
+            @Argument int page,
+            @Argument int perPage,
+            @Argument String sort,
+            @Argument String direction,
+            @Argument String cursor,
+            @Argument Boolean exactTotal,
+            DataFetchingFieldSelectionSet selection
+    ) {
+        final var aQuery = new CastMemberSearchQuery(page, perPage, search, sort, direction, cursor, PageGQL.totalHitsOf(selection, exactTotal));
+        return PageGQL.from(this.listCastMemberUseCase.execute(aQuery).map(CastMemberGQLPresenter::present));
+    }
+
     @MutationMapping
     @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_CAST_MEMBERS })
     public CastMemberGQL saveCastMember(@Argument CastMemberDTO input) {
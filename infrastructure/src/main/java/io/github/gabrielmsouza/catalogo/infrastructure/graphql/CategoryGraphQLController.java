@@ -1,12 +1,15 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
 
+import graphql.schema.DataFetchingFieldSelectionSet;
 import io.github.gabrielmsouza.catalogo.application.category.list.ListCategoryUseCase;
 import io.github.gabrielmsouza.catalogo.application.category.save.SaveCategoryUseCase;
 import io.github.gabrielmsouza.catalogo.domain.category.CategorySearchQuery;
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.CategoryGQLPresenter;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.models.CategoryGQL;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.models.CategoryGQLInput;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.security.Roles;
+import io.github.gabrielmsouza.catalogo.infrastructure.graphql.models.PageGQL;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -38,12 +41,28 @@ public class CategoryGraphQLController {
             @Argument String sort,
             @Argument String direction
     ) {
-        final var aQuery = new CategorySearchQuery(page, perPage, search, sort, direction);
+        final var aQuery = new CategorySearchQuery(page, perPage, search, sort, direction, null, TotalHitsMode.NONE);
         return this.listCategoryUseCase.execute(aQuery)
                 .map(CategoryGQLPresenter::present)
                 .data();
     }
 
+    @QueryMapping
+    @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_CATEGORIES })
+    public PageGQL<CategoryGQL> categoriesPage(
+            @Argument String search,
+            @Argument int page,
+            @Argument int perPage,
+            @Argument String sort,
+            @Argument String direction,
+            @Argument String cursor,
+            @Argument Boolean exactTotal,
+            DataFetchingFieldSelectionSet selection
+    ) {
+        final var aQuery = new CategorySearchQuery(page, perPage, search, sort, direction, cursor, PageGQL.totalHitsOf(selection, exactTotal));
+        return PageGQL.from(this.listCategoryUseCase.execute(aQuery).map(CategoryGQLPresenter::present));
+    }
+
     @MutationMapping
     @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_CATEGORIES })
     public CategoryGQL saveCategory(@Argument CategoryGQLInput input) {
@@ -0,0 +1,66 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bounded cache of parsed and validated documents keyed by their sha256 hash. A miss on a request carrying only the
+ * hash fails with {@code PersistedQueryNotFound}, which tells APQ clients to send the query text once.
+ */
+public final class DocumentCache implements PersistedQueryCache {
+    private static final String METRIC = "catalogo.graphql.documents";
+    private static final String SIZE_METRIC = "catalogo.graphql.documents.size";
+    private static final String RESULT_TAG = "result";
+
+    private final Cache<Object, PreparsedDocumentEntry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public DocumentCache(final int maxEntries, final MeterRegistry meterRegistry) {
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+        this.hits = counter("hit", meterRegistry);
+        this.misses = counter("miss", meterRegistry);
+
+        Gauge.builder(SIZE_METRIC, this.entries, Cache::size)
+                .description("Parsed GraphQL documents held in the cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(
+            final Object persistedQueryId,
+            final ExecutionInput executionInput,
+            final PersistedQueryCacheMiss onCacheMiss
+    ) {
+        final var cached = this.entries.getIfPresent(persistedQueryId);
+        if (cached != null) {
+            this.hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+        this.misses.increment();
+
+        final var query = executionInput.getQuery();
+        final var entry = onCacheMiss.apply(PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query) ? null : query);
+        this.entries.put(persistedQueryId, entry);
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    private static Counter counter(final String result, final MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC)
+                .description("GraphQL document lookups answered with an already parsed and validated document")
+                .tag(RESULT_TAG, result)
+                .register(meterRegistry);
+    }
+}
@@ -1,11 +1,14 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
 
+import graphql.schema.DataFetchingFieldSelectionSet;
 import io.github.gabrielmsouza.catalogo.application.genre.list.ListGenreUseCase;
 import io.github.gabrielmsouza.catalogo.application.genre.save.SaveGenreUseCase;
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.security.Roles;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.GenreGQLPresenter;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.models.GenreGQL;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.models.GenreGQLInput;
+import io.github.gabrielmsouza.catalogo.infrastructure.graphql.models.PageGQL;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -39,12 +42,29 @@ public class GenreGraphQLController {
             @Argument String direction,
             @Argument Set<String> categories
     ) {
-        final var aQuery = new ListGenreUseCase.Input(page, perPage, search, sort, direction, categories);
+        final var aQuery = new ListGenreUseCase.Input(page, perPage, search, sort, direction, categories, null, TotalHitsMode.NONE);
         return this.listGenreUseCase.execute(aQuery)
                 .map(GenreGQLPresenter::present)
                 .data();
     }
 
+    @QueryMapping
+    @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_GENRES })
+    public PageGQL<GenreGQL> genresPage(
+            @Argument String search,
+            @Argument int page,
+            @Argument int perPage,
+            @Argument String sort,
+            @Argument String direction,
+            @Argument Set<String> categories,
+            @Argument String cursor,
+            @Argument Boolean exactTotal,
+            DataFetchingFieldSelectionSet selection
+    ) {
+        final var aQuery = new ListGenreUseCase.Input(page, perPage, search, sort, direction, categories, cursor, PageGQL.totalHitsOf(selection, exactTotal));
+        return PageGQL.from(this.listGenreUseCase.execute(aQuery).map(GenreGQLPresenter::present));
+    }
+
     @MutationMapping
     @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_GENRES })
     public SaveGenreUseCase.Output saveGenre(@Argument GenreGQLInput input) {
@@ -0,0 +1,48 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Looks documents up by the APQ {@code extensions.persistedQuery.sha256Hash} and, for requests with the full text,
+ * by the sha256 of the text itself, so plain queries skip parsing and validation on repeats as well.
+ */
+public final class HashedDocumentProvider extends ApolloPersistedQuerySupport {
+    private final boolean persistedQueries;
+
+    public HashedDocumentProvider(final PersistedQueryCache cache, final boolean persistedQueries) {
+        super(cache);
+        this.persistedQueries = persistedQueries;
+    }
+
+    @Override
+    protected Optional<Object> getPersistedQueryId(final ExecutionInput executionInput) {
+        if (this.persistedQueries) {
+            final var persistedQueryId = super.getPersistedQueryId(executionInput);
+            if (persistedQueryId.isPresent()) {
+                return persistedQueryId;
+            }
+        }
+        final var query = executionInput.getQuery();
+        if (query == null || query.isBlank() || PERSISTED_QUERY_MARKER.equals(query)) {
+            return Optional.empty();
+        }
+        return Optional.of(sha256(query));
+    }
+
+    static String sha256(final String query) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * APQ clients send only the hash of a document they already registered, but the GraphQL HTTP handler rejects a body
+ * without {@code query}; this fills it with the marker graphql-java recognises as "look the hash up instead".
+ */
+public class PersistedQueryRequestFilter extends OncePerRequestFilter {
+    private static final String QUERY = "query";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+
+    private final ObjectMapper mapper;
+
+    public PersistedQueryRequestFilter(final ObjectMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final var body = request.getInputStream().readAllBytes();
+        chain.doFilter(new BodyRequest(request, withMarker(body)), response);
+    }
+
+    private byte[] withMarker(final byte[] body) {
+        try {
+            if (this.mapper.readTree(body) instanceof ObjectNode payload
+                    && !payload.hasNonNull(QUERY)
+                    && payload.path(EXTENSIONS).has(PERSISTED_QUERY)) {
+                payload.put(QUERY, PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+                return this.mapper.writeValueAsBytes(payload);
+            }
+        } catch (IOException e) {
+            // not JSON, left for the GraphQL handler to reject
+        }
+        return body;
+    }
+
+    private static class BodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        BodyRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public int getContentLength() {
+            return this.body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return this.body.length;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final var in = new ByteArrayInputStream(this.body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener readListener) {
+                    // the body is already in memory, so it's all available and read as soon as the listener is set
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (final IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(final byte[] b, final int off, final int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            final var encoding = getCharacterEncoding();
+            final var charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
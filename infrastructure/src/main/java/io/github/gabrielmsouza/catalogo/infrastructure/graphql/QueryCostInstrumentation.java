@@ -0,0 +1,185 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
+
+import graphql.ExecutionResult;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Scores every operation before it runs: a field costs its weight ({@code Type.field}, 1 when not configured) plus the
+ * cost of its selection, multiplied by {@code perPage} when the field pages. Operations over {@code maxCost} or nested
+ * deeper than {@code maxDepth} are aborted without touching a single data fetcher. Introspection is not scored.
+ */
+public final class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+    private static final String COST_METRIC = "catalogo.graphql.query.cost";
+    private static final String REJECTED_METRIC = "catalogo.graphql.query.rejected";
+    private static final String CLIENT_TAG = "client";
+    private static final String REASON_TAG = "reason";
+    private static final String PER_PAGE = "perPage";
+    private static final String ANONYMOUS = "anonymous";
+
+    private final long maxCost;
+    private final int maxDepth;
+    private final Map<String, Long> fieldWeights;
+    private final MeterRegistry meterRegistry;
+    private final Supplier<String> client;
+
+    public QueryCostInstrumentation(
+            final long maxCost,
+            final int maxDepth,
+            final Map<String, Long> fieldWeights,
+            final MeterRegistry meterRegistry
+    ) {
+        this(maxCost, maxDepth, fieldWeights, meterRegistry, QueryCostInstrumentation::currentClient);
+    }
+
+    QueryCostInstrumentation(
+            final long maxCost,
+            final int maxDepth,
+            final Map<String, Long> fieldWeights,
+            final MeterRegistry meterRegistry,
+            final Supplier<String> client
+    ) {
+        this.maxCost = maxCost;
+        this.maxDepth = maxDepth;
+        this.fieldWeights = Map.copyOf(Objects.requireNonNull(fieldWeights));
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.client = Objects.requireNonNull(client);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            final InstrumentationExecuteOperationParameters parameters,
+            final InstrumentationState state
+    ) {
+        final var context = parameters.getExecutionContext();
+        final var traverser = QueryTraverser.newQueryTraverser()
+                .schema(context.getGraphQLSchema())
+                .document(context.getDocument())
+                .operationName(context.getOperationDefinition().getName())
+                .coercedVariables(context.getCoercedVariables())
+                .build();
+
+        final var score = new Score();
+        traverser.visitPostOrder(score);
+
+        final var client = this.client.get();
+        DistributionSummary.builder(COST_METRIC)
+                .description("Estimated cost of the GraphQL operations by client")
+                .tag(CLIENT_TAG, client)
+                .register(this.meterRegistry)
+                .record(score.total);
+
+        if (score.maxDepth > this.maxDepth) {
+            throw reject(client, "depth", "Query depth %d exceeds the limit of %d".formatted(score.maxDepth, this.maxDepth));
+        }
+        if (score.total > this.maxCost) {
+            throw reject(client, "cost", "Query cost %d exceeds the limit of %d".formatted(score.total, this.maxCost));
+        }
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    private AbortExecutionException reject(final String client, final String reason, final String message) {
+        Counter.builder(REJECTED_METRIC)
+                .description("GraphQL operations refused before execution by client and exceeded limit")
+                .tag(CLIENT_TAG, client)
+                .tag(REASON_TAG, reason)
+                .register(this.meterRegistry)
+                .increment();
+        return new AbortExecutionException(message);
+    }
+
+    private long weightOf(final QueryVisitorFieldEnvironment env) {
+        final var type = GraphQLTypeUtil.simplePrint(env.getFieldsContainer());
+        return this.fieldWeights.getOrDefault(type + "." + env.getField().getName(), 1L);
+    }
+
+    private static boolean isIntrospection(final QueryVisitorFieldEnvironment env) {
+        for (var current = env; current != null; current = current.getParentEnvironment()) {
+            if (current.getField().getName().startsWith("__")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int depthOf(final QueryVisitorFieldEnvironment env) {
+        var depth = 0;
+        for (var current = env; current != null; current = current.getParentEnvironment()) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private static long multiplierOf(final QueryVisitorFieldEnvironment env) {
+        if (env.getArguments().get(PER_PAGE) instanceof Number perPage) {
+            return Math.max(perPage.longValue(), 1L);
+        }
+        return 1L;
+    }
+
+    private static long saturatedAdd(final long a, final long b) {
+        final var sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(final long a, final long b) {
+        final var high = Math.multiplyHigh(a, b);
+        final var low = a * b;
+        return high != 0 || low < 0 ? Long.MAX_VALUE : low;
+    }
+
+    private static String currentClient() {
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken jwt && jwt.getToken().hasClaim("azp")) {
+            return jwt.getToken().getClaimAsString("azp");
+        }
+        if (authentication != null && authentication.isAuthenticated() && authentication.getName() != null) {
+            return authentication.getName();
+        }
+        return ANONYMOUS;
+    }
+
+    /**
+     * Children are visited before their parent, so each field finds the cost of its selection already summed up.
+     */
+    private final class Score extends QueryVisitorStub {
+        private final Map<QueryVisitorFieldEnvironment, Long> selections = new HashMap<>();
+        private long total;
+        private int maxDepth;
+
+        @Override
+        public void visitField(final QueryVisitorFieldEnvironment env) {
+            if (env.isTypeNameIntrospectionField() || isIntrospection(env)) {
+                return;
+            }
+            this.maxDepth = Math.max(this.maxDepth, depthOf(env));
+
+            final var selection = Objects.requireNonNullElse(this.selections.remove(env), 0L);
+            final var cost = saturatedAdd(weightOf(env), saturatedMultiply(multiplierOf(env), selection));
+
+            final var parent = env.getParentEnvironment();
+            if (parent == null) {
+                this.total = saturatedAdd(this.total, cost);
+            } else {
+                this.selections.merge(parent, cost, QueryCostInstrumentation::saturatedAdd);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
+
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.security.Roles;
+import io.github.gabrielmsouza.catalogo.infrastructure.graphql.models.ReindexStatusGQL;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.Reindexer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.stereotype.Controller;
+
+import java.util.Objects;
+
+@Controller
+@Profile("!dev")
+public class ReindexGraphQLController {
+    private final Reindexer reindexer;
+
+    public ReindexGraphQLController(final Reindexer reindexer) {
+        this.reindexer = Objects.requireNonNull(reindexer);
+    }
+
+    @QueryMapping
+    @Secured({ Roles.ROLE_ADMIN })
+    public ReindexStatusGQL reindexStatus(@Argument String index) {
+        return this.reindexer.status(index)
+                .map(ReindexStatusGQL::from)
+                .orElse(null);
+    }
+
+    @MutationMapping
+    @Secured({ Roles.ROLE_ADMIN })
+    public ReindexStatusGQL reindex(@Argument String index) {
+        return ReindexStatusGQL.from(this.reindexer.start(index));
+    }
+}
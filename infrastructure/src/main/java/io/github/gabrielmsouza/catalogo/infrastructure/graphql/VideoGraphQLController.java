@@ -1,51 +1,91 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
 
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
 import io.github.gabrielmsouza.catalogo.application.castmember.get.GetAllCastMembersByIdUseCase;
 import io.github.gabrielmsouza.catalogo.application.category.get.GetAllCategoriesByIdUseCase;
 import io.github.gabrielmsouza.catalogo.application.genre.get.GetAllGenresByIdUseCase;
 import io.github.gabrielmsouza.catalogo.application.video.list.ListVideoUseCase;
 import io.github.gabrielmsouza.catalogo.application.video.save.SaveVideoUseCase;
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
 import io.github.gabrielmsouza.catalogo.infrastructure.castmember.CastMemberGQLPresenter;
 import io.github.gabrielmsouza.catalogo.infrastructure.castmember.models.CastMemberGQL;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.CategoryGQLPresenter;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.models.CategoryGQL;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.VirtualThreads;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.security.Roles;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.GenreGQLPresenter;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.models.GenreGQL;
+import io.github.gabrielmsouza.catalogo.infrastructure.graphql.models.PageGQL;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.VideoGQLPresenter;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.models.VideoGQL;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.models.VideoGQLInput;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
-import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Controller
 public class VideoGraphQLController {
+    private static final Map<String, String> VIDEO_PROPERTIES = Map.ofEntries(
+            Map.entry("id", "id"),
+            Map.entry("title", "title"),
+            Map.entry("description", "description"),
+            Map.entry("yearLaunched", "launchedAt"),
+            Map.entry("rating", "rating"),
+            Map.entry("duration", "duration"),
+            Map.entry("opened", "opened"),
+            Map.entry("published", "published"),
+            Map.entry("video", "video"),
+            Map.entry("trailer", "trailer"),
+            Map.entry("banner", "banner"),
+            Map.entry("thumbnail", "thumbnail"),
+            Map.entry("thumbnailHalf", "thumbnailHalf"),
+            Map.entry("castMembersId", "castMembers"),
+            Map.entry("castMembers", "castMembers"),
+            Map.entry("categoriesId", "categories"),
+            Map.entry("categories", "categories"),
+            Map.entry("genresId", "genres"),
+            Map.entry("genres", "genres"),
+            Map.entry("createdAt", "createdAt"),
+            Map.entry("updatedAt", "updatedAt")
+    );
+
     private final ListVideoUseCase listVideoUseCase;
     private final GetAllCastMembersByIdUseCase getAllCastMembersByIdUseCase;
     private final GetAllCategoriesByIdUseCase getAllCategoriesByIdUseCase;
     private final GetAllGenresByIdUseCase getAllGenresByIdUseCase;
     private final SaveVideoUseCase saveVideoUseCase;
+    private final ExecutorService executor;
 
     public VideoGraphQLController(
             final ListVideoUseCase listVideoUseCase,
             final GetAllCastMembersByIdUseCase getAllCastMembersByIdUseCase,
             final GetAllCategoriesByIdUseCase getAllCategoriesByIdUseCase,
             final GetAllGenresByIdUseCase getAllGenresByIdUseCase,
-            final SaveVideoUseCase saveVideoUseCase
+            final SaveVideoUseCase saveVideoUseCase,
+            @VirtualThreads final ExecutorService executor
     ) {
         this.listVideoUseCase = Objects.requireNonNull(listVideoUseCase);
         this.getAllCastMembersByIdUseCase = Objects.requireNonNull(getAllCastMembersByIdUseCase);
         this.getAllCategoriesByIdUseCase = Objects.requireNonNull(getAllCategoriesByIdUseCase);
         this.getAllGenresByIdUseCase = Objects.requireNonNull(getAllGenresByIdUseCase);
         this.saveVideoUseCase = Objects.requireNonNull(saveVideoUseCase);
+        this.executor = Objects.requireNonNull(executor);
     }
 
     @QueryMapping
@@ -60,7 +100,8 @@ public class VideoGraphQLController {
             @Argument final Integer yearLaunched,
             @Argument final Set<String> castMembers,
             @Argument final Set<String> categories,
-            @Argument final Set<String> genres
+            @Argument final Set<String> genres,
+            final DataFetchingFieldSelectionSet selection
     ) {
         final var input = new ListVideoUseCase.Input(
                 page,
@@ -72,38 +113,85 @@ public class VideoGraphQLController {
                 yearLaunched,
                 categories,
                 castMembers,
-                genres
+                genres,
+                fieldsOf(selection == null ? null : selection.getImmediateFields()),
+                null,
+                TotalHitsMode.NONE
         );
         return this.listVideoUseCase.execute(input)
                 .map(VideoGQLPresenter::present)
                 .data();
     }
 
-    @SchemaMapping(typeName = "Video", field = "castMembers")
+    @QueryMapping
     @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_VIDEOS })
-    public List<CastMemberGQL> castMembers(final VideoGQL video) {
-        final var input = new GetAllCastMembersByIdUseCase.Input(video.castMembersId());
-        return this.getAllCastMembersByIdUseCase.execute(input).stream()
-                .map(CastMemberGQLPresenter::present)
-                .toList();
+    public PageGQL<VideoGQL> videosPage(
+            @Argument final String search,
+            @Argument final int page,
+            @Argument final int perPage,
+            @Argument final String sort,
+            @Argument final String direction,
+            @Argument final String rating,
+            @Argument final Integer yearLaunched,
+            @Argument final Set<String> castMembers,
+            @Argument final Set<String> categories,
+            @Argument final Set<String> genres,
+            @Argument final String cursor,
+            @Argument final Boolean exactTotal,
+            final DataFetchingFieldSelectionSet selection
+    ) {
+        final var input = new ListVideoUseCase.Input(
+                page,
+                perPage,
+                search,
+                sort,
+                direction,
+                rating,
+                yearLaunched,
+                categories,
+                castMembers,
+                genres,
+                fieldsOf(selection == null ? null : selection.getFields("items/*")),
+                cursor,
+                PageGQL.totalHitsOf(selection, exactTotal)
+        );
+        return PageGQL.from(this.listVideoUseCase.execute(input).map(VideoGQLPresenter::present));
     }
 
-    @SchemaMapping(typeName = "Video", field = "genres")
+    @BatchMapping(typeName = "Video", field = "castMembers")
     @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_VIDEOS })
-    public List<GenreGQL> genres(final VideoGQL video) {
-        final var input = new GetAllGenresByIdUseCase.Input(video.genresId());
-        return this.getAllGenresByIdUseCase.execute(input).stream()
-                .map(GenreGQLPresenter::present)
-                .toList();
+    public CompletableFuture<Map<VideoGQL, List<CastMemberGQL>>> castMembers(final List<VideoGQL> videos) {
+        return async(() -> {
+            final var input = new GetAllCastMembersByIdUseCase.Input(idsOf(videos, VideoGQL::castMembersId));
+            final var castMembers = this.getAllCastMembersByIdUseCase.execute(input).stream()
+                    .map(CastMemberGQLPresenter::present)
+                    .collect(Collectors.toMap(CastMemberGQL::id, Function.identity(), (a, b) -> a));
+            return fanOut(videos, VideoGQL::castMembersId, castMembers);
+        });
     }
 
-    @SchemaMapping(typeName = "Video", field = "categories")
+    @BatchMapping(typeName = "Video", field = "genres")
     @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_VIDEOS })
-    public List<CategoryGQL> categories(final VideoGQL video) {
-        final var input = new GetAllCategoriesByIdUseCase.Input(video.categoriesId());
-        return this.getAllCategoriesByIdUseCase.execute(input).stream()
-                .map(CategoryGQLPresenter::present)
-                .toList();
+    public CompletableFuture<Map<VideoGQL, List<GenreGQL>>> genres(final List<VideoGQL> videos) {
+        return async(() -> {
+            final var input = new GetAllGenresByIdUseCase.Input(idsOf(videos, VideoGQL::genresId));
+            final var genres = this.getAllGenresByIdUseCase.execute(input).stream()
+                    .map(GenreGQLPresenter::present)
+                    .collect(Collectors.toMap(GenreGQL::id, Function.identity(), (a, b) -> a));
+            return fanOut(videos, VideoGQL::genresId, genres);
+        });
+    }
+
+    @BatchMapping(typeName = "Video", field = "categories")
+    @Secured({ Roles.ROLE_ADMIN, Roles.ROLE_SUBSCRIBER, Roles.ROLE_VIDEOS })
+    public CompletableFuture<Map<VideoGQL, List<CategoryGQL>>> categories(final List<VideoGQL> videos) {
+        return async(() -> {
+            final var input = new GetAllCategoriesByIdUseCase.Input(idsOf(videos, VideoGQL::categoriesId));
+            final var categories = this.getAllCategoriesByIdUseCase.execute(input).stream()
+                    .map(CategoryGQLPresenter::present)
+                    .collect(Collectors.toMap(CategoryGQL::id, Function.identity(), (a, b) -> a));
+            return fanOut(videos, VideoGQL::categoriesId, categories);
+        });
     }
 
     @MutationMapping
@@ -117,4 +205,58 @@ public class VideoGraphQLController {
         );
         return this.saveVideoUseCase.execute(input);
     }
+
+    /**
+     * The relation loaders are dispatched together, returning a future lets the three multi-gets overlap instead of
+     * each one waiting for the previous to come back.
+     */
+    private <T> CompletableFuture<T> async(final Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, this.executor);
+    }
+
+    private static Set<String> fieldsOf(final List<SelectedField> selection) {
+        if (selection == null || selection.isEmpty()) {
+            return Set.of();
+        }
+        final var fields = new HashSet<String>();
+        fields.add("id");
+        for (final var field : selection) {
+            if (field.getName().startsWith("__")) {
+                continue;
+            }
+            final var property = VIDEO_PROPERTIES.get(field.getName());
+            if (property == null) {
+                return Set.of();
+            }
+            fields.add(property);
+        }
+        return fields;
+    }
+
+    private static Set<String> idsOf(final List<VideoGQL> videos, final Function<VideoGQL, Set<String>> ids) {
+        final var union = new HashSet<String>();
+        videos.forEach(video -> {
+            final var videoIds = ids.apply(video);
+            if (videoIds != null) {
+                union.addAll(videoIds);
+            }
+        });
+        return union;
+    }
+
+    private static <T> Map<VideoGQL, List<T>> fanOut(
+            final List<VideoGQL> videos,
+            final Function<VideoGQL, Set<String>> ids,
+            final Map<String, T> resources
+    ) {
+        final var result = new LinkedHashMap<VideoGQL, List<T>>();
+        videos.forEach(video -> {
+            final var videoIds = ids.apply(video);
+            result.put(video, videoIds == null ? List.of() : videoIds.stream()
+                    .map(resources::get)
+                    .filter(Objects::nonNull)
+                    .toList());
+        });
+        return result;
+    }
 }
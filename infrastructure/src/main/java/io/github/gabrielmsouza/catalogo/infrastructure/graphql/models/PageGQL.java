@@ -0,0 +1,24 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql.models;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import io.github.gabrielmsouza.catalogo.domain.pagination.Metadata;
+import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
+
+import java.util.List;
+
+public record PageGQL<T>(
+        List<T> items,
+        Metadata meta
+) {
+    public static <T> PageGQL<T> from(final Pagination<T> pagination) {
+        return new PageGQL<>(pagination.data(), pagination.meta());
+    }
+
+    public static TotalHitsMode totalHitsOf(final DataFetchingFieldSelectionSet selection, final Boolean exactTotal) {
+        if (selection != null && !selection.contains("meta/total") && !selection.contains("meta/exactTotal")) {
+            return TotalHitsMode.NONE;
+        }
+        return Boolean.TRUE.equals(exactTotal) ? TotalHitsMode.EXACT : TotalHitsMode.APPROXIMATE;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql.models;
+
+import io.github.gabrielmsouza.catalogo.infrastructure.search.ReindexStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+public record ReindexStatusGQL(
+        String index,
+        String source,
+        String target,
+        String state,
+        String task,
+        long total,
+        long created,
+        long updated,
+        long versionConflicts,
+        long reconciled,
+        List<String> retained,
+        String startedAt,
+        String finishedAt,
+        String error
+) {
+    public static ReindexStatusGQL from(final ReindexStatus status) {
+        return new ReindexStatusGQL(
+                status.index(),
+                status.source(),
+                status.target(),
+                status.state().name(),
+                status.task(),
+                status.total(),
+                status.created(),
+                status.updated(),
+                status.versionConflicts(),
+                status.reconciled(),
+                status.retained(),
+                asString(status.startedAt()),
+                asString(status.finishedAt()),
+                status.error()
+        );
+    }
+
+    private static String asString(final Instant instant) {
+        return Objects.nonNull(instant) ? instant.toString() : null;
+    }
+}
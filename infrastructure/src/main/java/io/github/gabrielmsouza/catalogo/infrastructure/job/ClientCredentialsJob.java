@@ -18,8 +18,9 @@ public class ClientCredentialsJob {
         this.clientCredentials = Objects.requireNonNull(clientCredentials);
     }
 
-    @Scheduled(fixedRate = 3, timeUnit = TimeUnit.MINUTES, initialDelay = 3)
+    // only a safety net for idle periods, the token is normally refreshed ahead of expiry by its readers
+    @Scheduled(fixedDelay = 30, timeUnit = TimeUnit.SECONDS, initialDelay = 30)
     public void refreshCredentials() {
-        this.clientCredentials.refresh();
+        this.clientCredentials.refreshIfStale();
     }
 }
@@ -0,0 +1,159 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.kafka;
+
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.KafkaProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.CacheInvalidation;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.QueryResultCaches;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Evicts the admin cache entries of the ids in each CDC event, optionally broadcasting them and the writes to each
+ * index so every replica evicts them and drops its cached searches as well.
+ */
+@Component
+public class AdminCacheInvalidator {
+    private static final Logger LOG = LoggerFactory.getLogger(AdminCacheInvalidator.class);
+
+    private static final String CACHE_PREFIX = "admin-";
+
+    private final CacheManager cacheManager;
+    private final Map<String, HttpClient> clients;
+    private final QueryResultCaches resultCaches;
+    private final KafkaOperations<String, String> kafkaOperations;
+    private final String topic;
+    private final String origin;
+
+    @Autowired
+    @SuppressWarnings("unchecked")
+    public AdminCacheInvalidator(
+            final CacheManager cacheManager,
+            final List<HttpClient> clients,
+            final QueryResultCaches resultCaches,
+            final KafkaProperties props,
+            final ObjectProvider<KafkaOperations<?, ?>> kafkaOperations
+    ) {
+        this(
+                cacheManager,
+                clients,
+                resultCaches,
+                props,
+                props.invalidationsEnabled() ? (KafkaOperations<String, String>) kafkaOperations.getIfAvailable() : null,
+                UUID.randomUUID().toString()
+        );
+    }
+
+    AdminCacheInvalidator(
+            final CacheManager cacheManager,
+            final List<HttpClient> clients,
+            final QueryResultCaches resultCaches,
+            final KafkaProperties props,
+            final KafkaOperations<String, String> kafkaOperations,
+            final String origin
+    ) {
+        this.cacheManager = Objects.requireNonNull(cacheManager);
+        this.clients = clients.stream().collect(Collectors.toMap(HttpClient::namespace, Function.identity()));
+        this.resultCaches = Objects.requireNonNull(resultCaches);
+        this.kafkaOperations = kafkaOperations;
+        this.topic = props.invalidationsTopic();
+        this.origin = Objects.requireNonNull(origin);
+    }
+
+    public void evict(final String namespace, final Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        evictLocally(namespace, ids);
+        broadcast(namespace, new CacheInvalidation(this.origin, namespace, new LinkedHashSet<>(ids)));
+    }
+
+    public void evict(final String namespace, final String id) {
+        evict(namespace, List.of(id));
+    }
+
+    /**
+     * Stores values the listener fetched or read from the row image after evicting them, only on this replica.
+     */
+    public void put(final String namespace, final Map<String, ?> values) {
+        final var cache = this.cacheManager.getCache(CACHE_PREFIX + namespace);
+        if (cache != null) {
+            values.forEach(cache::put);
+        }
+    }
+
+    /**
+     * Called once the listener wrote to the index, this replica already dropped its cached searches on it.
+     */
+    public void invalidateResults(final String index) {
+        broadcast(index, CacheInvalidation.ofResults(this.origin, index));
+    }
+
+    @KafkaListener(
+            id = "${kafka.invalidations-id}",
+            groupId = "${kafka.invalidations-group-id}",
+            topics = "${kafka.invalidations-topic}",
+            containerFactory = "kafkaListenerFactory",
+            autoStartup = "${kafka.invalidations-enabled}",
+            properties = {
+                    "auto.offset.reset=latest"
+            }
+    )
+    public void onMessage(@Payload(required = false) final String payload) {
+        if (payload == null) {
+            return;
+        }
+        final var invalidation = Json.readValue(payload, CacheInvalidation.class);
+        if (this.origin.equals(invalidation.origin())) {
+            return;
+        }
+        LOG.debug("Cache invalidation received [namespace:{}] [ids:{}] [index:{}]", invalidation.namespace(), invalidation.ids(), invalidation.index());
+        if (invalidation.index() != null) {
+            this.resultCaches.invalidate(invalidation.index());
+        }
+        if (invalidation.ids() != null) {
+            evictLocally(invalidation.namespace(), invalidation.ids());
+        }
+    }
+
+    private void evictLocally(final String namespace, final Collection<String> ids) {
+        final var cache = this.cacheManager.getCache(CACHE_PREFIX + namespace);
+        final var client = this.clients.get(namespace);
+        for (final var id : ids) {
+            if (cache != null) {
+                cache.evict(id);
+            }
+            if (client != null) {
+                client.negativeCache().forget(id);
+                client.singleFlight().forget(id);
+            }
+        }
+    }
+
+    private void broadcast(final String key, final CacheInvalidation invalidation) {
+        if (this.kafkaOperations == null) {
+            return;
+        }
+        this.kafkaOperations.send(this.topic, key, Json.writeValueAsString(invalidation)).whenComplete((result, ex) -> {
+            if (ex != null) {
+                LOG.warn("Failed to broadcast cache invalidation [namespace:{}] [ids:{}] [index:{}]", invalidation.namespace(), invalidation.ids(), invalidation.index(), ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,286 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.ExternalVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Collapses the events of a poll to the latest one per entity id, fetches the upserted ids (in one bulk call when
+ * available, otherwise or when it fails concurrently one by one) and then
+ * flushes consecutive upserts/deletes, in offset order, as bulk requests; a failed bulk is replayed item by item
+ * so the failing record can be reported through {@link BatchListenerFailedException}. Every write is scoped with the
+ * binlog position of its event as the {@link ExternalVersions external version} of the id.
+ */
+public class BatchMessageProcessor<T, E> {
+    private static final Logger LOG = LoggerFactory.getLogger(BatchMessageProcessor.class);
+
+    private static final String RECEIVED_METRIC = "catalogo.kafka.events.received";
+    private static final String COALESCED_METRIC = "catalogo.kafka.events.coalesced";
+    private static final String LISTENER_TAG = "listener";
+
+    private final TypeReference<MessageValue<T>> messageType;
+    private final Function<T, String> idOf;
+    private final Function<T, CompletableFuture<Optional<E>>> fetch;
+    private final Function<List<T>, Map<String, E>> fetchAll;
+    private final Consumer<List<E>> saveAll;
+    private final Consumer<E> save;
+    private final Consumer<Set<String>> deleteAll;
+    private final Consumer<String> delete;
+    private final Semaphore inFlight;
+    private final Counter received;
+    private final Counter coalesced;
+
+    BatchMessageProcessor(
+            final String name,
+            final MeterRegistry meterRegistry,
+            final int maxInFlight,
+            final TypeReference<MessageValue<T>> messageType,
+            final Function<T, String> idOf,
+            final Function<T, CompletableFuture<Optional<E>>> fetch,
+            final Function<List<T>, Map<String, E>> fetchAll,
+            final Consumer<List<E>> saveAll,
+            final Consumer<E> save,
+            final Consumer<Set<String>> deleteAll,
+            final Consumer<String> delete
+    ) {
+        this.messageType = Objects.requireNonNull(messageType);
+        this.idOf = Objects.requireNonNull(idOf);
+        this.fetch = Objects.requireNonNull(fetch);
+        this.fetchAll = fetchAll;
+        this.saveAll = Objects.requireNonNull(saveAll);
+        this.save = Objects.requireNonNull(save);
+        this.deleteAll = Objects.requireNonNull(deleteAll);
+        this.delete = Objects.requireNonNull(delete);
+        this.inFlight = new Semaphore(Math.max(maxInFlight, 1));
+        this.received = Counter.builder(RECEIVED_METRIC)
+                .description("CDC events received by the batch listener")
+                .tag(LISTENER_TAG, name)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder(COALESCED_METRIC)
+                .description("CDC events superseded by a later event for the same id in the same batch")
+                .tag(LISTENER_TAG, name)
+                .register(meterRegistry);
+    }
+
+    public void process(final List<ConsumerRecord<String, String>> records) {
+        LOG.info("Batch received from Kafka [size:{}]", records.size());
+
+        final var latest = new LinkedHashMap<String, Event<T>>();
+        ConsumerRecord<String, String> invalidRecord = null;
+        Exception invalidCause = null;
+
+        for (final var record : records) {
+            if (record.value() == null) {
+                LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", record.topic(), record.partition(), record.offset());
+                continue;
+            }
+
+            LOG.debug("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: {}", record.topic(), record.partition(), record.offset(), record.value());
+
+            final Event<T> event;
+            try {
+                event = parse(record);
+            } catch (final Exception e) {
+                invalidRecord = record;
+                invalidCause = e;
+                break;
+            }
+
+            this.received.increment();
+            if (latest.remove(event.id()) != null) {
+                this.coalesced.increment();
+            }
+            latest.put(event.id(), event);
+        }
+
+        apply(latest.values());
+
+        if (invalidRecord != null) {
+            throw failed(invalidRecord, invalidCause);
+        }
+    }
+
+    private Event<T> parse(final ConsumerRecord<String, String> record) {
+        final var message = Json.readValue(record.value(), this.messageType).payload();
+        if (message.operation().isDelete()) {
+            return new Event<>(record, this.idOf.apply(message.before()), message.version(), true, null);
+        }
+        return new Event<>(record, this.idOf.apply(message.after()), message.version(), false, message.after());
+    }
+
+    private void apply(final Collection<Event<T>> events) {
+        final var fetched = fetchAll(events);
+        final var fetches = events.stream()
+                .map(event -> {
+                    if (event.delete()) {
+                        return null;
+                    }
+                    if (fetched != null) {
+                        return CompletableFuture.completedFuture(Optional.ofNullable(fetched.get(event.id())));
+                    }
+                    return fetch(event);
+                })
+                .toList();
+
+        final var upserts = new ArrayList<Pending<E>>();
+        final var deletes = new ArrayList<Pending<String>>();
+
+        try {
+            var index = 0;
+            for (final var event : events) {
+                final var fetch = fetches.get(index++);
+                if (event.delete()) {
+                    flushUpserts(upserts);
+                    deletes.add(new Pending<>(event, event.id()));
+                    continue;
+                }
+
+                flushDeletes(deletes);
+                final Optional<E> entity;
+                try {
+                    entity = fetch.join();
+                } catch (final CompletionException e) {
+                    flushUpserts(upserts);
+                    throw failed(event.record(), e.getCause());
+                }
+                entity.ifPresentOrElse(
+                        it -> upserts.add(new Pending<>(event, it)),
+                        () -> LOG.warn("Resource was not found {}", event.id())
+                );
+            }
+        } finally {
+            // a started fetch can't be interrupted and keeps its permit until it completes, cancelling the future
+            // would only skip the release: wait for the remaining ones so the retried batch gets every permit back
+            fetches.stream().filter(Objects::nonNull).forEach(BatchMessageProcessor::await);
+        }
+
+        flushUpserts(upserts);
+        flushDeletes(deletes);
+    }
+
+    private static void await(final CompletableFuture<?> fetch) {
+        try {
+            fetch.join();
+        } catch (final CompletionException | CancellationException e) {
+            // already reported by the record that failed, or never read because of it
+        }
+    }
+
+    private Map<String, E> fetchAll(final Collection<Event<T>> events) {
+        final var payloads = events.stream().filter(it -> !it.delete()).map(Event::payload).toList();
+        if (this.fetchAll == null || payloads.isEmpty()) {
+            return null;
+        }
+        try {
+            return this.fetchAll.apply(payloads);
+        } catch (final Exception e) {
+            LOG.warn("Bulk fetch failed, falling back to single fetches [size:{}]", payloads.size(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Blocks the listener thread while {@code maxInFlight} fetches are pending, the permit is released when the
+     * returned future completes rather than when the call returns.
+     */
+    private CompletableFuture<Optional<E>> fetch(final Event<T> event) {
+        try {
+            this.inFlight.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new IllegalStateException("Interrupted while waiting to fetch %s".formatted(event.id()), e));
+        }
+        final CompletableFuture<Optional<E>> fetch;
+        try {
+            fetch = this.fetch.apply(event.payload());
+        } catch (final RuntimeException e) {
+            this.inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        return fetch.whenComplete((result, ex) -> this.inFlight.release());
+    }
+
+    private void flushUpserts(final List<Pending<E>> upserts) {
+        if (upserts.isEmpty()) {
+            return;
+        }
+        final var items = List.copyOf(upserts);
+        upserts.clear();
+
+        try {
+            ExternalVersions.with(versions(items), () -> this.saveAll.accept(items.stream().map(Pending::value).toList()));
+        } catch (final Exception e) {
+            LOG.warn("Bulk save failed, falling back to single saves [size:{}]", items.size(), e);
+            items.forEach(it -> replay(it, this.save));
+        }
+    }
+
+    private void flushDeletes(final List<Pending<String>> deletes) {
+        if (deletes.isEmpty()) {
+            return;
+        }
+        final var items = List.copyOf(deletes);
+        deletes.clear();
+
+        try {
+            final var ids = new LinkedHashSet<String>();
+            items.forEach(it -> ids.add(it.value()));
+            ExternalVersions.with(versions(items), () -> this.deleteAll.accept(ids));
+        } catch (final Exception e) {
+            LOG.warn("Bulk delete failed, falling back to single deletes [size:{}]", items.size(), e);
+            items.forEach(it -> replay(it, this.delete));
+        }
+    }
+
+    private static <V> void replay(final Pending<V> pending, final Consumer<V> action) {
+        try {
+            ExternalVersions.with(pending.event().id(), pending.event().version(), () -> action.accept(pending.value()));
+        } catch (final Exception e) {
+            throw failed(pending.event().record(), e);
+        }
+    }
+
+    private static Map<String, Long> versions(final List<? extends Pending<?>> items) {
+        final var versions = new HashMap<String, Long>();
+        items.forEach(it -> versions.put(it.event().id(), it.event().version()));
+        return versions;
+    }
+
+    private static BatchListenerFailedException failed(final ConsumerRecord<String, String> record, final Throwable e) {
+        return new BatchListenerFailedException(
+                "Failed to process message [topic:%s] [partition:%d] [offset:%d]".formatted(record.topic(), record.partition(), record.offset()),
+                e,
+                record
+        );
+    }
+
+    private record Event<T>(ConsumerRecord<String, String> record, String id, Long version, boolean delete, T payload) {
+    }
+
+    private record Pending<V>(Event<?> event, V value) {
+    }
+}
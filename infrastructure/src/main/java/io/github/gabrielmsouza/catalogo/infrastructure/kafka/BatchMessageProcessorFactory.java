@@ -0,0 +1,106 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.KafkaProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Component
+public class BatchMessageProcessorFactory implements DisposableBean {
+    private final KafkaProperties props;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService fetchExecutor;
+
+    public BatchMessageProcessorFactory(
+            final KafkaProperties props,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.props = Objects.requireNonNull(props);
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    public <T, E> BatchMessageProcessor<T, E> create(
+            final String name,
+            final TypeReference<MessageValue<T>> messageType,
+            final Function<T, String> idOf,
+            final Function<T, Optional<E>> fetch,
+            final Consumer<List<E>> saveAll,
+            final Consumer<E> save,
+            final Consumer<Set<String>> deleteAll,
+            final Consumer<String> delete
+    ) {
+        return create(name, messageType, idOf, fetch, null, saveAll, save, deleteAll, delete);
+    }
+
+    public <T, E> BatchMessageProcessor<T, E> create(
+            final String name,
+            final TypeReference<MessageValue<T>> messageType,
+            final Function<T, String> idOf,
+            final Function<T, Optional<E>> fetch,
+            final Function<List<T>, Map<String, E>> fetchAll,
+            final Consumer<List<E>> saveAll,
+            final Consumer<E> save,
+            final Consumer<Set<String>> deleteAll,
+            final Consumer<String> delete
+    ) {
+        Objects.requireNonNull(fetch);
+        return createAsync(
+                name,
+                messageType,
+                idOf,
+                it -> CompletableFuture.supplyAsync(() -> fetch.apply(it), this.fetchExecutor),
+                fetchAll,
+                saveAll,
+                save,
+                deleteAll,
+                delete
+        );
+    }
+
+    public <T, E> BatchMessageProcessor<T, E> createAsync(
+            final String name,
+            final TypeReference<MessageValue<T>> messageType,
+            final Function<T, String> idOf,
+            final Function<T, CompletableFuture<Optional<E>>> fetch,
+            final Function<List<T>, Map<String, E>> fetchAll,
+            final Consumer<List<E>> saveAll,
+            final Consumer<E> save,
+            final Consumer<Set<String>> deleteAll,
+            final Consumer<String> delete
+    ) {
+        return new BatchMessageProcessor<>(
+                name,
+                this.meterRegistry,
+                this.props.maxInFlight(),
+                messageType,
+                idOf,
+                fetch,
+                fetchAll,
+                saveAll,
+                save,
+                deleteAll,
+                delete
+        );
+    }
+
+    @Override
+    public void destroy() {
+        this.fetchExecutor.shutdownNow();
+    }
+}
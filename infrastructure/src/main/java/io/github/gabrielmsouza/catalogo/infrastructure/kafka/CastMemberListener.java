@@ -1,14 +1,19 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.kafka;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.gabrielmsouza.catalogo.application.castmember.delete.DeleteAllCastMembersUseCase;
 import io.github.gabrielmsouza.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import io.github.gabrielmsouza.catalogo.application.castmember.save.SaveAllCastMembersUseCase;
 import io.github.gabrielmsouza.catalogo.application.castmember.save.SaveCastMemberUseCase;
+import io.github.gabrielmsouza.catalogo.domain.castmember.CastMember;
 import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberGateway;
 import io.github.gabrielmsouza.catalogo.infrastructure.castmember.models.CastMemberEvent;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.models.CategoryEvent;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
 import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
 import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.ValuePayload;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.ExternalVersions;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.DltHandler;
@@ -20,7 +25,9 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @Component
 public class CastMemberListener {
@@ -29,15 +36,38 @@ public class CastMemberListener {
     private static final TypeReference<MessageValue<CastMemberEvent>> CAST_MEMBER_MESSAGE = new TypeReference<>() {
     };
 
+    private static final String INDEX = "cast_members";
+
     private final SaveCastMemberUseCase saveCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
+    private final SaveAllCastMembersUseCase saveAllCastMembersUseCase;
+    private final DeleteAllCastMembersUseCase deleteAllCastMembersUseCase;
+    private final AdminCacheInvalidator cacheInvalidator;
+    private final BatchMessageProcessor<CastMemberEvent, CastMember> batchProcessor;
 
     public CastMemberListener(
             final SaveCastMemberUseCase saveCastMemberUseCase,
-            final DeleteCastMemberUseCase deleteCastMemberUseCase
+            final DeleteCastMemberUseCase deleteCastMemberUseCase,
+            final SaveAllCastMembersUseCase saveAllCastMembersUseCase,
+            final DeleteAllCastMembersUseCase deleteAllCastMembersUseCase,
+            final AdminCacheInvalidator cacheInvalidator,
+            final BatchMessageProcessorFactory batchProcessorFactory
     ) {
         this.saveCastMemberUseCase = Objects.requireNonNull(saveCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
+        this.saveAllCastMembersUseCase = Objects.requireNonNull(saveAllCastMembersUseCase);
+        this.deleteAllCastMembersUseCase = Objects.requireNonNull(deleteAllCastMembersUseCase);
+        this.cacheInvalidator = Objects.requireNonNull(cacheInvalidator);
+        this.batchProcessor = batchProcessorFactory.create(
+                "cast-members",
+                CAST_MEMBER_MESSAGE,
+                CastMemberEvent::id,
+                it -> Optional.of(it.toCastMember()),
+                this.saveAllCastMembersUseCase::execute,
+                this.saveCastMemberUseCase::execute,
+                this.deleteAllCastMembersUseCase::execute,
+                this.deleteCastMemberUseCase::execute
+        );
     }
 
     @KafkaListener(
@@ -46,6 +76,7 @@ public class CastMemberListener {
             topics = "${kafka.consumers.cast-members.topics}",
             containerFactory = "kafkaListenerFactory",
             concurrency = "${kafka.consumers.cast-members.concurrency}",
+            autoStartup = "#{!${kafka.consumers.cast-members.batch-enabled}}",
             properties = {
                     "auto.offset.reset=${kafka.consumers.cast-members.auto-offset-reset}"
             }
@@ -53,7 +84,8 @@ public class CastMemberListener {
     @RetryableTopic(
             backoff = @Backoff(delay = 1000, multiplier = 2),
             attempts = "${kafka.consumers.cast-members.max-attempts}",
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            autoStartDltHandler = "true"
     )
     public void onMessage(@Payload(required = false) final String payload, final ConsumerRecordMetadata metadata) {
         if (Objects.isNull(payload)) {
@@ -64,10 +96,30 @@ public class CastMemberListener {
         final var message = Json.readValue(payload, CAST_MEMBER_MESSAGE).payload();
         final var operation = message.operation();
         if (operation.isDelete()) {
-            this.deleteCastMemberUseCase.execute(message.before().id());
-            return;
+            ExternalVersions.with(message.before().id(), message.version(), () -> this.deleteCastMemberUseCase.execute(message.before().id()));
+        } else {
+            ExternalVersions.with(message.after().id(), message.version(), () -> this.saveCastMemberUseCase.execute(message.after().toCastMember()));
+        }
+        this.cacheInvalidator.invalidateResults(INDEX);
+    }
+
+    @KafkaListener(
+            id = "${kafka.consumers.cast-members.id}-batch",
+            groupId = "${kafka.consumers.cast-members.group-id}",
+            topics = "${kafka.consumers.cast-members.topics}",
+            containerFactory = "kafkaBatchListenerFactory",
+            concurrency = "${kafka.consumers.cast-members.concurrency}",
+            autoStartup = "${kafka.consumers.cast-members.batch-enabled}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.cast-members.auto-offset-reset}"
+            }
+    )
+    public void onMessages(final List<ConsumerRecord<String, String>> records) {
+        try {
+            this.batchProcessor.process(records);
+        } finally {
+            this.cacheInvalidator.invalidateResults(INDEX);
         }
-        this.saveCastMemberUseCase.execute(message.after().toCastMember());
     }
 
     @DltHandler
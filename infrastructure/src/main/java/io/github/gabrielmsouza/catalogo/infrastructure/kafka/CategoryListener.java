@@ -1,12 +1,17 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.kafka;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.gabrielmsouza.catalogo.application.category.delete.DeleteAllCategoriesUseCase;
 import io.github.gabrielmsouza.catalogo.application.category.delete.DeleteCategoryUseCase;
+import io.github.gabrielmsouza.catalogo.application.category.save.SaveAllCategoriesUseCase;
 import io.github.gabrielmsouza.catalogo.application.category.save.SaveCategoryUseCase;
+import io.github.gabrielmsouza.catalogo.domain.category.Category;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.CategoryClient;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.models.CategoryEvent;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
 import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.ExternalVersions;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.DltHandler;
@@ -18,27 +23,59 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 public class CategoryListener {
     private static final Logger LOG = LoggerFactory.getLogger(CategoryListener.class);
 
+    private static final String NAMESPACE = "categories";
+    private static final String INDEX = "categories";
+
     private static final TypeReference<MessageValue<CategoryEvent>> CATEGORY_MESSAGE = new TypeReference<>() {
     };
 
     private final SaveCategoryUseCase saveCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final CategoryClient categoryClient;
+    private final SaveAllCategoriesUseCase saveAllCategoriesUseCase;
+    private final DeleteAllCategoriesUseCase deleteAllCategoriesUseCase;
+    private final AdminCacheInvalidator cacheInvalidator;
+    private final BatchMessageProcessor<CategoryEvent, Category> batchProcessor;
 
     public CategoryListener(
             final SaveCategoryUseCase saveCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final CategoryClient categoryClient
+            final CategoryClient categoryClient,
+            final SaveAllCategoriesUseCase saveAllCategoriesUseCase,
+            final DeleteAllCategoriesUseCase deleteAllCategoriesUseCase,
+            final AdminCacheInvalidator cacheInvalidator,
+            final BatchMessageProcessorFactory batchProcessorFactory
     ) {
         this.saveCategoryUseCase = Objects.requireNonNull(saveCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.categoryClient = Objects.requireNonNull(categoryClient);
+        this.saveAllCategoriesUseCase = Objects.requireNonNull(saveAllCategoriesUseCase);
+        this.deleteAllCategoriesUseCase = Objects.requireNonNull(deleteAllCategoriesUseCase);
+        this.cacheInvalidator = Objects.requireNonNull(cacheInvalidator);
+        this.batchProcessor = batchProcessorFactory.createAsync(
+                NAMESPACE,
+                CATEGORY_MESSAGE,
+                CategoryEvent::id,
+                this::categoryOfAsync,
+                this::categoriesOf,
+                this.saveAllCategoriesUseCase::execute,
+                this.saveCategoryUseCase::execute,
+                this::deleteAll,
+                this::delete
+        );
     }
 
     @KafkaListener(
@@ -47,6 +84,7 @@ public class CategoryListener {
             topics = "${kafka.consumers.categories.topics}",
             containerFactory = "kafkaListenerFactory",
             concurrency = "${kafka.consumers.categories.concurrency}",
+            autoStartup = "#{!${kafka.consumers.categories.batch-enabled}}",
             properties = {
                     "auto.offset.reset=${kafka.consumers.categories.auto-offset-reset}"
             }
@@ -54,7 +92,8 @@ public class CategoryListener {
     @RetryableTopic(
             backoff = @Backoff(delay = 1000, multiplier = 2),
             attempts = "${kafka.consumers.categories.max-attempts}",
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            autoStartDltHandler = "true"
     )
     public void onMessage(@Payload(required = false) final String payload, final ConsumerRecordMetadata metadata) {
         if (Objects.isNull(payload)) {
@@ -66,15 +105,85 @@ public class CategoryListener {
         final var message = Json.readValue(payload, CATEGORY_MESSAGE).payload();
         final var operation = message.operation();
         if (operation.isDelete()) {
-            this.deleteCategoryUseCase.execute(message.before().id());
-            return;
+            ExternalVersions.with(message.before().id(), message.version(), () -> delete(message.before().id()));
+        } else {
+            ExternalVersions.with(message.after().id(), message.version(), () -> categoryOf(message.after())
+                    .ifPresentOrElse(
+                            this.saveCategoryUseCase::execute,
+                            () -> LOG.warn("Category was not found {}", message.after().id())
+                    ));
+        }
+        this.cacheInvalidator.invalidateResults(INDEX);
+    }
+
+    private Optional<Category> categoryOf(final CategoryEvent event) {
+        this.cacheInvalidator.evict(NAMESPACE, event.id());
+        if (event.isFullRow()) {
+            final var category = event.toCategory();
+            this.cacheInvalidator.put(NAMESPACE, Map.of(category.id(), category));
+            return Optional.of(category);
+        }
+        return this.categoryClient.categoryOfId(event.id());
+    }
+
+    private CompletableFuture<Optional<Category>> categoryOfAsync(final CategoryEvent event) {
+        if (event.isFullRow()) {
+            return CompletableFuture.completedFuture(categoryOf(event));
+        }
+        this.cacheInvalidator.evict(NAMESPACE, event.id());
+        return this.categoryClient.categoryOfIdAsync(event.id()).thenApply(category -> {
+            category.ifPresent(it -> this.cacheInvalidator.put(NAMESPACE, Map.of(it.id(), it)));
+            return category;
+        });
+    }
+
+    private Map<String, Category> categoriesOf(final List<CategoryEvent> events) {
+        this.cacheInvalidator.evict(NAMESPACE, events.stream().map(CategoryEvent::id).toList());
+
+        final var categories = new HashMap<String, Category>();
+        final var missing = new LinkedHashSet<String>();
+        for (final var event : events) {
+            if (event.isFullRow()) {
+                categories.put(event.id(), event.toCategory());
+            } else {
+                missing.add(event.id());
+            }
+        }
+        if (!missing.isEmpty()) {
+            categories.putAll(this.categoryClient.categoriesOfIds(missing));
         }
+        this.cacheInvalidator.put(NAMESPACE, categories);
+        return categories;
+    }
+
+    private void delete(final String id) {
+        this.cacheInvalidator.evict(NAMESPACE, id);
+        this.deleteCategoryUseCase.execute(id);
+    }
 
-        this.categoryClient.categoryOfId(message.after().id())
-                .ifPresentOrElse(
-                        this.saveCategoryUseCase::execute,
-                        () -> LOG.warn("Category was not found {}", message.after().id())
-                );
+    private void deleteAll(final Set<String> ids) {
+        this.cacheInvalidator.evict(NAMESPACE, ids);
+        this.deleteAllCategoriesUseCase.execute(ids);
+    }
+
+    @KafkaListener(
+            id = "${kafka.consumers.categories.id}-batch",
+            groupId = "${kafka.consumers.categories.group-id}",
+            topics = "${kafka.consumers.categories.topics}",
+            containerFactory = "kafkaBatchListenerFactory",
+            concurrency = "${kafka.consumers.categories.concurrency}",
+            autoStartup = "${kafka.consumers.categories.batch-enabled}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.categories.auto-offset-reset}"
+            }
+    )
+    public void onMessages(final List<ConsumerRecord<String, String>> records) {
+        try {
+            this.batchProcessor.process(records);
+        } finally {
+            // also after a failed record, the ones before it are already written
+            this.cacheInvalidator.invalidateResults(INDEX);
+        }
     }
 
     @DltHandler
@@ -3,14 +3,20 @@ package io.github.gabrielmsouza.catalogo.infrastructure.kafka;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.github.gabrielmsouza.catalogo.application.category.delete.DeleteCategoryUseCase;
 import io.github.gabrielmsouza.catalogo.application.category.save.SaveCategoryUseCase;
+import io.github.gabrielmsouza.catalogo.application.genre.delete.DeleteAllGenresUseCase;
 import io.github.gabrielmsouza.catalogo.application.genre.delete.DeleteGenreUseCase;
+import io.github.gabrielmsouza.catalogo.application.genre.save.SaveAllGenresUseCase;
 import io.github.gabrielmsouza.catalogo.application.genre.save.SaveGenreUseCase;
+import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.CategoryClient;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.models.CategoryEvent;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.GenreClient;
+import io.github.gabrielmsouza.catalogo.infrastructure.genre.models.GenreDTO;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.models.GenreEvent;
 import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.ExternalVersions;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.DltHandler;
@@ -22,27 +28,59 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 public class GenreListener {
     private static final Logger LOG = LoggerFactory.getLogger(GenreListener.class);
 
+    private static final String NAMESPACE = "genres";
+    private static final String INDEX = "genres";
+
     private static final TypeReference<MessageValue<GenreEvent>> GENRE_MESSAGE = new TypeReference<>() {
     };
 
     private final SaveGenreUseCase saveGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final GenreClient genreClient;
+    private final SaveAllGenresUseCase saveAllGenresUseCase;
+    private final DeleteAllGenresUseCase deleteAllGenresUseCase;
+    private final AdminCacheInvalidator cacheInvalidator;
+    private final BatchMessageProcessor<GenreEvent, SaveGenreUseCase.Input> batchProcessor;
 
     public GenreListener(
             final SaveGenreUseCase saveGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final GenreClient genreClient
+            final GenreClient genreClient,
+            final SaveAllGenresUseCase saveAllGenresUseCase,
+            final DeleteAllGenresUseCase deleteAllGenresUseCase,
+            final AdminCacheInvalidator cacheInvalidator,
+            final BatchMessageProcessorFactory batchProcessorFactory
     ) {
         this.saveGenreUseCase = Objects.requireNonNull(saveGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.genreClient = Objects.requireNonNull(genreClient);
+        this.saveAllGenresUseCase = Objects.requireNonNull(saveAllGenresUseCase);
+        this.deleteAllGenresUseCase = Objects.requireNonNull(deleteAllGenresUseCase);
+        this.cacheInvalidator = Objects.requireNonNull(cacheInvalidator);
+        this.batchProcessor = batchProcessorFactory.createAsync(
+                NAMESPACE,
+                GENRE_MESSAGE,
+                GenreEvent::id,
+                this::genreOfAsync,
+                this::genresOf,
+                this.saveAllGenresUseCase::execute,
+                this.saveGenreUseCase::execute,
+                this::deleteAll,
+                this::delete
+        );
     }
 
     @KafkaListener(
@@ -51,6 +89,7 @@ public class GenreListener {
             topics = "${kafka.consumers.genres.topics}",
             containerFactory = "kafkaListenerFactory",
             concurrency = "${kafka.consumers.genres.concurrency}",
+            autoStartup = "#{!${kafka.consumers.genres.batch-enabled}}",
             properties = {
                     "auto.offset.reset=${kafka.consumers.genres.auto-offset-reset}"
             }
@@ -58,7 +97,8 @@ public class GenreListener {
     @RetryableTopic(
             backoff = @Backoff(delay = 1000, multiplier = 2),
             attempts = "${kafka.consumers.genres.max-attempts}",
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            autoStartDltHandler = "true"
     )
     public void onMessage(@Payload(required = false) final String payload, final ConsumerRecordMetadata metadata) {
         if (Objects.isNull(payload)) {
@@ -70,24 +110,105 @@ public class GenreListener {
         final var message = Json.readValue(payload, GENRE_MESSAGE).payload();
         final var operation = message.operation();
         if (operation.isDelete()) {
-            this.deleteGenreUseCase.execute(message.before().id());
-            return;
+            ExternalVersions.with(message.before().id(), message.version(), () -> delete(message.before().id()));
+        } else {
+            ExternalVersions.with(message.after().id(), message.version(), () -> genreOf(message.after())
+                    .ifPresentOrElse(
+                            this.saveGenreUseCase::execute,
+                            () -> LOG.warn("Genre was not found {}", message.after().id())
+                    ));
+        }
+        this.cacheInvalidator.invalidateResults(INDEX);
+    }
+
+    @KafkaListener(
+            id = "${kafka.consumers.genres.id}-batch",
+            groupId = "${kafka.consumers.genres.group-id}",
+            topics = "${kafka.consumers.genres.topics}",
+            containerFactory = "kafkaBatchListenerFactory",
+            concurrency = "${kafka.consumers.genres.concurrency}",
+            autoStartup = "${kafka.consumers.genres.batch-enabled}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.genres.auto-offset-reset}"
+            }
+    )
+    public void onMessages(final List<ConsumerRecord<String, String>> records) {
+        try {
+            this.batchProcessor.process(records);
+        } finally {
+            this.cacheInvalidator.invalidateResults(INDEX);
+        }
+    }
+
+    private Optional<SaveGenreUseCase.Input> genreOf(final GenreEvent event) {
+        this.cacheInvalidator.evict(NAMESPACE, event.id());
+        return this.genreClient.genreOfId(event.id()).map(dto -> toUseCaseInput(event, dto));
+    }
+
+    private CompletableFuture<Optional<SaveGenreUseCase.Input>> genreOfAsync(final GenreEvent event) {
+        this.cacheInvalidator.evict(NAMESPACE, event.id());
+        return this.genreClient.genreOfIdAsync(event.id()).thenApply(dto -> dto.map(it -> {
+            this.cacheInvalidator.put(NAMESPACE, Map.of(it.id(), it));
+            return toUseCaseInput(event, it);
+        }));
+    }
+
+    private Map<String, SaveGenreUseCase.Input> genresOf(final List<GenreEvent> events) {
+        final var ids = new LinkedHashSet<String>();
+        events.forEach(it -> ids.add(it.id()));
+        this.cacheInvalidator.evict(NAMESPACE, ids);
+
+        final var genres = this.genreClient.genresOfIds(ids);
+        this.cacheInvalidator.put(NAMESPACE, genres);
+        final var inputs = new HashMap<String, SaveGenreUseCase.Input>();
+        for (final var event : events) {
+            final var dto = genres.get(event.id());
+            if (dto != null) {
+                inputs.put(event.id(), toUseCaseInput(event, dto));
+            }
         }
+        return inputs;
+    }
+
+    private void delete(final String id) {
+        this.cacheInvalidator.evict(NAMESPACE, id);
+        this.deleteGenreUseCase.execute(id);
+    }
+
+    private void deleteAll(final Set<String> ids) {
+        this.cacheInvalidator.evict(NAMESPACE, ids);
+        this.deleteAllGenresUseCase.execute(ids);
+    }
+
+    /**
+     * The genre columns come from the row image, the admin API is only needed for the genre-category joins that
+     * live in another table.
+     */
+    private static SaveGenreUseCase.Input toUseCaseInput(final GenreEvent row, final GenreDTO dto) {
+        if (!row.isFullRow()) {
+            return toUseCaseInput(dto);
+        }
+        return new SaveGenreUseCase.Input(
+                row.id(),
+                row.name(),
+                row.active(),
+                dto.categoriesId(),
+                InstantUtils.fromTimestamp(row.createdAt()),
+                InstantUtils.fromTimestamp(row.updatedAt()),
+                InstantUtils.fromTimestamp(row.deletedAt())
+        );
+    }
 
-        this.genreClient.genreOfId(message.after().id())
-                .map(it -> new SaveGenreUseCase.Input(
-                        it.id(),
-                        it.name(),
-                        it.isActive(),
-                        it.categoriesId(),
-                        it.createdAt(),
-                        it.updatedAt(),
-                        it.deletedAt()
-                ))
-                .ifPresentOrElse(
-                        this.saveGenreUseCase::execute,
-                        () -> LOG.warn("Genre was not found {}", message.after().id())
-                );
+    private static SaveGenreUseCase.Input toUseCaseInput(final GenreDTO dto) {
+        return new SaveGenreUseCase.Input(
+                dto.id(),
+                dto.name(),
+                dto.isActive(),
+                dto.categoriesId(),
+                dto.createdAt(),
+                dto.updatedAt(),
+                dto.deletedAt()
+        );
     }
 
     @DltHandler
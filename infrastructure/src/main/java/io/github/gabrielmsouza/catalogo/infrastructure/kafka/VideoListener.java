@@ -2,15 +2,20 @@ package io.github.gabrielmsouza.catalogo.infrastructure.kafka;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.github.gabrielmsouza.catalogo.application.genre.save.SaveGenreUseCase;
+import io.github.gabrielmsouza.catalogo.application.video.delete.DeleteAllVideosUseCase;
 import io.github.gabrielmsouza.catalogo.application.video.delete.DeleteVideoUseCase;
+import io.github.gabrielmsouza.catalogo.application.video.save.SaveAllVideosUseCase;
 import io.github.gabrielmsouza.catalogo.application.video.save.SaveVideoUseCase;
+import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
 import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.ExternalVersions;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.VideoClient;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.models.ImageResourceDTO;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.models.VideoDTO;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.models.VideoEvent;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.models.VideoResourceDTO;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.DltHandler;
@@ -22,27 +27,59 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 public class VideoListener {
     private static final Logger LOG = LoggerFactory.getLogger(VideoListener.class);
 
+    private static final String NAMESPACE = "videos";
+    private static final String INDEX = "videos";
+
     private static final TypeReference<MessageValue<VideoEvent>> VIDEO_MESSAGE_TYPE = new TypeReference<>() {
     };
 
     private final VideoClient videoClient;
     private final SaveVideoUseCase saveVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
+    private final SaveAllVideosUseCase saveAllVideosUseCase;
+    private final DeleteAllVideosUseCase deleteAllVideosUseCase;
+    private final AdminCacheInvalidator cacheInvalidator;
+    private final BatchMessageProcessor<VideoEvent, SaveVideoUseCase.Input> batchProcessor;
 
     public VideoListener(
             final VideoClient videoClient,
             final SaveVideoUseCase saveVideoUseCase,
-            final DeleteVideoUseCase deleteVideoUseCase
+            final DeleteVideoUseCase deleteVideoUseCase,
+            final SaveAllVideosUseCase saveAllVideosUseCase,
+            final DeleteAllVideosUseCase deleteAllVideosUseCase,
+            final AdminCacheInvalidator cacheInvalidator,
+            final BatchMessageProcessorFactory batchProcessorFactory
     ) {
         this.videoClient = Objects.requireNonNull(videoClient);
         this.saveVideoUseCase = Objects.requireNonNull(saveVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
+        this.saveAllVideosUseCase = Objects.requireNonNull(saveAllVideosUseCase);
+        this.deleteAllVideosUseCase = Objects.requireNonNull(deleteAllVideosUseCase);
+        this.cacheInvalidator = Objects.requireNonNull(cacheInvalidator);
+        this.batchProcessor = batchProcessorFactory.createAsync(
+                NAMESPACE,
+                VIDEO_MESSAGE_TYPE,
+                VideoEvent::id,
+                this::videoOfAsync,
+                this::videosOf,
+                this.saveAllVideosUseCase::execute,
+                this.saveVideoUseCase::execute,
+                this::deleteAll,
+                this::delete
+        );
     }
 
     @KafkaListener(
@@ -51,6 +88,7 @@ public class VideoListener {
             topics = "${kafka.consumers.videos.topics}",
             groupId = "${kafka.consumers.videos.group-id}",
             id = "${kafka.consumers.videos.id}",
+            autoStartup = "#{!${kafka.consumers.videos.batch-enabled}}",
             properties = {
                     "auto.offset.reset=${kafka.consumers.videos.auto-offset-reset}"
             }
@@ -58,7 +96,8 @@ public class VideoListener {
     @RetryableTopic(
             backoff = @Backoff(delay = 1000, multiplier = 2),
             attempts = "${kafka.consumers.videos.max-attempts}",
-            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            autoStartDltHandler = "true"
     )
     public void onMessage(@Payload(required = false) final String payload, final ConsumerRecordMetadata metadata) {
         if (payload == null) {
@@ -71,29 +110,74 @@ public class VideoListener {
         final var op = messagePayload.operation();
 
         if (op.isDelete()) {
-            this.deleteVideoUseCase.execute(new DeleteVideoUseCase.Input(messagePayload.before().id()));
-            return;
+            ExternalVersions.with(messagePayload.before().id(), messagePayload.version(), () -> delete(messagePayload.before().id()));
+        } else {
+            ExternalVersions.with(messagePayload.after().id(), messagePayload.version(), () -> videoOf(messagePayload.after())
+                    .ifPresentOrElse(this.saveVideoUseCase::execute, () -> {
+                        LOG.warn("Video was not found {}", messagePayload.after().id());
+                    }));
         }
+        this.cacheInvalidator.invalidateResults(INDEX);
+    }
+
+    private Optional<SaveVideoUseCase.Input> videoOf(final VideoEvent event) {
+        this.cacheInvalidator.evict(NAMESPACE, event.id());
+        return this.videoClient.videoOfId(event.id()).map(dto -> toUseCaseInput(event, dto));
+    }
+
+    private CompletableFuture<Optional<SaveVideoUseCase.Input>> videoOfAsync(final VideoEvent event) {
+        this.cacheInvalidator.evict(NAMESPACE, event.id());
+        return this.videoClient.videoOfIdAsync(event.id()).thenApply(dto -> dto.map(it -> {
+            this.cacheInvalidator.put(NAMESPACE, Map.of(it.id(), it));
+            return toUseCaseInput(event, it);
+        }));
+    }
+
+    private Map<String, SaveVideoUseCase.Input> videosOf(final List<VideoEvent> events) {
+        final var ids = new LinkedHashSet<String>();
+        events.forEach(it -> ids.add(it.id()));
+        this.cacheInvalidator.evict(NAMESPACE, ids);
+
+        final var videos = this.videoClient.videosOfIds(ids);
+        this.cacheInvalidator.put(NAMESPACE, videos);
+        final var inputs = new HashMap<String, SaveVideoUseCase.Input>();
+        for (final var event : events) {
+            final var dto = videos.get(event.id());
+            if (dto != null) {
+                inputs.put(event.id(), toUseCaseInput(event, dto));
+            }
+        }
+        return inputs;
+    }
 
-        this.videoClient.videoOfId(messagePayload.after().id())
-                .map(this::toUseCaseInput)
-                .ifPresentOrElse(this.saveVideoUseCase::execute, () -> {
-                    LOG.warn("Video was not found {}", messagePayload.after().id());
-                });
+    private void delete(final String id) {
+        this.cacheInvalidator.evict(NAMESPACE, id);
+        this.deleteVideoUseCase.execute(new DeleteVideoUseCase.Input(id));
     }
 
-    private SaveVideoUseCase.Input toUseCaseInput(final VideoDTO dto) {
+    private void deleteAll(final Set<String> ids) {
+        this.cacheInvalidator.evict(NAMESPACE, ids);
+        this.deleteAllVideosUseCase.execute(new DeleteAllVideosUseCase.Input(ids));
+    }
+
+    /**
+     * The video columns come from the row image; media locations and the category, genre and cast member joins
+     * live in other tables and still come from the admin API. The duration is a DECIMAL column whose encoding
+     * depends on the connector settings, so it is taken from the admin API as well.
+     */
+    private SaveVideoUseCase.Input toUseCaseInput(final VideoEvent row, final VideoDTO dto) {
+        final var fullRow = row.isFullRow();
         return new SaveVideoUseCase.Input(
                 dto.id(),
-                dto.title(),
-                dto.description(),
-                dto.yearLaunched(),
+                fullRow ? row.title() : dto.title(),
+                fullRow ? row.description() : dto.description(),
+                fullRow ? row.yearLaunched() : dto.yearLaunched(),
                 dto.duration(),
-                dto.rating(),
-                dto.opened(),
-                dto.published(),
-                dto.createdAt(),
-                dto.updatedAt(),
+                fullRow ? row.rating() : dto.rating(),
+                fullRow ? row.opened() : dto.opened(),
+                fullRow ? row.published() : dto.published(),
+                fullRow ? InstantUtils.fromTimestamp(row.createdAt()).toString() : dto.createdAt(),
+                fullRow ? InstantUtils.fromTimestamp(row.updatedAt()).toString() : dto.updatedAt(),
                 dto.getVideo().map(VideoResourceDTO::encodedLocation).orElse(""),
                 dto.getTrailer().map(VideoResourceDTO::encodedLocation).orElse(""),
                 dto.getBanner().map(ImageResourceDTO::location).orElse(""),
@@ -105,6 +189,25 @@ public class VideoListener {
         );
     }
 
+    @KafkaListener(
+            id = "${kafka.consumers.videos.id}-batch",
+            groupId = "${kafka.consumers.videos.group-id}",
+            topics = "${kafka.consumers.videos.topics}",
+            containerFactory = "kafkaBatchListenerFactory",
+            concurrency = "${kafka.consumers.videos.concurrency}",
+            autoStartup = "${kafka.consumers.videos.batch-enabled}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.videos.auto-offset-reset}"
+            }
+    )
+    public void onMessages(final List<ConsumerRecord<String, String>> records) {
+        try {
+            this.batchProcessor.process(records);
+        } finally {
+            this.cacheInvalidator.invalidateResults(INDEX);
+        }
+    }
+
     @DltHandler
     public void onDLTMessage(@Payload final String payload, final ConsumerRecordMetadata metadata) {
         LOG.warn("Message received from Kafka at DLT [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), payload);
@@ -0,0 +1,21 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.kafka.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Set;
+
+public record CacheInvalidation(
+        @JsonProperty("origin") String origin,
+        @JsonProperty("namespace") String namespace,
+        @JsonProperty("ids") Set<String> ids,
+        @JsonProperty("index") String index
+) {
+
+    public CacheInvalidation(final String origin, final String namespace, final Set<String> ids) {
+        this(origin, namespace, ids, null);
+    }
+
+    public static CacheInvalidation ofResults(final String origin, final String index) {
+        return new CacheInvalidation(origin, index, Set.of(), index);
+    }
+}
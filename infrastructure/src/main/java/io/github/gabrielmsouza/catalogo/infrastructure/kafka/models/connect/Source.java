@@ -1,10 +1,34 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public record Source(
         @JsonProperty("name") String name,
         @JsonProperty("db") String database,
-        @JsonProperty("table") String table
+        @JsonProperty("table") String table,
+        @JsonProperty("ts_ms") Long timestamp,
+        @JsonProperty("file") String file,
+        @JsonProperty("pos") Long position
 ) {
+    public Source(final String name, final String database, final String table) {
+        this(name, database, table, null, null, null);
+    }
+
+    /**
+     * The binlog position of the change as a single number, the sequence of the binlog file in the high 32 bits and
+     * the offset in it in the low ones, or {@code null} when the event doesn't carry a parsable position.
+     */
+    @JsonIgnore
+    public Long version() {
+        if (file == null || position == null || position < 0 || position > 0xFFFFFFFFL) {
+            return null;
+        }
+        try {
+            final var sequence = Long.parseLong(file.substring(file.lastIndexOf('.') + 1));
+            return sequence >= 0 && sequence <= Integer.MAX_VALUE ? sequence << 32 | position : null;
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
 }
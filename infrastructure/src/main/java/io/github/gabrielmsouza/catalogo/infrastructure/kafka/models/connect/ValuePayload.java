@@ -1,11 +1,21 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public record ValuePayload<T>(
         @JsonProperty("after") T after,
         @JsonProperty("before") T before,
         @JsonProperty("source") Source source,
-        @JsonProperty("op") Operation operation
+        @JsonProperty("op") Operation operation,
+        @JsonProperty("ts_ms") Long timestamp
 ) {
+    public ValuePayload(final T after, final T before, final Source source, final Operation operation) {
+        this(after, before, source, operation, null);
+    }
+
+    @JsonIgnore
+    public Long version() {
+        return source != null ? source.version() : null;
+    }
 }
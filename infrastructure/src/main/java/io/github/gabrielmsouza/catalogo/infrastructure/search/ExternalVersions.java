@@ -0,0 +1,47 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * External versions, per document id, of the writes made by the current thread inside {@link #with}. The CDC
+ * listeners scope their writes with the binlog position of each event, so the {@link SearchIndexWriter} can order
+ * upserts and deletes of the same document by one clock however the use cases in between call it.
+ */
+public final class ExternalVersions {
+    private static final ThreadLocal<Map<String, Long>> CURRENT = new ThreadLocal<>();
+
+    private ExternalVersions() {
+    }
+
+    public static void with(final String id, final Long version, final Runnable write) {
+        final var versions = new HashMap<String, Long>();
+        versions.put(id, version);
+        with(versions, write);
+    }
+
+    public static void with(final Map<String, Long> versions, final Runnable write) {
+        Objects.requireNonNull(write);
+        final var previous = CURRENT.get();
+        CURRENT.set(Collections.unmodifiableMap(new HashMap<>(versions)));
+        try {
+            write.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the version of the id in the current scope, {@code null} for an unversioned write
+     */
+    public static Long of(final String id) {
+        final var versions = CURRENT.get();
+        return versions != null ? versions.get(id) : null;
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.search;
+
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.QueryCacheProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.QueryResultCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link QueryResultCache} per logical index, invalidated by the {@link SearchIndexWriter} of the replica that
+ * wrote to it and by the invalidations it broadcasts to the others.
+ */
+@Component
+public class QueryResultCaches {
+    private final QueryCacheProperties props;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, QueryResultCache> caches;
+
+    public QueryResultCaches(final QueryCacheProperties props, final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.props = Objects.requireNonNull(props);
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.caches = new ConcurrentHashMap<>();
+    }
+
+    public QueryResultCache of(final String index) {
+        return this.caches.computeIfAbsent(index, it -> new QueryResultCache(it, this.props.settingsOf(it), this.meterRegistry));
+    }
+
+    public void invalidate(final String index) {
+        of(index).invalidate();
+    }
+}
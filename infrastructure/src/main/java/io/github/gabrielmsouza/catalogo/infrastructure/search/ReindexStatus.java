@@ -0,0 +1,54 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.search;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ReindexStatus(
+        String index,
+        String source,
+        String target,
+        State state,
+        String task,
+        long total,
+        long created,
+        long updated,
+        long versionConflicts,
+        long reconciled,
+        List<String> retained,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+
+    public static ReindexStatus started(final String index, final String source, final String target, final Instant startedAt) {
+        return new ReindexStatus(index, source, target, State.STARTING, null, 0, 0, 0, 0, 0, List.of(), startedAt, null, null);
+    }
+
+    public ReindexStatus backfilling(final String task, final long total, final long created, final long updated, final long versionConflicts) {
+        return new ReindexStatus(index, source, target, State.BACKFILLING, task, total, created, updated, versionConflicts, reconciled, retained, startedAt, null, null);
+    }
+
+    public ReindexStatus reconciling() {
+        return new ReindexStatus(index, source, target, State.RECONCILING, task, total, created, updated, versionConflicts, reconciled, retained, startedAt, null, null);
+    }
+
+    public ReindexStatus completed(final long reconciled, final List<String> retained, final Instant finishedAt) {
+        return new ReindexStatus(index, source, target, State.COMPLETED, task, total, created, updated, versionConflicts, reconciled, retained, startedAt, finishedAt, null);
+    }
+
+    public ReindexStatus failed(final String error, final Instant finishedAt) {
+        return new ReindexStatus(index, source, target, State.FAILED, task, total, created, updated, versionConflicts, reconciled, retained, startedAt, finishedAt, error);
+    }
+
+    public boolean isRunning() {
+        return state != State.COMPLETED && state != State.FAILED;
+    }
+
+    public enum State {
+        STARTING,
+        BACKFILLING,
+        RECONCILING,
+        COMPLETED,
+        FAILED
+    }
+}
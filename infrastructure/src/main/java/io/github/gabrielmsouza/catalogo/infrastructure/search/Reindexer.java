@@ -0,0 +1,300 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.SlicesCalculation;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.elasticsearch.indices.add_block.IndicesBlockOptions;
+import co.elastic.clients.json.JsonData;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.Iterators;
+import io.github.gabrielmsouza.catalogo.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
+import io.github.gabrielmsouza.catalogo.domain.validation.Error;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.ReindexProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Rebuilds a logical index into its next version without downtime: the new index joins the write targets before
+ * the backfill starts, the backfill is a sliced _reindex task that keeps the external versions, documents deleted
+ * while it ran are dropped afterwards, and the read/write aliases are moved to the new index in one atomic request.
+ * The previous version is kept without aliases for a rollback, {@code elasticsearch.reindex.retained-versions} of them
+ * are kept and older ones are deleted once the swap is done. An index created before the aliases has to be removed
+ * in the swap itself, as the read alias takes its name, so it is cloned into version 0 first.
+ */
+@Component
+@Profile("!dev")
+public class Reindexer {
+    private static final Logger LOG = LoggerFactory.getLogger(Reindexer.class);
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final int RECONCILE_BATCH_SIZE = 1_000;
+
+    private final SearchIndices indices;
+    private final ElasticsearchOperations operations;
+    private final ElasticsearchClient client;
+    private final QueryResultCaches resultCaches;
+    private final int retainedVersions;
+    private final Map<String, ReindexStatus> statuses;
+
+    public Reindexer(
+            final SearchIndices indices,
+            final ElasticsearchOperations operations,
+            final ElasticsearchClient client,
+            final QueryResultCaches resultCaches,
+            final ReindexProperties props
+    ) {
+        this.indices = Objects.requireNonNull(indices);
+        this.operations = Objects.requireNonNull(operations);
+        this.client = Objects.requireNonNull(client);
+        this.resultCaches = Objects.requireNonNull(resultCaches);
+        this.retainedVersions = Math.max(props.retainedVersions(), 0);
+        this.statuses = new ConcurrentHashMap<>();
+    }
+
+    public synchronized ReindexStatus start(final String name) {
+        final var type = this.indices.documentOf(name);
+        final var layout = this.indices.layout(name);
+
+        final var current = this.statuses.get(name);
+        if ((current != null && current.isRunning()) || !layout.backfill().isEmpty()) {
+            throw DomainException.with(Error.with("A reindex of '%s' is already running".formatted(name)));
+        }
+        if (layout.readIndex() == null) {
+            throw DomainException.with(Error.with("Search index '%s' has nothing to reindex".formatted(name)));
+        }
+
+        final var target = this.indices.create(name, layout.version() + 1, false);
+        try {
+            this.client.indices().updateAliases(u -> u.actions(a -> a.add(add -> add.index(target).alias(SearchIndices.backfillAlias(name)))));
+        } catch (final IOException e) {
+            drop(target);
+            throw new IllegalStateException("Failed to start reindex of %s".formatted(name), e);
+        }
+        this.indices.invalidate(name);
+
+        final var status = ReindexStatus.started(name, layout.readIndex(), target, InstantUtils.now());
+        this.statuses.put(name, status);
+
+        LOG.info("Reindex started [index:{}] [source:{}] [target:{}]", name, layout.readIndex(), target);
+        Thread.ofVirtual().name("reindex-" + name).start(() -> run(layout, target, type));
+        return status;
+    }
+
+    public Optional<ReindexStatus> status(final String name) {
+        this.indices.documentOf(name);
+        return Optional.ofNullable(this.statuses.get(name));
+    }
+
+    private void run(final SearchIndices.Layout layout, final String target, final Class<?> type) {
+        final var name = layout.name();
+        final var source = layout.readIndex();
+        try {
+            // every writer must be sending its changes to the new index before the backfill snapshots the source
+            Thread.sleep(this.indices.targetsTtl());
+
+            final var task = this.client.reindex(r -> r
+                    .source(s -> s.index(source))
+                    .dest(d -> d.index(target).versionType(VersionType.External))
+                    .conflicts(Conflicts.Proceed)
+                    .slices(s -> s.computed(SlicesCalculation.Auto))
+                    .waitForCompletion(false)
+            ).task();
+            update(name, it -> it.backfilling(task, 0, 0, 0, 0));
+
+            awaitBackfill(name, task);
+
+            update(name, ReindexStatus::reconciling);
+            this.operations.indexOps(IndexCoordinates.of(target)).refresh();
+            final var reconciled = reconcile(source, target, type);
+
+            swapRetaining(layout, target);
+            this.resultCaches.invalidate(name);
+            final var retained = prune(name);
+            update(name, it -> it.completed(reconciled, retained, InstantUtils.now()));
+            LOG.info("Reindex completed [index:{}] [target:{}] [retained:{}]", name, target, retained);
+        } catch (final Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            LOG.error("Reindex failed [index:{}] [target:{}]", name, target, e);
+            drop(target);
+            update(name, it -> it.failed(e.getMessage(), InstantUtils.now()));
+        } finally {
+            this.indices.invalidate(name);
+        }
+    }
+
+    private void awaitBackfill(final String name, final String task) throws IOException, InterruptedException {
+        while (true) {
+            final var res = this.client.tasks().get(t -> t.taskId(task));
+            if (res.completed()) {
+                if (res.error() != null) {
+                    throw new IllegalStateException("Backfill task %s failed: %s".formatted(task, res.error().reason()));
+                }
+                final var progress = progressOf(res.response());
+                if (progress.failures() != null && !progress.failures().isEmpty()) {
+                    throw new IllegalStateException("Backfill task %s failed: %s".formatted(task, progress.failures()));
+                }
+                update(name, it -> it.backfilling(task, progress.total(), progress.created(), progress.updated(), progress.versionConflicts()));
+                return;
+            }
+
+            final var progress = progressOf(res.task().status());
+            update(name, it -> it.backfilling(task, progress.total(), progress.created(), progress.updated(), progress.versionConflicts()));
+            Thread.sleep(POLL_INTERVAL);
+        }
+    }
+
+    private long reconcile(final String source, final String target, final Class<?> type) {
+        final var idsOnly = new FetchSourceFilter(null, new String[]{"*"});
+        final var query = NativeQuery.builder()
+                .withQuery(QueryBuilders.matchAll(m -> m))
+                .withSourceFilter(idsOnly)
+                .withPageable(PageRequest.of(0, RECONCILE_BATCH_SIZE))
+                .build();
+
+        var removed = 0L;
+        try (final var hits = this.operations.searchForStream(query, type, IndexCoordinates.of(target))) {
+            final var batches = Iterators.partition(hits, RECONCILE_BATCH_SIZE);
+            while (batches.hasNext()) {
+                final var ids = batches.next().stream().map(SearchHit::getId).toList();
+                final var live = this.operations.multiGet(
+                        NativeQuery.builder().withIds(ids).withSourceFilter(idsOnly).build(),
+                        type,
+                        IndexCoordinates.of(source)
+                );
+
+                final var deleted = new ArrayList<String>();
+                for (var i = 0; i < ids.size(); i++) {
+                    if (!live.get(i).hasItem()) {
+                        deleted.add(ids.get(i));
+                    }
+                }
+                if (!deleted.isEmpty()) {
+                    this.operations.delete(DeleteQuery.builder(NativeQuery.builder().withIds(deleted).build()).build(), type, IndexCoordinates.of(target));
+                    removed += deleted.size();
+                }
+            }
+        }
+        return removed;
+    }
+
+    private void swapRetaining(final SearchIndices.Layout layout, final String target) throws IOException {
+        if (layout.isVersioned() || this.retainedVersions == 0) {
+            swap(layout, target);
+            return;
+        }
+
+        // writes to the old index fail until the swap, the listeners retry them against the new one
+        final var source = layout.readIndex();
+        final var snapshot = SearchIndices.versioned(layout.name(), 0);
+        this.client.indices().addBlock(b -> b.index(source).block(IndicesBlockOptions.Write));
+        try {
+            this.client.indices().clone(c -> c.index(source).target(snapshot));
+        } catch (final IOException | RuntimeException e) {
+            unblock(source);
+            throw e;
+        }
+        try {
+            swap(layout, target);
+        } catch (final IOException | RuntimeException e) {
+            unblock(source);
+            drop(snapshot);
+            throw e;
+        }
+    }
+
+    private List<String> prune(final String name) {
+        final List<String> retired;
+        try {
+            retired = this.indices.layout(name).retired();
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to list the retired versions of {}, they are left in place", name, e);
+            return List.of();
+        }
+        final var retained = retired.subList(0, Math.min(this.retainedVersions, retired.size()));
+        retired.subList(retained.size(), retired.size()).forEach(index -> {
+            LOG.info("Deleting retired search index {}", index);
+            drop(index);
+        });
+        return List.copyOf(retained);
+    }
+
+    private void unblock(final String index) {
+        try {
+            this.client.indices().putSettings(p -> p.index(index).settings(s -> s.blocks(b -> b.write(false))));
+        } catch (final IOException | RuntimeException e) {
+            LOG.error("Failed to remove the write block of index {}", index, e);
+        }
+    }
+
+    private void swap(final SearchIndices.Layout layout, final String target) throws IOException {
+        final var name = layout.name();
+        final var writeAlias = SearchIndices.writeAlias(name);
+
+        this.client.indices().updateAliases(u -> {
+            if (layout.isVersioned()) {
+                u.actions(a -> a.remove(r -> r.index(layout.readIndex()).alias(name)));
+                if (layout.writeIndex() != null) {
+                    u.actions(a -> a.remove(r -> r.index(layout.writeIndex()).alias(writeAlias)));
+                }
+            } else {
+                // an index created before the aliases shares the read alias name, it has to go in the same request
+                u.actions(a -> a.removeIndex(r -> r.index(layout.readIndex())));
+            }
+            return u
+                    .actions(a -> a.add(add -> add.index(target).alias(name)))
+                    .actions(a -> a.add(add -> add.index(target).alias(writeAlias).isWriteIndex(true)))
+                    .actions(a -> a.remove(r -> r.index(target).alias(SearchIndices.backfillAlias(name))));
+        });
+    }
+
+    private void drop(final String target) {
+        try {
+            this.operations.indexOps(IndexCoordinates.of(target)).delete();
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to drop index {}", target, e);
+        }
+    }
+
+    private void update(final String name, final UnaryOperator<ReindexStatus> change) {
+        this.statuses.computeIfPresent(name, (key, status) -> change.apply(status));
+    }
+
+    private static Progress progressOf(final JsonData json) {
+        return json == null ? new Progress(0, 0, 0, 0, List.of()) : json.to(Progress.class);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Progress(
+            @JsonProperty("total") long total,
+            @JsonProperty("created") long created,
+            @JsonProperty("updated") long updated,
+            @JsonProperty("version_conflicts") long versionConflicts,
+            @JsonProperty("failures") List<Object> failures
+    ) {
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.StaleWriteHandler;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sends every write to the write targets of a logical index, so a reindex in progress keeps receiving the
+ * changes made after its backfill started. Targets are refreshed after each write, as the repositories did, and
+ * the cached search results of the index are invalidated once the write is visible.
+ * <p>
+ * Upserts and deletes of an id in an {@link ExternalVersions} scope are versioned by the binlog position of their
+ * event, so an older upsert is dropped as stale, while a delete older than the document is an error. The delete
+ * tombstone only outranks late upserts for {@code index.gc_deletes} (see {@code elasticsearch/index-settings.json}):
+ * a DLT replay or a reindex of the deleted row arriving later than that brings the document back.
+ */
+@Component
+@Profile("!dev")
+public class SearchIndexWriter {
+    private final ElasticsearchOperations operations;
+    private final ElasticsearchClient client;
+    private final SearchIndices indices;
+    private final StaleWriteHandler staleWriteHandler;
+    private final QueryResultCaches resultCaches;
+
+    public SearchIndexWriter(
+            final ElasticsearchOperations operations,
+            final ElasticsearchClient client,
+            final SearchIndices indices,
+            final StaleWriteHandler staleWriteHandler,
+            final QueryResultCaches resultCaches
+    ) {
+        this.operations = Objects.requireNonNull(operations);
+        this.client = Objects.requireNonNull(client);
+        this.indices = Objects.requireNonNull(indices);
+        this.staleWriteHandler = Objects.requireNonNull(staleWriteHandler);
+        this.resultCaches = Objects.requireNonNull(resultCaches);
+    }
+
+    public void save(final String index, final String id, final VersionedDocument document) {
+        versioned(document);
+        for (final var target : this.indices.writeTargets(index)) {
+            this.staleWriteHandler.save(index, id, () -> this.operations.save(document, target));
+            refresh(target);
+        }
+        this.resultCaches.invalidate(index);
+    }
+
+    public void saveAll(final String index, final List<? extends VersionedDocument> documents) {
+        documents.forEach(SearchIndexWriter::versioned);
+        for (final var target : this.indices.writeTargets(index)) {
+            this.staleWriteHandler.saveAll(index, () -> this.operations.save(documents, target));
+            refresh(target);
+        }
+        this.resultCaches.invalidate(index);
+    }
+
+    public void deleteById(final String index, final String id) {
+        deleteAllById(index, Set.of(id));
+    }
+
+    public void deleteAllById(final String index, final Set<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        for (final var target : this.indices.writeTargets(index)) {
+            delete(target, ids);
+            refresh(target);
+        }
+        this.resultCaches.invalidate(index);
+    }
+
+    private static void versioned(final VersionedDocument document) {
+        document.setVersion(ExternalVersions.of(document.id()));
+    }
+
+    private void delete(final IndexCoordinates target, final Collection<String> ids) {
+        final var request = BulkRequest.of(b -> b.operations(ids.stream()
+                .map(id -> BulkOperation.of(op -> op.delete(d -> {
+                    d.index(target.getIndexName()).id(id);
+                    final var version = ExternalVersions.of(id);
+                    if (version != null) {
+                        d.version(version).versionType(VersionType.ExternalGte);
+                    }
+                    return d;
+                })))
+                .toList()));
+
+        final List<BulkResponseItem> items;
+        try {
+            items = this.client.bulk(request).items();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to delete from %s".formatted(target.getIndexName()), e);
+        }
+
+        final var failures = new HashMap<String, BulkFailureException.FailureDetails>();
+        for (final var item : items) {
+            if (item.error() != null) {
+                failures.put(item.id(), new BulkFailureException.FailureDetails(item.status(), item.error().reason()));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new BulkFailureException("Bulk delete has failures", failures);
+        }
+    }
+
+    private void refresh(final IndexCoordinates target) {
+        this.operations.indexOps(target).refresh();
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.github.gabrielmsouza.catalogo.infrastructure.castmember.persistence.CastMemberDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.category.persistence.CategoryDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.exceptions.NotFoundException;
+import io.github.gabrielmsouza.catalogo.infrastructure.genre.persistence.GenreDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.video.persistence.VideoDocument;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Layout of the versioned search indices. Every logical index name (the one in {@code @Document}) is a read alias
+ * over a physical {@code <name>_v<n>} index, writes go through {@code <name>_write}, and while a reindex backfills
+ * the next version it is tagged with {@code <name>_backfill} so every writer also sends its changes there.
+ * An index created before the aliases existed is still read and written through its concrete name (version 0).
+ * Versions left without any alias by a reindex are retired, kept around for a rollback until pruned.
+ */
+@Component
+@Profile("!dev")
+public class SearchIndices {
+    private static final Logger LOG = LoggerFactory.getLogger(SearchIndices.class);
+
+    private static final String WRITE_SUFFIX = "_write";
+    private static final String BACKFILL_SUFFIX = "_backfill";
+    private static final String VERSION_SUFFIX = "_v";
+    private static final Duration TARGETS_TTL = Duration.ofSeconds(5);
+
+    private static final List<Class<?>> DOCUMENTS = List.of(
+            CategoryDocument.class,
+            CastMemberDocument.class,
+            GenreDocument.class,
+            VideoDocument.class
+    );
+
+    private final ElasticsearchOperations operations;
+    private final ElasticsearchClient client;
+    private final Map<String, Class<?>> documents;
+    private final Map<String, Targets> targets;
+
+    public SearchIndices(final ElasticsearchOperations operations, final ElasticsearchClient client) {
+        this.operations = Objects.requireNonNull(operations);
+        this.client = Objects.requireNonNull(client);
+        this.documents = new LinkedHashMap<>();
+        this.targets = new ConcurrentHashMap<>();
+        DOCUMENTS.forEach(type -> this.documents.put(operations.getIndexCoordinatesFor(type).getIndexName(), type));
+    }
+
+    @PostConstruct
+    void bootstrap() {
+        this.documents.keySet().forEach(name -> {
+            try {
+                ensureExists(name);
+            } catch (final Exception e) {
+                LOG.error("Failed to bootstrap index {}, it will be retried on the next write", name, e);
+            }
+        });
+    }
+
+    public Set<String> names() {
+        return this.documents.keySet();
+    }
+
+    public Class<?> documentOf(final String name) {
+        final var type = this.documents.get(name);
+        if (type == null) {
+            throw NotFoundException.with("Search index '%s' was not found".formatted(name));
+        }
+        return type;
+    }
+
+    public Layout layout(final String name) {
+        documentOf(name);
+        try {
+            final var aliases = this.client.indices().getAlias(g -> g.index(name + "*")).result();
+
+            String readIndex = null;
+            String writeIndex = null;
+            final var backfill = new ArrayList<String>();
+            final var retired = new LinkedHashMap<String, Integer>();
+            var version = -1;
+
+            final var versioned = Pattern.compile(Pattern.quote(name + VERSION_SUFFIX) + "(\\d+)");
+            for (final var entry : aliases.entrySet()) {
+                final var index = entry.getKey();
+                final var indexAliases = entry.getValue().aliases().keySet();
+                if (index.equals(name)) {
+                    readIndex = index;
+                    writeIndex = index;
+                    version = Math.max(version, 0);
+                    continue;
+                }
+
+                final var matcher = versioned.matcher(index);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                final var indexVersion = Integer.parseInt(matcher.group(1));
+                version = Math.max(version, indexVersion);
+
+                if (indexAliases.isEmpty()) {
+                    retired.put(index, indexVersion);
+                }
+                if (indexAliases.contains(name)) {
+                    readIndex = index;
+                }
+                if (indexAliases.contains(writeAlias(name))) {
+                    writeIndex = index;
+                }
+                if (indexAliases.contains(backfillAlias(name))) {
+                    backfill.add(index);
+                }
+            }
+            final var retiredByVersion = retired.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            return new Layout(name, readIndex, writeIndex, List.copyOf(backfill), retiredByVersion, version);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<IndexCoordinates> writeTargets(final String name) {
+        final var now = System.nanoTime();
+        final var current = this.targets.get(name);
+        if (current != null && now - current.resolvedAt() < TARGETS_TTL.toNanos()) {
+            return current.indices();
+        }
+
+        final var layout = ensureExists(name);
+        if (layout.readIndex() == null) {
+            throw new IllegalStateException("Search index %s is not available".formatted(name));
+        }
+
+        final var indices = new ArrayList<IndexCoordinates>();
+        indices.add(IndexCoordinates.of(layout.isVersioned() ? writeAlias(name) : name));
+        layout.backfill().forEach(index -> indices.add(IndexCoordinates.of(index)));
+
+        final var resolved = List.copyOf(indices);
+        this.targets.put(name, new Targets(resolved, now));
+        return resolved;
+    }
+
+    public void invalidate(final String name) {
+        this.targets.remove(name);
+    }
+
+    public Duration targetsTtl() {
+        return TARGETS_TTL;
+    }
+
+    public String create(final String name, final int version, final boolean aliased) {
+        final var type = documentOf(name);
+        final var index = versioned(name, version);
+        final var entityOps = this.operations.indexOps(type);
+
+        this.operations.indexOps(IndexCoordinates.of(index)).create(entityOps.createSettings(type), entityOps.createMapping(type));
+        if (aliased) {
+            try {
+                this.client.indices().updateAliases(u -> u
+                        .actions(a -> a.add(add -> add.index(index).alias(name)))
+                        .actions(a -> a.add(add -> add.index(index).alias(writeAlias(name)).isWriteIndex(true)))
+                );
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        LOG.info("Created search index {} for {}", index, name);
+        return index;
+    }
+
+    public static String versioned(final String name, final int version) {
+        return name + VERSION_SUFFIX + version;
+    }
+
+    public static String writeAlias(final String name) {
+        return name + WRITE_SUFFIX;
+    }
+
+    public static String backfillAlias(final String name) {
+        return name + BACKFILL_SUFFIX;
+    }
+
+    private Layout ensureExists(final String name) {
+        final var layout = layout(name);
+        if (layout.readIndex() != null) {
+            return layout;
+        }
+        try {
+            create(name, Math.max(layout.version() + 1, 1), true);
+        } catch (final RuntimeException e) {
+            LOG.warn("Index {} was not created, another instance may have created it first", name, e);
+        }
+        return layout(name);
+    }
+
+    /**
+     * {@code retired} lists the versions without any alias, newest first.
+     */
+    public record Layout(String name, String readIndex, String writeIndex, List<String> backfill, List<String> retired, int version) {
+        public boolean isVersioned() {
+            return readIndex != null && !readIndex.equals(name);
+        }
+    }
+
+    private record Targets(List<IndexCoordinates> indices, long resolvedAt) {
+    }
+}
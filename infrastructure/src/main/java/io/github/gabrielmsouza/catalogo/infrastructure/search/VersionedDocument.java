@@ -0,0 +1,7 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.search;
+
+public interface VersionedDocument {
+    String id();
+
+    void setVersion(Long version);
+}
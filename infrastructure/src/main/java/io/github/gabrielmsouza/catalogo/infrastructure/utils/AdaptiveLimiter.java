@@ -0,0 +1,158 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import com.google.common.base.Ticker;
+import io.github.gabrielmsouza.catalogo.infrastructure.exceptions.LimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Caps the calls in flight to one admin API with an AIMD limit: a call that fails or takes longer than the slow
+ * call threshold multiplies the limit by {@value #BACKOFF_RATIO}, and a fast call made while at least half the limit
+ * was in use raises it by one. Callers over the limit wait up to {@code maxWait} for a slot before being rejected.
+ */
+public final class AdaptiveLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private static final String LIMIT_METRIC = "catalogo.http.concurrency.limit";
+    private static final String IN_FLIGHT_METRIC = "catalogo.http.concurrency.in-flight";
+    private static final String WAITING_METRIC = "catalogo.http.concurrency.waiting";
+    private static final String REJECTED_METRIC = "catalogo.http.concurrency.rejected";
+    private static final String NAMESPACE_TAG = "namespace";
+
+    private final String namespace;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long maxWaitNanos;
+    private final long slowCallNanos;
+    private final Ticker ticker;
+    private final ReentrantLock lock;
+    private final Condition released;
+    private final Counter rejected;
+
+    private volatile double limit;
+    private volatile int inFlight;
+    private volatile int waiting;
+
+    public AdaptiveLimiter(
+            final String namespace,
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final Duration maxWait,
+            final Duration slowCall,
+            final MeterRegistry meterRegistry
+    ) {
+        this(namespace, initialLimit, minLimit, maxLimit, maxWait, slowCall, meterRegistry, Ticker.systemTicker());
+    }
+
+    AdaptiveLimiter(
+            final String namespace,
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final Duration maxWait,
+            final Duration slowCall,
+            final MeterRegistry meterRegistry,
+            final Ticker ticker
+    ) {
+        this.namespace = namespace;
+        this.minLimit = Math.max(minLimit, 1);
+        this.maxLimit = Math.max(maxLimit, this.minLimit);
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.slowCallNanos = slowCall.toNanos();
+        this.ticker = ticker;
+        this.lock = new ReentrantLock();
+        this.released = this.lock.newCondition();
+
+        Gauge.builder(LIMIT_METRIC, this, AdaptiveLimiter::limit)
+                .description("Current adaptive limit of concurrent calls to the admin API")
+                .tag(NAMESPACE_TAG, namespace)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, this, AdaptiveLimiter::inFlight)
+                .description("Calls to the admin API in flight")
+                .tag(NAMESPACE_TAG, namespace)
+                .register(meterRegistry);
+        Gauge.builder(WAITING_METRIC, this, AdaptiveLimiter::waiting)
+                .description("Calls waiting for the adaptive limit to admit them")
+                .tag(NAMESPACE_TAG, namespace)
+                .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("Calls rejected after waiting the max wait for the adaptive limit")
+                .tag(NAMESPACE_TAG, namespace)
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(final Supplier<T> call) {
+        acquire();
+        final var start = this.ticker.read();
+        final T result;
+        try {
+            result = call.get();
+        } catch (final RuntimeException | Error e) {
+            release(this.ticker.read() - start, true);
+            throw e;
+        }
+        release(this.ticker.read() - start, false);
+        return result;
+    }
+
+    public int limit() {
+        return (int) this.limit;
+    }
+
+    public int inFlight() {
+        return this.inFlight;
+    }
+
+    public int waiting() {
+        return this.waiting;
+    }
+
+    private void acquire() {
+        this.lock.lock();
+        try {
+            var remaining = this.maxWaitNanos;
+            while (this.inFlight >= limit()) {
+                if (remaining <= 0) {
+                    this.rejected.increment();
+                    throw LimitExceededException.with("Concurrency limit of %s is reached [limit:%d]".formatted(this.namespace, limit()));
+                }
+                this.waiting++;
+                try {
+                    remaining = this.released.awaitNanos(remaining);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw LimitExceededException.with("Interrupted while waiting for the concurrency limit of %s".formatted(this.namespace));
+                } finally {
+                    this.waiting--;
+                }
+            }
+            this.inFlight++;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void release(final long elapsedNanos, final boolean failed) {
+        this.lock.lock();
+        try {
+            final var inUse = this.inFlight;
+            this.inFlight--;
+            if (failed || elapsedNanos > this.slowCallNanos) {
+                this.limit = Math.max(this.minLimit, this.limit * BACKOFF_RATIO);
+            } else if (inUse * 2 >= this.limit) {
+                this.limit = Math.min(this.maxLimit, this.limit + 1);
+            }
+            this.released.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
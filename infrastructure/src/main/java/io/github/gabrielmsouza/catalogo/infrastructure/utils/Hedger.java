@@ -0,0 +1,190 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.HedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second copy of a call that has not answered after the configured percentile of the recent latencies and
+ * returns whichever copy succeeds first. Every call earns {@code budget} of a hedge and a hedge spends a whole one,
+ * so at most that fraction of the calls is ever sent twice.
+ */
+public final class Hedger {
+    private static final int WINDOW = 512;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 32;
+    private static final long HEDGE_COST = 1_000;
+    private static final long MAX_BALANCE = 10 * HEDGE_COST;
+
+    private static final String METRIC = "catalogo.http.hedges";
+    private static final String NAMESPACE_TAG = "namespace";
+    private static final String RESULT_TAG = "result";
+
+    private final HedgingProperties.Settings settings;
+    private final Executor executor;
+    private final AtomicLongArray latencies;
+    private final AtomicLong samples;
+    private final AtomicLong balance;
+    private final long earnedPerCall;
+    private final long minDelayNanos;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter denied;
+
+    private volatile long delayNanos;
+
+    public Hedger(
+            final String namespace,
+            final HedgingProperties.Settings settings,
+            final Executor executor,
+            final MeterRegistry meterRegistry
+    ) {
+        this.settings = settings;
+        this.executor = executor;
+        this.latencies = new AtomicLongArray(WINDOW);
+        this.samples = new AtomicLong();
+        this.balance = new AtomicLong();
+        this.earnedPerCall = Math.round(settings.budget() * HEDGE_COST);
+        this.minDelayNanos = settings.minDelay().toNanos();
+        this.delayNanos = Long.MAX_VALUE;
+        this.sent = counter(namespace, "sent", meterRegistry);
+        this.won = counter(namespace, "won", meterRegistry);
+        this.denied = counter(namespace, "denied", meterRegistry);
+    }
+
+    public <T> T execute(final Supplier<T> call) {
+        if (!this.settings.enabled()) {
+            return call.get();
+        }
+        earn();
+
+        final var delay = this.delayNanos;
+        if (delay == Long.MAX_VALUE) {
+            return timed(call);
+        }
+
+        final var primary = CompletableFuture.supplyAsync(() -> timed(call), this.executor);
+        try {
+            return primary.get(delay, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            // not answered within the hedge delay
+        } catch (final ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(false);
+            throw new IllegalStateException("Interrupted while waiting for a hedged call", e);
+        }
+
+        if (!spend()) {
+            this.denied.increment();
+            return join(primary);
+        }
+        this.sent.increment();
+        final var hedge = CompletableFuture.supplyAsync(() -> timed(call), this.executor);
+        return join(first(primary, hedge));
+    }
+
+    long delayNanos() {
+        return this.delayNanos;
+    }
+
+    private <T> CompletableFuture<T> first(final CompletableFuture<T> primary, final CompletableFuture<T> hedge) {
+        final var result = new CompletableFuture<T>();
+        final var failures = new AtomicInteger();
+        primary.whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(ex);
+            }
+        });
+        hedge.whenComplete((value, ex) -> {
+            if (ex == null) {
+                if (result.complete(value)) {
+                    this.won.increment();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+
+    private <T> T timed(final Supplier<T> call) {
+        final var start = System.nanoTime();
+        final var result = call.get();
+        record(System.nanoTime() - start);
+        return result;
+    }
+
+    private void record(final long nanos) {
+        final var sample = this.samples.getAndIncrement();
+        this.latencies.set((int) (sample % WINDOW), nanos);
+        final var count = sample + 1;
+        if (count >= MIN_SAMPLES && (count == MIN_SAMPLES || count % RECOMPUTE_EVERY == 0)) {
+            final var size = (int) Math.min(count, WINDOW);
+            final var window = new long[size];
+            for (var i = 0; i < size; i++) {
+                window[i] = this.latencies.get(i);
+            }
+            Arrays.sort(window);
+            final var index = (int) Math.min(size - 1, Math.ceil(this.settings.percentile() / 100 * size) - 1);
+            this.delayNanos = Math.max(this.minDelayNanos, window[Math.max(index, 0)]);
+        }
+    }
+
+    private void earn() {
+        this.balance.accumulateAndGet(this.earnedPerCall, (current, earned) -> Math.min(MAX_BALANCE, current + earned));
+    }
+
+    private boolean spend() {
+        while (true) {
+            final var current = this.balance.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+            if (this.balance.compareAndSet(current, current - HEDGE_COST)) {
+                return true;
+            }
+        }
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException ex) {
+            return ex;
+        }
+        if (t instanceof Error err) {
+            throw err;
+        }
+        return new CompletionException(t);
+    }
+
+    private static Counter counter(final String namespace, final String result, final MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC)
+                .description("Hedged admin API calls by outcome: sent, won by the hedge, or denied by the budget")
+                .tag(NAMESPACE_TAG, namespace)
+                .tag(RESULT_TAG, result)
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.utils;
 
+import com.google.common.collect.Lists;
 import io.github.gabrielmsouza.catalogo.domain.exceptions.InternalErrorException;
+import io.github.gabrielmsouza.catalogo.infrastructure.exceptions.LimitExceededException;
 import io.github.gabrielmsouza.catalogo.infrastructure.exceptions.NotFoundException;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.http.HttpStatus;
@@ -10,8 +12,15 @@ import org.springframework.web.client.RestClient.ResponseSpec.ErrorHandler;
 
 import java.net.http.HttpConnectTimeoutException;
 import java.net.http.HttpTimeoutException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -21,6 +30,16 @@ public interface HttpClient {
 
     String namespace();
 
+    SingleFlight singleFlight();
+
+    NegativeCache negativeCache();
+
+    AdaptiveLimiter limiter();
+
+    Hedger hedger();
+
+    ExecutorService executor();
+
     default ErrorHandler notFoundHandler(final String id) {
         return (req, rest) -> {
             throw NotFoundException.with("Not found observed from %s [resourceId:%s]".formatted(namespace(), id));
@@ -34,11 +53,68 @@ public interface HttpClient {
     }
 
     default <T> Optional<T> doGet(final String id, final Supplier<T> fn) {
-        try {
-            return Optional.ofNullable(fn.get());
-        } catch (NotFoundException e) {
+        if (negativeCache().isNotFound(id)) {
             return Optional.empty();
-        }  catch (ResourceAccessException ex) {
+        }
+        final Optional<T> result = singleFlight().execute(id, () -> doGetOnce(id, fn));
+        if (result.isEmpty()) {
+            negativeCache().notFound(id);
+        }
+        return result;
+    }
+
+    /**
+     * Runs a blocking call on the client's virtual thread executor, for the methods returning a future.
+     */
+    default <T> CompletableFuture<T> doAsync(final Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor());
+    }
+
+    /**
+     * Fetches the ids in chunks of {@code batchSize}, one request per chunk; ids the server does not return are
+     * simply absent from the result (and remembered as not found), and a failing chunk fails the whole call.
+     */
+    default <T> Map<String, T> doGetAll(
+            final Set<String> ids,
+            final int batchSize,
+            final Function<T, String> idOf,
+            final Function<List<String>, List<T>> fn
+    ) {
+        final var pending = ids.stream().filter(id -> !negativeCache().isNotFound(id)).toList();
+        final var found = new LinkedHashMap<String, T>();
+        for (final var chunk : Lists.partition(pending, Math.max(batchSize, 1))) {
+            final var items = call(String.join(",", chunk), () -> limited(() -> fn.apply(chunk), List::<T>of));
+            for (final var item : items) {
+                final var id = idOf.apply(item);
+                if (ids.contains(id)) {
+                    found.put(id, item);
+                }
+            }
+            chunk.stream().filter(id -> !found.containsKey(id)).forEach(negativeCache()::notFound);
+        }
+        return found;
+    }
+
+    private <T> Optional<T> doGetOnce(final String id, final Supplier<T> fn) {
+        return call(id, () -> hedger().execute(() -> limited(() -> Optional.ofNullable(fn.get()), Optional::empty)));
+    }
+
+    private <R> R limited(final Supplier<R> fn, final Supplier<R> notFound) {
+        return limiter().execute(() -> {
+            try {
+                return fn.get();
+            } catch (NotFoundException e) {
+                return notFound.get();
+            }
+        });
+    }
+
+    private <R> R call(final String id, final Supplier<R> fn) {
+        try {
+            return fn.get();
+        } catch (LimitExceededException ex) {
+            throw ex;
+        } catch (ResourceAccessException ex) {
             throw handleResourceAccessException(id, ex);
         } catch (Throwable t) {
             throw handleThrowable(id, t);
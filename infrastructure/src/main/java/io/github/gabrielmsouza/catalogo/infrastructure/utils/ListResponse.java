@@ -0,0 +1,9 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import java.util.List;
+
+public record ListResponse<T>(List<T> items) {
+    public ListResponse {
+        items = items != null ? items : List.of();
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * Remembers, for a short ttl and up to a bounded number of ids, which resources the admin API answered with a 404,
+ * so repeated lookups of deleted or not yet replicated ids do not reach the API again.
+ */
+public final class NegativeCache {
+    private static final String METRIC = "catalogo.http.negative-cache";
+    private static final String NAMESPACE_TAG = "namespace";
+    private static final String RESULT_TAG = "result";
+
+    private final Cache<String, Boolean> notFound;
+    private final Counter hits;
+    private final Counter misses;
+
+    public NegativeCache(final String namespace, final Duration ttl, final int maxEntries, final MeterRegistry meterRegistry) {
+        this(namespace, ttl, maxEntries, meterRegistry, Ticker.systemTicker());
+    }
+
+    NegativeCache(final String namespace, final Duration ttl, final int maxEntries, final MeterRegistry meterRegistry, final Ticker ticker) {
+        this.notFound = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .ticker(ticker)
+                .build();
+        this.hits = counter(namespace, "hit", meterRegistry);
+        this.misses = counter(namespace, "miss", meterRegistry);
+    }
+
+    public boolean isNotFound(final String id) {
+        if (this.notFound.getIfPresent(id) != null) {
+            this.hits.increment();
+            return true;
+        }
+        this.misses.increment();
+        return false;
+    }
+
+    public void notFound(final String id) {
+        this.notFound.put(id, Boolean.TRUE);
+    }
+
+    public void forget(final String id) {
+        this.notFound.invalidate(id);
+    }
+
+    public void clear() {
+        this.notFound.invalidateAll();
+    }
+
+    private static Counter counter(final String namespace, final String result, final MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC)
+                .description("Lookups answered by the cache of ids the admin API reported as not found")
+                .tag(NAMESPACE_TAG, namespace)
+                .tag(RESULT_TAG, result)
+                .register(meterRegistry);
+    }
+}
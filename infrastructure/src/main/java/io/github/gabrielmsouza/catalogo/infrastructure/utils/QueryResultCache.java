@@ -0,0 +1,89 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.QueryCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches search results by query under the index generation, which every write to the index bumps.
+ */
+public final class QueryResultCache {
+    private static final String METRIC = "catalogo.search.results";
+    private static final String SIZE_METRIC = "catalogo.search.results.size";
+    private static final String INDEX_TAG = "index";
+    private static final String RESULT_TAG = "result";
+
+    private final boolean enabled;
+    private final Cache<Key, Object> entries;
+    private final AtomicLong generation;
+    private final Counter hits;
+    private final Counter misses;
+
+    public QueryResultCache(final String index, final QueryCacheProperties.Settings settings, final MeterRegistry meterRegistry) {
+        this(index, settings, meterRegistry, Ticker.systemTicker());
+    }
+
+    QueryResultCache(
+            final String index,
+            final QueryCacheProperties.Settings settings,
+            final MeterRegistry meterRegistry,
+            final Ticker ticker
+    ) {
+        this.enabled = settings.enabled();
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(settings.maxEntries())
+                .expireAfterWrite(settings.ttl())
+                .ticker(ticker)
+                .build();
+        this.generation = new AtomicLong();
+        this.hits = counter(index, "hit", meterRegistry);
+        this.misses = counter(index, "miss", meterRegistry);
+
+        Gauge.builder(SIZE_METRIC, this.entries, Cache::size)
+                .description("Search results held in the query result cache")
+                .tag(INDEX_TAG, index)
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> R get(final Object query, final Supplier<R> search) {
+        if (!this.enabled) {
+            return search.get();
+        }
+        final var key = new Key(this.generation.get(), query);
+        final var cached = (R) this.entries.getIfPresent(key);
+        if (cached != null) {
+            this.hits.increment();
+            return cached;
+        }
+        this.misses.increment();
+        final var result = search.get();
+        if (result != null) {
+            this.entries.put(key, result);
+        }
+        return result;
+    }
+
+    public void invalidate() {
+        this.generation.incrementAndGet();
+        this.entries.invalidateAll();
+    }
+
+    private record Key(long generation, Object query) {
+    }
+
+    private static Counter counter(final String index, final String result, final MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC)
+                .description("Searches answered from the query result cache")
+                .tag(INDEX_TAG, index)
+                .tag(RESULT_TAG, result)
+                .register(meterRegistry);
+    }
+}
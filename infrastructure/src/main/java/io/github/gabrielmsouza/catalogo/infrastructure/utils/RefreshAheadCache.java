@@ -0,0 +1,253 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Serves entries close to or just past their ttl as they are while the registered loader reloads them in the
+ * background.
+ */
+public class RefreshAheadCache implements Cache {
+    private static final Logger LOG = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+    private static final Object FENCED = new Object();
+
+    private final Cache delegate;
+    private final long refreshAfter;
+    private final long expireAfter;
+    private final Executor executor;
+    private final Clock clock;
+    private final Map<Object, Object> refreshing;
+    private final Map<Object, CompletableFuture<Object>> loading;
+    private volatile Function<Object, ?> loader;
+
+    public RefreshAheadCache(
+            final Cache delegate,
+            final Duration ttl,
+            final Duration refreshAhead,
+            final Duration staleWhileRevalidate,
+            final Executor executor,
+            final Clock clock
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.refreshAfter = ttl.minus(refreshAhead).toMillis();
+        this.expireAfter = ttl.plus(staleWhileRevalidate).toMillis();
+        this.executor = Objects.requireNonNull(executor);
+        this.clock = Objects.requireNonNull(clock);
+        this.refreshing = new ConcurrentHashMap<>();
+        this.loading = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Background reloads go through this loader, which returns the value to cache or null when there is none.
+     */
+    public void loader(final Function<Object, ?> loader) {
+        this.loader = Objects.requireNonNull(loader);
+    }
+
+    @Override
+    public String getName() {
+        return this.delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        final var entry = entryOf(key);
+        return entry != null ? new SimpleValueWrapper(entry.value()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+        final var entry = entryOf(key);
+        final var value = entry != null ? entry.value() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [%s]: %s".formatted(type.getName(), value));
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        final var entry = entryOf(key);
+        if (entry == null) {
+            return (T) loadOnce(key, valueLoader);
+        }
+
+        if (ageOf(entry) >= this.refreshAfter) {
+            refresh(key);
+        }
+        return (T) entry.value();
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        fenced(key, () -> write(key, value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        final var existing = fenced(key, () -> this.delegate.putIfAbsent(key, new Stamped(value, this.clock.millis())));
+        if (existing != null && existing.get() instanceof Stamped stamped) {
+            return new SimpleValueWrapper(stamped.value());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(final Object key) {
+        fenced(key, () -> this.delegate.evict(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        return fenced(key, () -> this.delegate.evictIfPresent(key));
+    }
+
+    @Override
+    public void clear() {
+        this.refreshing.replaceAll((key, refresh) -> FENCED);
+        this.delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        this.refreshing.replaceAll((key, refresh) -> FENCED);
+        return this.delegate.invalidate();
+    }
+
+    private Stamped entryOf(final Object key) {
+        final var wrapper = this.delegate.get(key);
+        if (wrapper == null || !(wrapper.get() instanceof Stamped stamped) || ageOf(stamped) >= this.expireAfter) {
+            return null;
+        }
+        return stamped;
+    }
+
+    private long ageOf(final Stamped entry) {
+        return this.clock.millis() - entry.loadedAt();
+    }
+
+    private void refresh(final Object key) {
+        final var loader = this.loader;
+        final var refresh = new Object();
+        if (loader == null || this.refreshing.putIfAbsent(key, refresh) != null) {
+            return;
+        }
+        try {
+            this.executor.execute(() -> {
+                try {
+                    final var value = loader.apply(key);
+                    // a put or evict while the reload ran fenced it, its value is older than theirs
+                    this.refreshing.computeIfPresent(key, (k, current) -> {
+                        if (current == refresh) {
+                            write(key, value);
+                        }
+                        return current;
+                    });
+                } catch (final Exception e) {
+                    LOG.warn("Failed to refresh cache entry, serving the stale value [cache:{}] [key:{}]", getName(), key, e);
+                } finally {
+                    this.refreshing.remove(key);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            this.refreshing.remove(key);
+        }
+    }
+
+    private <T> T fenced(final Object key, final Supplier<T> write) {
+        final var result = new AtomicReference<T>();
+        this.refreshing.compute(key, (k, refresh) -> {
+            result.set(write.get());
+            return refresh == null ? null : FENCED;
+        });
+        return result.get();
+    }
+
+    private void fenced(final Object key, final Runnable write) {
+        fenced(key, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    private void write(final Object key, final Object value) {
+        if (value == null) {
+            this.delegate.evict(key);
+            return;
+        }
+        this.delegate.put(key, new Stamped(value, this.clock.millis()));
+    }
+
+    private Object loadOnce(final Object key, final Callable<?> valueLoader) {
+        final var pending = new CompletableFuture<>();
+        final var current = this.loading.putIfAbsent(key, pending);
+        if (current != null) {
+            return await(current);
+        }
+
+        try {
+            // another caller may have loaded it between our miss and taking the key
+            final var entry = entryOf(key);
+            final var value = entry != null ? entry.value() : load(key, valueLoader);
+            if (entry == null) {
+                put(key, value);
+            }
+            pending.complete(value);
+            return value;
+        } catch (final Throwable t) {
+            pending.completeExceptionally(t);
+            throw t;
+        } finally {
+            this.loading.remove(key, pending);
+        }
+    }
+
+    private static Object await(final CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw e;
+        }
+    }
+
+    private static <T> T load(final Object key, final Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (final Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private record Stamped(Object value, long loadedAt) {
+    }
+}
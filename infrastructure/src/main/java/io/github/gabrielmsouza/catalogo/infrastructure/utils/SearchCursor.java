@@ -0,0 +1,127 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.gabrielmsouza.catalogo.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.catalogo.domain.pagination.Metadata;
+import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
+import io.github.gabrielmsouza.catalogo.domain.validation.Error;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque search_after cursor. Every sort gets an id tiebreaker so the cursor points to a single hit; a backward
+ * cursor is served by searching with the reversed sort and flipping the hits back.
+ */
+public final class SearchCursor {
+    private static final String TIEBREAKER = "id";
+    private static final SearchCursor NONE = new SearchCursor(List.of(), false);
+
+    private final List<Object> searchAfter;
+    private final boolean backward;
+
+    private SearchCursor(final List<Object> searchAfter, final boolean backward) {
+        this.searchAfter = searchAfter;
+        this.backward = backward;
+    }
+
+    public static SearchCursor decode(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return NONE;
+        }
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final var payload = Json.readValue(json, Payload.class);
+            if (payload.values() == null || payload.values().isEmpty()) {
+                throw invalid(cursor);
+            }
+            return new SearchCursor(payload.values(), payload.backward());
+        } catch (final DomainException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    public Pageable pageable(final int page, final int perPage, final Sort sort) {
+        final var stableSort = sort.getOrderFor(TIEBREAKER) == null ? sort.and(Sort.by(TIEBREAKER)) : sort;
+        if (this == NONE) {
+            return PageRequest.of(page, perPage, stableSort);
+        }
+        return PageRequest.of(0, perPage, this.backward ? reverse(stableSort) : stableSort);
+    }
+
+    public void applyTo(final Query query) {
+        if (this != NONE) {
+            query.setSearchAfter(this.searchAfter);
+        }
+    }
+
+    public <D, T> Pagination<T> paginate(
+            final SearchHits<D> res,
+            final int page,
+            final int perPage,
+            final Function<D, T> mapper
+    ) {
+        final var hits = new ArrayList<>(res.getSearchHits());
+        if (this.backward) {
+            Collections.reverse(hits);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!hits.isEmpty()) {
+            final var full = hits.size() >= perPage;
+            final var hasPrevious = this.backward ? full : this != NONE || page > 0;
+            final var hasNext = this.backward || full;
+
+            if (hasNext) {
+                nextCursor = encode(hits.get(hits.size() - 1), false);
+            }
+            if (hasPrevious) {
+                prevCursor = encode(hits.get(0), true);
+            }
+        }
+
+        final var data = hits.stream()
+                .map(SearchHit::getContent)
+                .map(mapper)
+                .toList();
+
+        final var exactTotal = res.getTotalHitsRelation() == TotalHitsRelation.EQUAL_TO;
+        return new Pagination<>(new Metadata(page, perPage, res.getTotalHits(), exactTotal, nextCursor, prevCursor), data);
+    }
+
+    private static String encode(final SearchHit<?> hit, final boolean backward) {
+        final var json = Json.writeValueAsString(new Payload(hit.getSortValues(), backward));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Sort reverse(final Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC))
+                .toList());
+    }
+
+    private static DomainException invalid(final String cursor) {
+        return DomainException.with(Error.with("Invalid cursor '%s'".formatted(cursor)));
+    }
+
+    record Payload(
+            @JsonProperty("v") List<Object> values,
+            @JsonProperty("b") boolean backward
+    ) {
+    }
+}
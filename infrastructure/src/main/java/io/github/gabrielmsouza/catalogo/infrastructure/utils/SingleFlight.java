@@ -0,0 +1,73 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one: the first caller runs the call and every caller that
+ * arrives while it is pending waits on the same future, sharing its result or its exception.
+ */
+public final class SingleFlight {
+    private static final String COALESCED_METRIC = "catalogo.http.requests.coalesced";
+    private static final String NAMESPACE_TAG = "namespace";
+
+    private final Map<String, CompletableFuture<Object>> inFlight;
+    private final Counter coalesced;
+
+    public SingleFlight(final String namespace, final MeterRegistry meterRegistry) {
+        this.inFlight = new ConcurrentHashMap<>();
+        this.coalesced = Counter.builder(COALESCED_METRIC)
+                .description("Callers that shared an HTTP request already in flight for the same resource")
+                .tag(NAMESPACE_TAG, namespace)
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(final String key, final Supplier<T> call) {
+        final var pending = new CompletableFuture<>();
+        final var current = this.inFlight.putIfAbsent(key, pending);
+        if (current != null) {
+            this.coalesced.increment();
+            return (T) await(current);
+        }
+
+        try {
+            final var result = call.get();
+            pending.complete(result);
+            return result;
+        } catch (final Throwable t) {
+            pending.completeExceptionally(t);
+            throw t;
+        } finally {
+            this.inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * Detaches the call in flight for the key, if any, so the next caller starts a new one instead of joining a
+     * call that was sent before the resource changed. Callers already waiting on it still get its result.
+     */
+    public void forget(final String key) {
+        this.inFlight.remove(key);
+    }
+
+    private static Object await(final CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.VersionConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+public class StaleWriteHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(StaleWriteHandler.class);
+
+    private static final String STALE_METRIC = "catalogo.elasticsearch.writes.stale";
+    private static final String INDEX_TAG = "index";
+
+    private final MeterRegistry meterRegistry;
+
+    public StaleWriteHandler(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    public void save(final String index, final String id, final Runnable write) {
+        try {
+            write.run();
+        } catch (final VersionConflictException e) {
+            LOG.info("Stale write rejected by Elasticsearch [index:{}] [id:{}]", index, id);
+            stale(index).increment();
+        }
+    }
+
+    public void saveAll(final String index, final Runnable write) {
+        try {
+            write.run();
+        } catch (final BulkFailureException e) {
+            final var failures = e.getFailedDocuments().entrySet().stream()
+                    .collect(Collectors.partitioningBy(it -> isConflict(it.getValue())));
+
+            final var conflicts = failures.get(true);
+            if (!conflicts.isEmpty()) {
+                LOG.info("Stale writes rejected by Elasticsearch [index:{}] [size:{}]", index, conflicts.size());
+                stale(index).increment(conflicts.size());
+            }
+
+            final var errors = failures.get(false);
+            if (!errors.isEmpty()) {
+                throw new BulkFailureException(
+                        e.getMessage(),
+                        errors.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+                );
+            }
+        }
+    }
+
+    private static boolean isConflict(final BulkFailureException.FailureDetails details) {
+        return details.status() != null && details.status() == HttpStatus.CONFLICT.value();
+    }
+
+    private Counter stale(final String index) {
+        return Counter.builder(STALE_METRIC)
+                .description("Writes rejected by Elasticsearch because a newer version was already indexed")
+                .tag(INDEX_TAG, index)
+                .register(this.meterRegistry);
+    }
+}
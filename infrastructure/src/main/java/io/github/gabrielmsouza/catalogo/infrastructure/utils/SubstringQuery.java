@@ -0,0 +1,35 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Substring search over the analyzed subfields declared in {@code elasticsearch/index-settings.json}: {@code .ngram}
+ * matches terms anywhere inside a word and {@code .autocomplete} covers the single-character prefixes the n-grams
+ * are too short to index.
+ */
+public final class SubstringQuery {
+    public static final String NGRAM = "ngram";
+    public static final String AUTOCOMPLETE = "autocomplete";
+
+    private SubstringQuery() {
+    }
+
+    public static Query containing(final String terms, final String... fields) {
+        final var subfields = Arrays.stream(fields)
+                .flatMap(field -> Stream.of(field + "." + NGRAM, field + "." + AUTOCOMPLETE))
+                .toList();
+
+        return QueryBuilders.multiMatch(m -> m
+                .query(terms)
+                .fields(subfields)
+                .type(TextQueryType.BestFields)
+                .operator(Operator.And)
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+public final class TotalHitsTracking {
+    public static final int APPROXIMATE_THRESHOLD = 1_000;
+
+    private TotalHitsTracking() {}
+
+    public static void applyTo(final Query query, final TotalHitsMode mode) {
+        switch (mode) {
+            case NONE -> query.setTrackTotalHits(false);
+            case APPROXIMATE -> query.setTrackTotalHitsUpTo(APPROXIMATE_THRESHOLD);
+            case EXACT -> query.setTrackTotalHits(true);
+        }
+    }
+}
@@ -2,8 +2,18 @@ package io.github.gabrielmsouza.catalogo.infrastructure.video;
 
 import io.github.gabrielmsouza.catalogo.infrastructure.video.models.VideoDTO;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface VideoClient {
     Optional<VideoDTO> videoOfId(String videoId);
+
+    /**
+     * Same call as the blocking variant on a virtual thread, it does not go through the admin cache.
+     */
+    CompletableFuture<Optional<VideoDTO>> videoOfIdAsync(String videoId);
+
+    Map<String, VideoDTO> videosOfIds(Set<String> videoIds);
 }
@@ -4,51 +4,83 @@ import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
 import io.github.gabrielmsouza.catalogo.domain.video.Video;
 import io.github.gabrielmsouza.catalogo.domain.video.VideoGateway;
 import io.github.gabrielmsouza.catalogo.domain.video.VideoSearchQuery;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.SearchIndexWriter;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SearchCursor;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.TotalHitsTracking;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.persistence.VideoDocument;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.persistence.VideoRepository;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
-import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchOperations;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.github.gabrielmsouza.catalogo.infrastructure.video.VideoQueryBuilder.*;
 
 @Component
 @Profile("!dev")
 public class VideoElasticsearchGateway implements VideoGateway {
+    private static final String INDEX = "videos";
     private static final String TITLE_PROP = "title";
     private static final String KEYWORD = ".keyword";
+    private static final Map<String, String> SOURCE_FIELDS = Map.of(
+            "launchedAt", "launched_at",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "castMembers", "cast_members"
+    );
 
     private final SearchOperations searchOperations;
     private final VideoRepository videoRepository;
+    private final SearchIndexWriter writer;
 
     public VideoElasticsearchGateway(
             final SearchOperations searchOperations,
-            final VideoRepository videoRepository
+            final VideoRepository videoRepository,
+            final SearchIndexWriter writer
     ) {
         this.searchOperations = Objects.requireNonNull(searchOperations);
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.writer = Objects.requireNonNull(writer);
     }
 
     @Override
     public Video save(final Video video) {
-        this.videoRepository.save(VideoDocument.from(video));
+        this.writer.save(INDEX, video.id(), VideoDocument.from(video));
         return video;
     }
 
+    @Override
+    public List<Video> saveAll(final List<Video> videos) {
+        if (videos == null || videos.isEmpty()) {
+            return List.of();
+        }
+        this.writer.saveAll(INDEX, videos.stream().map(VideoDocument::from).toList());
+        return videos;
+    }
+
     @Override
     public void deleteById(final String videoId) {
         if (videoId == null || videoId.isBlank()) {
             return;
         }
-        this.videoRepository.deleteById(videoId);
+        this.writer.deleteById(INDEX, videoId);
+    }
+
+    @Override
+    public void deleteAllById(final Set<String> videoIds) {
+        if (videoIds == null || videoIds.isEmpty()) {
+            return;
+        }
+        this.writer.deleteAllById(INDEX, videoIds);
     }
 
     @Override
@@ -74,25 +106,35 @@ public class VideoElasticsearchGateway implements VideoGateway {
                 titleOrDescriptionContaining(aQuery.terms())
         );
 
-        final var page = PageRequest.of(
+        final var cursor = SearchCursor.decode(aQuery.cursor());
+        final var page = cursor.pageable(
                 currentPage,
                 itemsPerPage,
                 Sort.by(Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()))
         );
 
-        final var query = NativeQuery.builder()
+        final var projection = aQuery.fields();
+
+        final var queryBuilder = NativeQuery.builder()
                 .withQuery(aQueryBuilder.build())
-                .withPageable(page)
-                .build();
+                .withPageable(page);
+
+        if (!projection.isEmpty()) {
+            queryBuilder.withSourceFilter(new FetchSourceFilter(sourceFieldsOf(projection), null));
+        }
+
+        final var query = queryBuilder.build();
+        cursor.applyTo(query);
+        TotalHitsTracking.applyTo(query, aQuery.totalHits());
 
         final var res = this.searchOperations.search(query, VideoDocument.class);
-        final var total = res.getTotalHits();
-        final var videos = res.stream()
-                .map(SearchHit::getContent)
-                .map(VideoDocument::toVideo)
-                .toList();
+        return cursor.paginate(res, currentPage, itemsPerPage, it -> projection.isEmpty() ? it.toVideo() : it.toPartialVideo());
+    }
 
-        return new Pagination<>(currentPage, itemsPerPage, total, videos);
+    private static String[] sourceFieldsOf(final Set<String> properties) {
+        return properties.stream()
+                .map(it -> SOURCE_FIELDS.getOrDefault(it, it))
+                .toArray(String[]::new);
     }
 
     private String buildSort(final String sort) {
@@ -7,8 +7,10 @@ import io.github.gabrielmsouza.catalogo.domain.video.VideoSearchQuery;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
@@ -26,11 +28,28 @@ public class VideoInMemoryGateway implements VideoGateway {
         return video;
     }
 
+    @Override
+    public List<Video> saveAll(final List<Video> videos) {
+        if (videos == null || videos.isEmpty()) {
+            return List.of();
+        }
+        videos.forEach(it -> this.db.put(it.id(), it));
+        return videos;
+    }
+
     @Override
     public void deleteById(final String videoId) {
         this.db.remove(videoId);
     }
 
+    @Override
+    public void deleteAllById(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        ids.forEach(this.db::remove);
+    }
+
     @Override
     public Optional<Video> findById(final String videoId) {
         return Optional.ofNullable(this.db.get(videoId));
@@ -3,6 +3,7 @@ package io.github.gabrielmsouza.catalogo.infrastructure.video;
 import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SubstringQuery;
 import org.springframework.util.CollectionUtils;
 
 import java.util.ArrayList;
@@ -66,7 +67,7 @@ public final class VideoQueryBuilder {
 
     public static Option titleOrDescriptionContaining(final String terms) {
         return Objects.nonNull(terms) && !terms.isBlank()
-                ? b -> b.must(queryString(q -> q.fields("title", "description").query("*" + terms + "*")))
+                ? b -> b.must(SubstringQuery.containing(terms, "title", "description"))
                 : NOOP;
     }
 
@@ -2,18 +2,34 @@ package io.github.gabrielmsouza.catalogo.infrastructure.video;
 
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.GetClientCredentials;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.Videos;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.VirtualThreads;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.HedgingProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.RestClientProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.AdaptiveLimiter;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.Hedger;
 import io.github.gabrielmsouza.catalogo.infrastructure.utils.HttpClient;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.ListResponse;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.NegativeCache;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SingleFlight;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.models.VideoDTO;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
@@ -23,23 +39,82 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 public class VideoRestClient implements VideoClient, HttpClient {
     public static final String NAMESPACE = "videos";
 
+    private static final ParameterizedTypeReference<ListResponse<VideoDTO>> LIST_TYPE = new ParameterizedTypeReference<>() {
+    };
+
     private final RestClient restClient;
+    private final RestClientProperties properties;
     private final GetClientCredentials clientCredentials;
+    private final SingleFlight singleFlight;
+    private final NegativeCache negativeCache;
+    private final AdaptiveLimiter limiter;
+    private final Hedger hedger;
+    private final ExecutorService executor;
 
     public VideoRestClient(
             @Videos final RestClient restClient,
-            final GetClientCredentials clientCredentials
+            @Videos final RestClientProperties properties,
+            final GetClientCredentials clientCredentials,
+            final HedgingProperties hedging,
+            @VirtualThreads final ExecutorService executor,
+            final ObjectProvider<MeterRegistry> meterRegistry
     ) {
         this.restClient = Objects.requireNonNull(restClient);
+        this.properties = Objects.requireNonNull(properties);
         this.clientCredentials = Objects.requireNonNull(clientCredentials);
+        this.executor = Objects.requireNonNull(executor);
+        final var registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.singleFlight = new SingleFlight(NAMESPACE, registry);
+        this.negativeCache = new NegativeCache(NAMESPACE, properties.negativeCacheTtl(), properties.negativeCacheMaxEntries(), registry);
+        this.limiter = new AdaptiveLimiter(
+                NAMESPACE,
+                properties.limitInitial(),
+                properties.limitMin(),
+                properties.limitMax(),
+                properties.limitMaxWait(),
+                properties.limitSlowCall(),
+                registry
+        );
+        this.hedger = new Hedger(NAMESPACE, hedging.settingsOf(NAMESPACE), executor, registry);
     }
 
     @Override
-    @Cacheable(key = "#videoId")
+    @Cacheable(key = "#videoId", sync = true)
     @Retry(name = NAMESPACE)
     @Bulkhead(name = NAMESPACE)
     @CircuitBreaker(name = NAMESPACE)
     public Optional<VideoDTO> videoOfId(final String videoId) {
+        return fetch(videoId);
+    }
+
+    @Override
+    @Retry(name = NAMESPACE)
+    @Bulkhead(name = NAMESPACE)
+    @CircuitBreaker(name = NAMESPACE)
+    public CompletableFuture<Optional<VideoDTO>> videoOfIdAsync(final String videoId) {
+        return doAsync(() -> fetch(videoId));
+    }
+
+    @Override
+    @Retry(name = NAMESPACE)
+    @Bulkhead(name = NAMESPACE)
+    @CircuitBreaker(name = NAMESPACE)
+    public Map<String, VideoDTO> videosOfIds(final Set<String> videoIds) {
+        final var token = this.clientCredentials.retrieve();
+        return doGetAll(videoIds, this.properties.batchSize(), VideoDTO::id, chunk -> {
+            final var ids = String.join(",", chunk);
+            return this.restClient.get()
+                    .uri(uri -> uri.queryParam("ids", ids).queryParam("perPage", chunk.size()).build())
+                    .header(AUTHORIZATION, "bearer " + token)
+                    .retrieve()
+                    .onStatus(isNotFound, notFoundHandler(ids))
+                    .onStatus(is5xx, a5xxHandler(ids))
+                    .body(LIST_TYPE)
+                    .items();
+        });
+    }
+
+    private Optional<VideoDTO> fetch(final String videoId) {
         final var token = this.clientCredentials.retrieve();
         final Supplier<VideoDTO> request = () -> this.restClient.get()
                 .uri("/{id}", videoId)
@@ -55,4 +130,29 @@ public class VideoRestClient implements VideoClient, HttpClient {
     public String namespace() {
         return NAMESPACE;
     }
+
+    @Override
+    public SingleFlight singleFlight() {
+        return this.singleFlight;
+    }
+
+    @Override
+    public NegativeCache negativeCache() {
+        return this.negativeCache;
+    }
+
+    @Override
+    public AdaptiveLimiter limiter() {
+        return this.limiter;
+    }
+
+    @Override
+    public Hedger hedger() {
+        return this.hedger;
+    }
+
+    @Override
+    public ExecutorService executor() {
+        return this.executor;
+    }
 }
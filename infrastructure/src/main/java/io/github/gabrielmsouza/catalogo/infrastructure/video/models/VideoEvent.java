@@ -2,5 +2,26 @@ package io.github.gabrielmsouza.catalogo.infrastructure.video.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-public record VideoEvent(@JsonProperty("id") String id) {
+import java.util.Objects;
+
+public record VideoEvent(
+        @JsonProperty("id") String id,
+        @JsonProperty("title") String title,
+        @JsonProperty("description") String description,
+        @JsonProperty("year_launched") Integer yearLaunched,
+        @JsonProperty("rating") String rating,
+        @JsonProperty("opened") Boolean opened,
+        @JsonProperty("published") Boolean published,
+        @JsonProperty("created_at") Long createdAt,
+        @JsonProperty("updated_at") Long updatedAt
+) {
+    public VideoEvent(final String id) {
+        this(id, null, null, null, null, null, null, null, null);
+    }
+
+    public boolean isFullRow() {
+        return Objects.nonNull(title) && Objects.nonNull(yearLaunched) && Objects.nonNull(rating)
+                && Objects.nonNull(opened) && Objects.nonNull(published)
+                && Objects.nonNull(createdAt) && Objects.nonNull(updatedAt);
+    }
 }
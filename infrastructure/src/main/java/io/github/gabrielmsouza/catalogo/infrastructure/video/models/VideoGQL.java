@@ -6,7 +6,7 @@ public record VideoGQL(
         String id,
         String title,
         String description,
-        int yearLaunched,
+        Integer yearLaunched,
         String rating,
         Double duration,
         boolean opened,
@@ -1,23 +1,37 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.video.persistence;
 
 import io.github.gabrielmsouza.catalogo.domain.video.Video;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.VersionedDocument;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.*;
 
+import java.time.Instant;
 import java.util.Set;
 
-@Document(indexName = "videos")
-public class VideoDocument {
+@Setting(settingPath = "/elasticsearch/index-settings.json")
+@Document(indexName = "videos", createIndex = false, versionType = Document.VersionType.EXTERNAL_GTE, storeVersionInSource = false)
+public class VideoDocument implements VersionedDocument {
     @Id
     private String id;
 
     @MultiField(
             mainField = @Field(type = FieldType.Text, name = "title"),
-            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+            otherFields = {
+                @InnerField(suffix = "keyword", type = FieldType.Keyword),
+                @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "substring", searchAnalyzer = "substring"),
+                @InnerField(suffix = "autocomplete", type = FieldType.Text, analyzer = "autocomplete", searchAnalyzer = "autocomplete_search")
+            }
     )
     private String title;
 
-    @Field(type = FieldType.Text, name = "description")
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, name = "description"),
+            otherFields = {
+                @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "substring", searchAnalyzer = "substring"),
+                @InnerField(suffix = "autocomplete", type = FieldType.Text, analyzer = "autocomplete", searchAnalyzer = "autocomplete_search")
+            }
+    )
     private String description;
 
     @Field(type = FieldType.Integer, name = "launched_at")
@@ -41,6 +55,9 @@ public class VideoDocument {
     @Field(type = FieldType.Date, name = "updated_at")
     private String updatedAt;
 
+    @Version
+    private Long version;
+
     @Field(type = FieldType.Keyword, name = "video")
     private String video;
 
@@ -155,6 +172,30 @@ public class VideoDocument {
         );
     }
 
+    public Video toPartialVideo() {
+        return Video.partial(
+                id(),
+                title(),
+                description(),
+                launchedAt(),
+                duration(),
+                rating(),
+                opened(),
+                published(),
+                createdAt(),
+                updatedAt(),
+                video(),
+                trailer(),
+                banner(),
+                thumbnail(),
+                thumbnailHalf(),
+                categories(),
+                castMembers(),
+                genres()
+        );
+    }
+
+    @Override
     public String id() {
         return id;
     }
@@ -298,4 +339,13 @@ public class VideoDocument {
     public void setGenres(Set<String> genres) {
         this.genres = genres;
     }
+
+    public Long version() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -22,7 +22,13 @@ import java.util.Collection;
         basePackages = "io.github.gabrielmsouza.catalogo",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*ElasticsearchGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = {
+                        ".*ElasticsearchGateway",
+                        ".*StaleWriteHandler",
+                        ".*SearchIndices",
+                        ".*SearchIndexWriter",
+                        ".*Reindexer"
+                })
         }
 )
 public abstract class AbstractElasticsearchTest {
@@ -4,6 +4,7 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.CategoryRestClient;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.WebServerConfiguration;
 import io.github.gabrielmsouza.catalogo.infrastructure.genre.GenreRestClient;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.HttpClient;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.VideoRestClient;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
@@ -50,11 +51,15 @@ public abstract class AbstractRestClientTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private List<HttpClient> httpClients;
+
     @BeforeEach
     void setup() {
         WireMock.reset();
         WireMock.resetAllRequests();
         resetAllCaches();
+        this.httpClients.forEach(it -> it.negativeCache().clear());
         List.of(CATEGORY, GENRE, VIDEO).forEach(this::resetFaultTolerance);
     }
 
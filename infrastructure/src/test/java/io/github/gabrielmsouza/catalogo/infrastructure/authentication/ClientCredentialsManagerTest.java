@@ -1,21 +1,32 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.authentication;
 
+import com.google.common.base.Ticker;
 import io.github.gabrielmsouza.catalogo.domain.exceptions.InternalErrorException;
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.AuthenticationGateway.AuthenticationResult;
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.AuthenticationGateway.ClientCredentialsInput;
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.AuthenticationGateway.RefreshTokenInput;
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.ClientCredentialsManager.ClientCredentials;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.KeycloakProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ClientCredentialsManagerTest {
@@ -25,9 +36,25 @@ class ClientCredentialsManagerTest {
     @Mock
     private AuthenticationGateway authenticationGateway;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private List<Runnable> background;
     private ClientCredentialsManager manager;
 
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.nanos = new AtomicLong();
+        this.background = new ArrayList<>();
+        final var ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        this.manager = new ClientCredentialsManager(authenticationGateway, keycloakProperties, background::add, meterRegistry, ticker);
+    }
+
     @Test
     public void givenValidAuthenticationResult_whenCallsRefresh_thenShouldCreateCredentials() {
         // given
@@ -39,7 +66,7 @@ class ClientCredentialsManagerTest {
         doReturn(expectedClientId).when(keycloakProperties).clientId();
         doReturn(expectedClientSecret).when(keycloakProperties).clientSecret();
 
-        doReturn(new AuthenticationResult(expectedAccessToken, expectedRefreshToken))
+        doReturn(new AuthenticationResult(expectedAccessToken, expectedRefreshToken, 300))
                 .when(authenticationGateway)
                 .login(new ClientCredentialsInput(expectedClientId, expectedClientSecret));
 
@@ -64,7 +91,7 @@ class ClientCredentialsManagerTest {
         doReturn(expectedClientId).when(keycloakProperties).clientId();
         doReturn(expectedClientSecret).when(keycloakProperties).clientSecret();
 
-        doReturn(new AuthenticationResult(expectedAccessToken, expectedRefreshToken))
+        doReturn(new AuthenticationResult(expectedAccessToken, expectedRefreshToken, 300))
                 .when(authenticationGateway)
                 .refresh(new RefreshTokenInput(expectedClientId, expectedClientSecret, "ref"));
 
@@ -95,7 +122,7 @@ class ClientCredentialsManagerTest {
                 .when(authenticationGateway)
                 .refresh(new RefreshTokenInput(expectedClientId, expectedClientSecret, "ref"));
 
-        doReturn(new AuthenticationResult(expectedAccessToken, expectedRefreshToken))
+        doReturn(new AuthenticationResult(expectedAccessToken, expectedRefreshToken, 300))
                 .when(authenticationGateway)
                 .login(new ClientCredentialsInput(expectedClientId, expectedClientSecret));
 
@@ -108,4 +135,101 @@ class ClientCredentialsManagerTest {
         assertEquals(expectedAccessToken, actualCredentials.accessToken());
         assertEquals(expectedRefreshToken, actualCredentials.refreshToken());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenNoCredentials_whenCallsRetrieve_thenShouldLoginAndRecordTheLatency() {
+        // given
+        final var expectedAccessToken = "access";
+        final var expectedClientId = "client-id";
+        final var expectedClientSecret = "sad1324213";
+
+        doReturn(expectedClientId).when(keycloakProperties).clientId();
+        doReturn(expectedClientSecret).when(keycloakProperties).clientSecret();
+
+        doReturn(new AuthenticationResult(expectedAccessToken, "refresh", 300))
+                .when(authenticationGateway)
+                .login(new ClientCredentialsInput(expectedClientId, expectedClientSecret));
+
+        // when
+        final var actualToken = this.manager.retrieve();
+
+        // then
+        assertEquals(expectedAccessToken, actualToken);
+        assertEquals(1, this.meterRegistry.get("catalogo.auth.token.refresh")
+                .tag("grant", "client_credentials")
+                .tag("result", "success")
+                .timer()
+                .count());
+    }
+
+    @Test
+    public void givenStaleCredentials_whenCallsRetrieveConcurrently_thenShouldKeepTheTokenAndRefreshOnceInBackground() {
+        // given
+        final var expectedClientId = "client-id";
+        final var expectedClientSecret = "sad1324213";
+
+        doReturn(0.75).when(keycloakProperties).refreshRatio();
+        doReturn(expectedClientId).when(keycloakProperties).clientId();
+        doReturn(expectedClientSecret).when(keycloakProperties).clientSecret();
+
+        doReturn(new AuthenticationResult("acc", "ref", 100))
+                .when(authenticationGateway)
+                .login(new ClientCredentialsInput(expectedClientId, expectedClientSecret));
+        doReturn(new AuthenticationResult("access", "refresh", 100))
+                .when(authenticationGateway)
+                .refresh(new RefreshTokenInput(expectedClientId, expectedClientSecret, "ref"));
+
+        this.manager.refresh();
+        this.nanos.set(Duration.ofSeconds(80).toNanos());
+
+        // when
+        final var actualTokens = List.of(this.manager.retrieve(), this.manager.retrieve(), this.manager.retrieve());
+        final var actualScheduled = this.background.size();
+        this.background.forEach(Runnable::run);
+
+        // then
+        assertEquals(List.of("acc", "acc", "acc"), actualTokens);
+        assertEquals(1, actualScheduled);
+        assertEquals("access", this.manager.retrieve());
+        verify(authenticationGateway, times(1)).refresh(new RefreshTokenInput(expectedClientId, expectedClientSecret, "ref"));
+    }
+
+    @Test
+    public void givenExpiredCredentials_whenCallsRetrieve_thenShouldWaitForANewToken() {
+        // given
+        final var expectedAccessToken = "access";
+        final var expectedClientId = "client-id";
+        final var expectedClientSecret = "sad1324213";
+
+        ReflectionTestUtils.setField(this.manager, "credentials", new ClientCredentials(expectedClientId, "acc", "ref", 75, 100));
+        this.nanos.set(100);
+
+        doReturn(expectedClientId).when(keycloakProperties).clientId();
+        doReturn(expectedClientSecret).when(keycloakProperties).clientSecret();
+
+        doReturn(new AuthenticationResult(expectedAccessToken, "refresh", 300))
+                .when(authenticationGateway)
+                .refresh(new RefreshTokenInput(expectedClientId, expectedClientSecret, "ref"));
+
+        // when
+        final var actualToken = this.manager.retrieve();
+
+        // then
+        assertEquals(expectedAccessToken, actualToken);
+        assertEquals(0, this.background.size());
+    }
+
+    @Test
+    public void givenFreshCredentials_whenCallsRefreshIfStale_thenShouldNotCallKeycloak() {
+        // given
+        ReflectionTestUtils.setField(this.manager, "credentials", new ClientCredentials("client-id", "acc", "ref", 75, 100));
+        this.nanos.set(50);
+
+        // when
+        this.manager.refreshIfStale();
+
+        // then
+        verify(authenticationGateway, never()).refresh(any());
+        verify(authenticationGateway, never()).login(any());
+    }
+}
@@ -76,6 +76,43 @@ class CastMemberElasticsearchGatewayTest extends AbstractElasticsearchTest {
         assertDoesNotThrow(() -> this.gateway.deleteById(expectedId));
     }
 
+    @Test
+    void givenValidCastMembers_whenCallsSaveAll_thenShouldPersistThemInBulk() {
+        // given
+        final var first = Fixture.CastMembers.actor();
+        final var second = Fixture.CastMembers.director();
+
+        // when
+        final var actualOutput = this.gateway.saveAll(List.of(first, second));
+
+        // then
+        assertEquals(List.of(first, second), actualOutput);
+        assertTrue(this.repository.existsById(first.id()));
+        assertTrue(this.repository.existsById(second.id()));
+    }
+
+    @Test
+    void givenValidIds_whenCallsDeleteAllById_thenShouldDeleteThem() {
+        // given
+        final var first = Fixture.CastMembers.actor();
+        final var second = Fixture.CastMembers.director();
+
+        this.repository.saveAll(List.of(CastMemberDocument.from(first), CastMemberDocument.from(second)));
+
+        // when
+        this.gateway.deleteAllById(Set.of(first.id(), second.id()));
+
+        // then
+        assertFalse(this.repository.existsById(first.id()));
+        assertFalse(this.repository.existsById(second.id()));
+    }
+
+    @Test
+    void givenEmptyIds_whenCallsDeleteAllById_thenShouldBeOk() {
+        // when/then
+        assertDoesNotThrow(() -> this.gateway.deleteAllById(Set.of()));
+    }
+
     @Test
     void givenValidId_whenCallsFindById_thenShouldRetrieveIt() {
         // given
@@ -4,15 +4,19 @@ import io.github.gabrielmsouza.catalogo.AbstractElasticsearchTest;
 import io.github.gabrielmsouza.catalogo.domain.Fixture;
 import io.github.gabrielmsouza.catalogo.domain.category.Category;
 import io.github.gabrielmsouza.catalogo.domain.category.CategorySearchQuery;
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.persistence.CategoryDocument;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.persistence.CategoryRepository;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.ExternalVersions;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.BulkFailureException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,6 +55,30 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
         assertEquals(aulas.deletedAt(), actualCategory.deletedAt());
     }
 
+    @Test
+    void givenAnOutdatedCategory_whenCallsSave_thenShouldKeepTheLatestVersion() {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+        final var outdated = Category.with(
+                aulas.id(),
+                "Aulas antigas",
+                aulas.description(),
+                aulas.active(),
+                aulas.createdAt(),
+                aulas.updatedAt(),
+                aulas.deletedAt()
+        );
+
+        ExternalVersions.with(aulas.id(), 200L, () -> this.gateway.save(aulas));
+
+        // when
+        ExternalVersions.with(aulas.id(), 100L, () -> this.gateway.save(outdated));
+
+        // then
+        final var actualCategory = this.repository.findById(aulas.id()).get();
+        assertEquals(aulas.name(), actualCategory.name());
+    }
+
     @Test
     void givenValidId_whenCallsDeleteById_thenShouldDeleteIt() {
         // given
@@ -78,6 +106,93 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
         assertDoesNotThrow(() -> this.gateway.deleteById(expectedId));
     }
 
+    @Test
+    void givenADeletedCategory_whenCallsSaveWithAnOlderVersion_thenShouldKeepItDeleted() {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+
+        ExternalVersions.with(aulas.id(), 100L, () -> this.gateway.save(aulas));
+        ExternalVersions.with(aulas.id(), 200L, () -> this.gateway.deleteById(aulas.id()));
+
+        // when
+        ExternalVersions.with(aulas.id(), 150L, () -> this.gateway.save(aulas));
+
+        // then
+        assertFalse(this.repository.existsById(aulas.id()));
+    }
+
+    @Test
+    void givenANewerCategory_whenCallsDeleteByIdWithAnOlderVersion_thenShouldFail() {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+
+        ExternalVersions.with(aulas.id(), 200L, () -> this.gateway.save(aulas));
+
+        // when
+        final var actualException = assertThrows(
+                BulkFailureException.class,
+                () -> ExternalVersions.with(aulas.id(), 100L, () -> this.gateway.deleteById(aulas.id()))
+        );
+
+        // then
+        assertEquals(409, actualException.getFailedDocuments().get(aulas.id()).status());
+        assertTrue(this.repository.existsById(aulas.id()));
+    }
+
+    @Test
+    void givenDeletedCategories_whenCallsSaveAllWithOlderVersions_thenShouldKeepThemDeleted() {
+        // given
+        final var first = Fixture.Categories.aulas();
+        final var second = Fixture.Categories.lives();
+
+        ExternalVersions.with(Map.of(first.id(), 100L, second.id(), 100L), () -> this.gateway.saveAll(List.of(first, second)));
+        ExternalVersions.with(Map.of(first.id(), 200L, second.id(), 200L), () -> this.gateway.deleteAllById(Set.of(first.id(), second.id())));
+
+        // when
+        ExternalVersions.with(Map.of(first.id(), 150L, second.id(), 150L), () -> this.gateway.saveAll(List.of(first, second)));
+
+        // then
+        assertFalse(this.repository.existsById(first.id()));
+        assertFalse(this.repository.existsById(second.id()));
+    }
+
+    @Test
+    void givenValidCategories_whenCallsSaveAll_thenShouldPersistThemInBulk() {
+        // given
+        final var first = Fixture.Categories.aulas();
+        final var second = Fixture.Categories.lives();
+
+        // when
+        final var actualOutput = this.gateway.saveAll(List.of(first, second));
+
+        // then
+        assertEquals(List.of(first, second), actualOutput);
+        assertTrue(this.repository.existsById(first.id()));
+        assertTrue(this.repository.existsById(second.id()));
+    }
+
+    @Test
+    void givenValidIds_whenCallsDeleteAllById_thenShouldDeleteThem() {
+        // given
+        final var first = Fixture.Categories.aulas();
+        final var second = Fixture.Categories.lives();
+
+        this.repository.saveAll(List.of(CategoryDocument.from(first), CategoryDocument.from(second)));
+
+        // when
+        this.gateway.deleteAllById(Set.of(first.id(), second.id()));
+
+        // then
+        assertFalse(this.repository.existsById(first.id()));
+        assertFalse(this.repository.existsById(second.id()));
+    }
+
+    @Test
+    void givenEmptyIds_whenCallsDeleteAllById_thenShouldBeOk() {
+        // when/then
+        assertDoesNotThrow(() -> this.gateway.deleteAllById(Set.of()));
+    }
+
     @Test
     void givenValidId_whenCallsFindById_thenShouldRetrieveIt() {
         // given
@@ -145,7 +260,11 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
     @ParameterizedTest
     @CsvSource({
             "aul,0,10,1,1,Aulas",
-            "liv,0,10,1,1,Lives"
+            "liv,0,10,1,1,Lives",
+            "ula,0,10,1,1,Aulas",
+            "ves,0,10,1,1,Lives",
+            "a,0,10,1,1,Aulas",
+            "gravado,0,10,1,1,Aulas"
     })
     public void givenValidTerm_whenCallsFindAll_thenShouldReturnElementsFiltered(
             final String expectedTerms,
@@ -309,6 +428,55 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
         assertEquals(expectedItems, actualOutput);
     }
 
+    @Test
+    public void givenCursors_whenCallsFindAll_thenShouldWalkPagesWithSearchAfter() {
+        // given
+        mockCategories();
+
+        final var firstQuery = new CategorySearchQuery(0, 2, "", "name", "asc");
+
+        // when
+        final var firstPage = this.gateway.findAll(firstQuery);
+        final var secondPage = this.gateway.findAll(
+                new CategorySearchQuery(0, 2, "", "name", "asc", firstPage.meta().nextCursor())
+        );
+        final var backToFirstPage = this.gateway.findAll(
+                new CategorySearchQuery(0, 2, "", "name", "asc", secondPage.meta().prevCursor())
+        );
+
+        // then
+        assertEquals(List.of("Aulas", "Lives"), firstPage.data().stream().map(Category::name).toList());
+        assertNull(firstPage.meta().prevCursor());
+
+        assertEquals(List.of("Talks"), secondPage.data().stream().map(Category::name).toList());
+        assertEquals(3, secondPage.meta().total());
+        assertNull(secondPage.meta().nextCursor());
+
+        assertEquals(List.of("Aulas", "Lives"), backToFirstPage.data().stream().map(Category::name).toList());
+    }
+
+    @Test
+    public void givenTotalHitsModes_whenCallsFindAll_thenShouldCountOnlyWhenAsked() {
+        // given
+        mockCategories();
+
+        // when
+        final var actualUncounted = this.gateway.findAll(new CategorySearchQuery(0, 2, "", "name", "asc", null, TotalHitsMode.NONE));
+        final var actualApproximate = this.gateway.findAll(new CategorySearchQuery(0, 2, "", "name", "asc", null, TotalHitsMode.APPROXIMATE));
+        final var actualExact = this.gateway.findAll(new CategorySearchQuery(0, 2, "", "name", "asc", null, TotalHitsMode.EXACT));
+
+        // then
+        assertEquals(2, actualUncounted.data().size());
+        assertEquals(0, actualUncounted.meta().total());
+        assertFalse(actualUncounted.meta().exactTotal());
+
+        assertEquals(3, actualApproximate.meta().total());
+        assertTrue(actualApproximate.meta().exactTotal());
+
+        assertEquals(3, actualExact.meta().total());
+        assertTrue(actualExact.meta().exactTotal());
+    }
+
     private void mockCategories() {
         this.repository.save(CategoryDocument.from(Fixture.Categories.aulas()));
         this.repository.save(CategoryDocument.from(Fixture.Categories.talks()));
@@ -2,6 +2,7 @@ package io.github.gabrielmsouza.catalogo.infrastructure.category;
 
 import io.github.gabrielmsouza.catalogo.AbstractRestClientTest;
 import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.category.Category;
 import io.github.gabrielmsouza.catalogo.domain.exceptions.InternalErrorException;
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.ClientCredentialsManager;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.models.CategoryDTO;
@@ -15,7 +16,12 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -70,6 +76,29 @@ class CategoryRestClientTest extends AbstractRestClientTest {
         verify(1, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id()))));
     }
 
+    @Test
+    void givenAPlainHttpAdminApi_whenCallsCategoryOfId_thenShouldNotAttemptAnH2cUpgrade() {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+        doReturn("access-123").when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(200)
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(Json.writeValueAsString(aDTO(aulas)))
+                        )
+        );
+
+        // when
+        this.restClient.categoryOfId(aulas.id());
+
+        // then
+        verify(1, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id()))).withoutHeader("Upgrade"));
+    }
+
     @Test
     void givenACategory_whenReceiveTwoCalls_thenShouldReturnCachedValue() {
         // given
@@ -145,6 +174,114 @@ class CategoryRestClientTest extends AbstractRestClientTest {
         verify(1, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(expectedId))));
     }
 
+    @Test
+    void givenCategoryIds_whenCallsCategoriesOfIds_thenShouldFetchThemInChunks() {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+        final var lives = Fixture.Categories.lives();
+        final var talks = Fixture.Categories.talks();
+
+        final var expectedToken = "access-123";
+        doReturn(expectedToken).when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/categories"))
+                        .withQueryParam("ids", equalTo("%s,%s".formatted(aulas.id(), lives.id())))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(200)
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(listOf(aDTO(aulas)))
+                        )
+        );
+        stubFor(
+                get(urlPathEqualTo("/api/categories"))
+                        .withQueryParam("ids", equalTo(talks.id()))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(200)
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(listOf(aDTO(talks)))
+                        )
+        );
+
+        final var ids = new LinkedHashSet<>(List.of(aulas.id(), lives.id(), talks.id()));
+
+        // when
+        final var actualCategories = this.restClient.categoriesOfIds(ids);
+
+        // then
+        assertEquals(List.of(aulas.id(), talks.id()), List.copyOf(actualCategories.keySet()));
+        assertEquals(aulas.name(), actualCategories.get(aulas.id()).name());
+        assertEquals(talks.name(), actualCategories.get(talks.id()).name());
+        assertFalse(actualCategories.containsKey(lives.id()));
+
+        verify(2, getRequestedFor(urlPathEqualTo("/api/categories")).withHeader(HttpHeaders.AUTHORIZATION, equalTo("Bearer " + expectedToken)));
+    }
+
+    @Test
+    void givenCategoryIds_whenReceive5xxFromServer_thenShouldReturnInternalError() {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+        final var lives = Fixture.Categories.lives();
+        final var expectedErrorMessage = "Error observed from categories [resourceId:%s,%s] [status:500]".formatted(aulas.id(), lives.id());
+
+        final var expectedToken = "access-123";
+        doReturn(expectedToken).when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/categories"))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(500)
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(Json.writeValueAsString(Map.of("message", "Internal Server Error")))
+                        )
+        );
+
+        final var ids = new LinkedHashSet<>(List.of(aulas.id(), lives.id()));
+
+        // when
+        final var actualException =
+                assertThrows(InternalErrorException.class, () -> this.restClient.categoriesOfIds(ids));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(2, getRequestedFor(urlPathEqualTo("/api/categories")));
+    }
+
+    @Test
+    void givenACategoryNotFound_whenCallsAgainAfterCacheEviction_thenShouldAnswerFromNegativeCache() {
+        // given
+        final var expectedId = "123";
+
+        final var expectedToken = "access-123";
+        doReturn(expectedToken).when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/categories/%s".formatted(expectedId)))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(404)
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(Json.writeValueAsString(Map.of("message", "Not Found")))
+                        )
+        );
+
+        // when
+        this.restClient.categoryOfId(expectedId);
+        cache("admin-categories").clear();
+        final var actualCategory = this.restClient.categoryOfId(expectedId);
+        final var actualCategories = this.restClient.categoriesOfIds(Set.of(expectedId));
+
+        // then
+        assertTrue(actualCategory.isEmpty());
+        assertTrue(actualCategories.isEmpty());
+
+        verify(1, getRequestedFor(urlPathMatching("/api/categories.*")));
+    }
+
     @Test
     void givenACategory_whenReceive5xxFromServer_thenShouldReturnEmpty() {
         // given
@@ -177,6 +314,67 @@ class CategoryRestClientTest extends AbstractRestClientTest {
         verify(2, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(expectedId))));
     }
 
+    @Test
+    void givenACategory_whenCallsCategoryOfIdAsync_thenShouldCompleteWithoutCaching() throws Exception {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+
+        final var expectedToken = "access-123";
+        doReturn(expectedToken).when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(200)
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(Json.writeValueAsString(aDTO(aulas)))
+                        )
+        );
+
+        // when
+        final var actualCategory = this.restClient.categoryOfIdAsync(aulas.id()).get(5, TimeUnit.SECONDS).get();
+
+        // then
+        assertEquals(aulas.id(), actualCategory.id());
+        assertEquals(aulas.name(), actualCategory.name());
+        assertNull(cache("admin-categories").get(aulas.id()));
+
+        verify(1, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id()))));
+    }
+
+    @Test
+    void givenACategory_whenCallsCategoryOfIdAsyncAndReceive5xx_thenShouldRetryAndFail() {
+        // given
+        final var expectedId = "123";
+        final var expectedErrorMessage = "Error observed from categories [resourceId:%s] [status:500]".formatted(expectedId);
+
+        final var expectedToken = "access-123";
+        doReturn(expectedToken).when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/categories/%s".formatted(expectedId)))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(500)
+                                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(Json.writeValueAsString(Map.of("message", "Internal Server Error")))
+                        )
+        );
+
+        // when
+        final var actualException = assertThrows(
+                ExecutionException.class,
+                () -> this.restClient.categoryOfIdAsync(expectedId).get(5, TimeUnit.SECONDS)
+        );
+
+        // then
+        assertInstanceOf(InternalErrorException.class, actualException.getCause());
+        assertEquals(expectedErrorMessage, actualException.getCause().getMessage());
+
+        verify(2, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(expectedId))));
+    }
+
     @Test
     void givenACategory_whenReceiveTimeoutFromServer_thenShouldReturnInternalError() {
         // given
@@ -272,4 +470,25 @@ class CategoryRestClientTest extends AbstractRestClientTest {
 
         verify(3, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(expectedId))));
     }
-}
\ No newline at end of file
+
+    private static CategoryDTO aDTO(final Category category) {
+        return new CategoryDTO(
+                category.id(),
+                category.name(),
+                category.description(),
+                category.active(),
+                category.createdAt(),
+                category.updatedAt(),
+                category.deletedAt()
+        );
+    }
+
+    private static String listOf(final CategoryDTO... items) {
+        return Json.writeValueAsString(Map.of(
+                "current_page", 0,
+                "per_page", items.length,
+                "total", items.length,
+                "items", List.of(items)
+        ));
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryEventTest {
+    @Test
+    void givenADebeziumRowImage_whenCallsToCategory_thenShouldBuildItWithoutTheAdminApi() {
+        // given
+        final var expectedId = "123";
+        final var expectedName = "Aulas";
+        final var expectedDescription = "Conteudo gravado";
+        final var expectedDate = LocalDateTime.of(2024, 2, 4, 22, 43, 31).toInstant(ZoneOffset.UTC);
+
+        final var payload = """
+                {
+                  "payload": {
+                    "before": null,
+                    "after": {
+                      "id": "123",
+                      "name": "Aulas",
+                      "description": "Conteudo gravado",
+                      "active": 1,
+                      "created_at": 1707086611086071,
+                      "updated_at": 1707086611086071,
+                      "deleted_at": null
+                    },
+                    "source": {"name": "adm_videos_mysql", "db": "adm_videos", "table": "categories"},
+                    "op": "c"
+                  }
+                }
+                """;
+
+        // when
+        final var actualEvent = Json.readValue(payload, new TypeReference<MessageValue<CategoryEvent>>() {
+        }).payload().after();
+        final var actualCategory = actualEvent.toCategory();
+
+        // then
+        assertTrue(actualEvent.isFullRow());
+        assertEquals(expectedId, actualCategory.id());
+        assertEquals(expectedName, actualCategory.name());
+        assertEquals(expectedDescription, actualCategory.description());
+        assertTrue(actualCategory.active());
+        assertEquals(expectedDate, actualCategory.createdAt().truncatedTo(ChronoUnit.SECONDS));
+        assertEquals(expectedDate, actualCategory.updatedAt().truncatedTo(ChronoUnit.SECONDS));
+        assertNull(actualCategory.deletedAt());
+    }
+
+    @Test
+    void givenAnIdOnlyPayload_whenCallsIsFullRow_thenShouldReturnFalse() {
+        // given
+        final var event = new CategoryEvent("123");
+
+        // when
+        final var actualFullRow = event.isFullRow();
+
+        // then
+        assertFalse(actualFullRow);
+    }
+}
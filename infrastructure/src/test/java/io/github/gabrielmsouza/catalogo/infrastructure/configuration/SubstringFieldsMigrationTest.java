@@ -0,0 +1,153 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration;
+
+import io.github.gabrielmsouza.catalogo.domain.exceptions.DomainException;
+import io.github.gabrielmsouza.catalogo.domain.validation.Error;
+import io.github.gabrielmsouza.catalogo.infrastructure.castmember.persistence.CastMemberDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.category.persistence.CategoryDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.genre.persistence.GenreDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.Reindexer;
+import io.github.gabrielmsouza.catalogo.infrastructure.video.persistence.VideoDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SubstringFieldsMigrationTest {
+    private static final Map<String, Object> WITH_NGRAM = Map.of("type", "text", "fields", Map.of("ngram", Map.of("type", "text")));
+    private static final Map<String, Object> WITHOUT_NGRAM = Map.of("type", "text");
+
+    private ElasticsearchOperations operations;
+    private Reindexer reindexer;
+    private IndexOperations categories;
+    private IndexOperations castMembers;
+    private IndexOperations genres;
+    private IndexOperations videos;
+
+    @BeforeEach
+    void setUp() {
+        this.operations = mock(ElasticsearchOperations.class);
+        this.reindexer = mock(Reindexer.class);
+        this.categories = indexOps(CategoryDocument.class, "categories");
+        this.castMembers = indexOps(CastMemberDocument.class, "cast_members");
+        this.genres = indexOps(GenreDocument.class, "genres");
+        this.videos = indexOps(VideoDocument.class, "videos");
+    }
+
+    @Test
+    void givenAFieldWithTheNgramSubfield_whenCallsHasSubstringFields_thenShouldReturnTrue() {
+        // given
+        mapping(this.categories, "name", WITH_NGRAM);
+
+        // when
+        final var actualResult = SubstringFieldsMigration.hasSubstringFields(this.categories, "name");
+
+        // then
+        assertTrue(actualResult);
+    }
+
+    @Test
+    void givenAFieldWithoutSubfieldsOrAMissingField_whenCallsHasSubstringFields_thenShouldReturnFalse() {
+        // given
+        mapping(this.categories, "name", WITHOUT_NGRAM);
+        when(this.genres.getMapping()).thenReturn(Document.create());
+
+        // when
+        final var withoutSubfields = SubstringFieldsMigration.hasSubstringFields(this.categories, "name");
+        final var withoutProperties = SubstringFieldsMigration.hasSubstringFields(this.genres, "name");
+        final var withoutField = SubstringFieldsMigration.hasSubstringFields(this.categories, "title");
+
+        // then
+        assertFalse(withoutSubfields);
+        assertFalse(withoutProperties);
+        assertFalse(withoutField);
+    }
+
+    @Test
+    void givenIndicesUpToDateOrMissing_whenCallsRun_thenShouldNotReindexThem() {
+        // given
+        exists(this.categories, true);
+        mapping(this.categories, "name", WITH_NGRAM);
+        exists(this.castMembers, true);
+        mapping(this.castMembers, "name", WITH_NGRAM);
+        exists(this.genres, false);
+        exists(this.videos, false);
+
+        // when
+        migration().run(null);
+
+        // then
+        verify(this.reindexer, never()).start(any());
+    }
+
+    @Test
+    void givenIndicesWithoutTheSubfields_whenCallsRun_thenShouldReindexOnlyThose() {
+        // given
+        exists(this.categories, true);
+        mapping(this.categories, "name", WITHOUT_NGRAM);
+        exists(this.castMembers, true);
+        mapping(this.castMembers, "name", WITH_NGRAM);
+        exists(this.genres, false);
+        exists(this.videos, true);
+        mapping(this.videos, "title", WITHOUT_NGRAM);
+
+        // when
+        migration().run(null);
+
+        // then
+        verify(this.reindexer).start("categories");
+        verify(this.reindexer).start("videos");
+        verify(this.reindexer, never()).start("cast_members");
+        verify(this.reindexer, never()).start("genres");
+    }
+
+    @Test
+    void givenAnotherInstanceAlreadyReindexing_whenCallsRun_thenShouldGoOnWithTheOtherIndices() {
+        // given
+        exists(this.categories, true);
+        mapping(this.categories, "name", WITHOUT_NGRAM);
+        exists(this.castMembers, false);
+        exists(this.genres, false);
+        exists(this.videos, true);
+        mapping(this.videos, "title", WITHOUT_NGRAM);
+
+        when(this.reindexer.start("categories"))
+                .thenThrow(DomainException.with(Error.with("A reindex of 'categories' is already running")));
+
+        // when
+        migration().run(null);
+
+        // then
+        verify(this.reindexer).start("videos");
+    }
+
+    private SubstringFieldsMigration migration() {
+        return new SubstringFieldsMigration(this.operations, this.reindexer);
+    }
+
+    private IndexOperations indexOps(final Class<?> type, final String name) {
+        final var indexOps = mock(IndexOperations.class);
+        when(indexOps.getIndexCoordinates()).thenReturn(IndexCoordinates.of(name));
+        when(this.operations.indexOps(type)).thenReturn(indexOps);
+        return indexOps;
+    }
+
+    private static void exists(final IndexOperations indexOps, final boolean exists) {
+        when(indexOps.exists()).thenReturn(exists);
+    }
+
+    private static void mapping(final IndexOperations indexOps, final String field, final Map<String, Object> definition) {
+        when(indexOps.getMapping()).thenReturn(Map.of("properties", Map.of(field, definition)));
+    }
+}
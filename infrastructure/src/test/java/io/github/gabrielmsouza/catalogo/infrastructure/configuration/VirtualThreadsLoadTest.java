@@ -0,0 +1,112 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.configuration;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Same servlet, same injected Elasticsearch latency, once on a small worker pool (scaled down from the 64 workers) and
+ * once dispatched to virtual threads by {@link VirtualThreadsConfiguration}.
+ */
+class VirtualThreadsLoadTest {
+    private static final int WORKERS = 4;
+    private static final int REQUESTS = 64;
+    private static final Duration ES_LATENCY = Duration.ofMillis(100);
+
+    private ExecutorService executor;
+    private HttpClient client;
+    private WebServer server;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.client = HttpClient.newBuilder().executor(this.executor).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.server != null) {
+            this.server.stop();
+        }
+        this.client.close();
+        this.executor.close();
+    }
+
+    @Test
+    void givenSlowElasticsearchCalls_whenRunningOnVirtualThreads_thenShouldServeMoreRequestsThanTheWorkerPool() throws Exception {
+        // given
+        final var workersPort = undertow(false);
+        final var workersElapsed = load(workersPort);
+        this.server.stop();
+
+        final var virtualPort = undertow(true);
+
+        // when
+        final var virtualElapsed = load(virtualPort);
+
+        // then
+        final var workersThroughput = REQUESTS * 1_000.0 / workersElapsed.toMillis();
+        final var virtualThroughput = REQUESTS * 1_000.0 / virtualElapsed.toMillis();
+
+        // with 4 workers the 64 requests wait in 16 rounds of 100ms, on virtual threads they all wait together
+        assertTrue(workersElapsed.compareTo(ES_LATENCY.multipliedBy(REQUESTS / WORKERS)) >= 0, "workers took " + workersElapsed);
+        assertTrue(virtualThroughput > workersThroughput * 4, "virtual %.0f req/s, workers %.0f req/s".formatted(virtualThroughput, workersThroughput));
+    }
+
+    private int undertow(final boolean virtualThreads) {
+        final var factory = new UndertowServletWebServerFactory(0);
+        factory.setWorkerThreads(WORKERS);
+        factory.setIoThreads(1);
+        factory.addInitializers(context -> context.addServlet("search", new SlowSearchServlet()).addMapping("/search"));
+        if (virtualThreads) {
+            factory.addDeploymentInfoCustomizers(new VirtualThreadsConfiguration().virtualThreadsDeploymentInfoCustomizer(this.executor));
+        }
+        this.server = factory.getWebServer();
+        this.server.start();
+        return this.server.getPort();
+    }
+
+    private Duration load(final int port) throws Exception {
+        final var request = HttpRequest.newBuilder(URI.create("http://localhost:%d/search".formatted(port))).build();
+        final var start = System.nanoTime();
+        final var responses = new ArrayList<Future<HttpResponse<String>>>();
+        for (var i = 0; i < REQUESTS; i++) {
+            responses.add(this.executor.submit(() -> this.client.send(request, HttpResponse.BodyHandlers.ofString())));
+        }
+        for (final var response : responses) {
+            assertEquals(200, response.get().statusCode());
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static class SlowSearchServlet extends HttpServlet {
+        @Override
+        protected void doGet(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+            try {
+                Thread.sleep(ES_LATENCY);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            resp.getWriter().write("[]");
+        }
+    }
+}
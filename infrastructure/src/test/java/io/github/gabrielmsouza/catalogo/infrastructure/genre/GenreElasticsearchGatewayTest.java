@@ -117,6 +117,43 @@ class GenreElasticsearchGatewayTest extends AbstractElasticsearchTest {
         assertDoesNotThrow(() -> this.gateway.deleteById(expectedId));
     }
 
+    @Test
+    void givenValidGenres_whenCallsSaveAll_thenShouldPersistThemInBulk() {
+        // given
+        final var first = Fixture.Genres.tech();
+        final var second = Fixture.Genres.business();
+
+        // when
+        final var actualOutput = this.gateway.saveAll(List.of(first, second));
+
+        // then
+        assertEquals(List.of(first, second), actualOutput);
+        assertTrue(this.repository.existsById(first.id()));
+        assertTrue(this.repository.existsById(second.id()));
+    }
+
+    @Test
+    void givenValidIds_whenCallsDeleteAllById_thenShouldDeleteThem() {
+        // given
+        final var first = Fixture.Genres.tech();
+        final var second = Fixture.Genres.business();
+
+        this.repository.saveAll(List.of(GenreDocument.from(first), GenreDocument.from(second)));
+
+        // when
+        this.gateway.deleteAllById(Set.of(first.id(), second.id()));
+
+        // then
+        assertFalse(this.repository.existsById(first.id()));
+        assertFalse(this.repository.existsById(second.id()));
+    }
+
+    @Test
+    void givenEmptyIds_whenCallsDeleteAllById_thenShouldBeOk() {
+        // when/then
+        assertDoesNotThrow(() -> this.gateway.deleteAllById(Set.of()));
+    }
+
     @Test
     void givenActiveGenreWithCategories_whenCallsFindById_thenShouldRetrieveIt() {
         // given
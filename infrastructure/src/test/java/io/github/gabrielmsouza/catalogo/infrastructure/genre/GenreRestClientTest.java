@@ -15,7 +15,10 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.testcontainers.shaded.com.google.common.net.HttpHeaders;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -180,6 +183,96 @@ class GenreRestClientTest extends AbstractRestClientTest {
     }
 
     // Timeout
+    @Test
+    public void givenGenreIds_whenCallsGenresOfIds_shouldFetchThemInChunksAndRememberTheMissingOnes() {
+        // given
+        final var tech = Fixture.Genres.tech();
+        final var business = Fixture.Genres.business();
+        final var marketing = Fixture.Genres.marketing();
+
+        final var expectedToken = "access-123";
+        doReturn(expectedToken).when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/genres"))
+                        .withQueryParam("ids", equalTo("%s,%s".formatted(tech.id(), business.id())))
+                        .withHeader(HttpHeaders.AUTHORIZATION, equalTo("bearer %s".formatted(expectedToken)))
+                        .willReturn(aResponse()
+                                .withStatus(200)
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(listOf(GenreDTO.from(tech)))
+                        )
+        );
+        stubFor(
+                get(urlPathEqualTo("/api/genres"))
+                        .withQueryParam("ids", equalTo(marketing.id()))
+                        .withHeader(HttpHeaders.AUTHORIZATION, equalTo("bearer %s".formatted(expectedToken)))
+                        .willReturn(aResponse()
+                                .withStatus(200)
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(listOf(GenreDTO.from(marketing)))
+                        )
+        );
+
+        final var ids = new LinkedHashSet<>(List.of(tech.id(), business.id(), marketing.id()));
+
+        // when
+        final var actualGenres = this.restClient.genresOfIds(ids);
+        final var actualMissing = this.restClient.genresOfIds(Set.of(business.id()));
+
+        // then
+        assertEquals(List.of(tech.id(), marketing.id()), List.copyOf(actualGenres.keySet()));
+        assertEquals(tech.name(), actualGenres.get(tech.id()).name());
+        assertEquals(marketing.categories(), actualGenres.get(marketing.id()).categoriesId());
+        assertTrue(actualMissing.isEmpty());
+        assertTrue(this.restClient.negativeCache().isNotFound(business.id()));
+
+        verify(2, getRequestedFor(urlPathEqualTo("/api/genres")));
+    }
+
+    @Test
+    public void givenGenreIds_whenAChunkReceives5xxFromServer_shouldReturnInternalError() {
+        // given
+        final var tech = Fixture.Genres.tech();
+        final var business = Fixture.Genres.business();
+        final var marketing = Fixture.Genres.marketing();
+        final var expectedErrorMessage = "Error observed from genres [resourceId:%s] [status:500]".formatted(marketing.id());
+        final var expectedRetries = 2;
+
+        final var expectedToken = "access-123";
+        doReturn(expectedToken).when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/genres"))
+                        .withQueryParam("ids", equalTo("%s,%s".formatted(tech.id(), business.id())))
+                        .willReturn(aResponse()
+                                .withStatus(200)
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(listOf(GenreDTO.from(tech), GenreDTO.from(business)))
+                        )
+        );
+        stubFor(
+                get(urlPathEqualTo("/api/genres"))
+                        .withQueryParam("ids", equalTo(marketing.id()))
+                        .willReturn(aResponse()
+                                .withStatus(500)
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(Json.writeValueAsString(Map.of("message", "Internal Server Error")))
+                        )
+        );
+
+        final var ids = new LinkedHashSet<>(List.of(tech.id(), business.id(), marketing.id()));
+
+        // when
+        final var actualEx = assertThrows(InternalErrorException.class, () -> this.restClient.genresOfIds(ids));
+
+        // then
+        assertEquals(expectedErrorMessage, actualEx.getMessage());
+        assertFalse(this.restClient.negativeCache().isNotFound(marketing.id()));
+
+        verify(expectedRetries, getRequestedFor(urlPathEqualTo("/api/genres")).withQueryParam("ids", equalTo(marketing.id())));
+    }
+
     @Test
     public void givenAGenre_whenReceiveTimeout_shouldReturnInternalError() {
         // given
@@ -283,4 +376,13 @@ class GenreRestClientTest extends AbstractRestClientTest {
 
         verify(3, getRequestedFor(urlPathEqualTo("/api/genres/%s".formatted(expectedId))));
     }
-}
\ No newline at end of file
+
+    private static String listOf(final GenreDTO... items) {
+        return Json.writeValueAsString(Map.of(
+                "current_page", 0,
+                "per_page", items.length,
+                "total", items.length,
+                "items", List.of(items)
+        ));
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenreEventTest {
+    private static final TypeReference<MessageValue<GenreEvent>> GENRE_MESSAGE = new TypeReference<>() {
+    };
+
+    @Test
+    void givenADebeziumRowImage_whenReadingIt_thenShouldMapEveryColumnAndBeAFullRow() {
+        // given
+        final var expectedDate = LocalDateTime.of(2024, 2, 4, 22, 43, 31).toInstant(ZoneOffset.UTC);
+
+        final var payload = """
+                {
+                  "payload": {
+                    "before": null,
+                    "after": {
+                      "id": "123",
+                      "name": "Technology",
+                      "active": 1,
+                      "created_at": 1707086611086071,
+                      "updated_at": 1707086611086071,
+                      "deleted_at": null
+                    },
+                    "source": {"name": "adm_videos_mysql", "db": "adm_videos", "table": "genres"},
+                    "op": "c"
+                  }
+                }
+                """;
+
+        // when
+        final var actualEvent = Json.readValue(payload, GENRE_MESSAGE).payload().after();
+
+        // then
+        assertTrue(actualEvent.isFullRow());
+        assertEquals("123", actualEvent.id());
+        assertEquals("Technology", actualEvent.name());
+        assertTrue(actualEvent.active());
+        assertEquals(expectedDate, InstantUtils.fromTimestamp(actualEvent.createdAt()).truncatedTo(ChronoUnit.SECONDS));
+        assertEquals(expectedDate, InstantUtils.fromTimestamp(actualEvent.updatedAt()).truncatedTo(ChronoUnit.SECONDS));
+        assertNull(actualEvent.deletedAt());
+    }
+
+    @Test
+    void givenAPartialRowImage_whenCallsIsFullRow_thenShouldReturnFalse() {
+        // given
+        final var payload = """
+                {
+                  "payload": {
+                    "before": null,
+                    "after": {
+                      "id": "123",
+                      "active": 0,
+                      "updated_at": 1707086611086071
+                    },
+                    "source": {"name": "adm_videos_mysql", "db": "adm_videos", "table": "genres"},
+                    "op": "u"
+                  }
+                }
+                """;
+
+        // when
+        final var actualEvent = Json.readValue(payload, GENRE_MESSAGE).payload().after();
+
+        // then
+        assertFalse(actualEvent.isFullRow());
+        assertEquals("123", actualEvent.id());
+        assertNull(actualEvent.name());
+        assertFalse(actualEvent.active());
+    }
+
+    @Test
+    void givenAnIdOnlyPayload_whenCallsIsFullRow_thenShouldReturnFalse() {
+        // given
+        final var event = new GenreEvent("123");
+
+        // when
+        final var actualFullRow = event.isFullRow();
+
+        // then
+        assertFalse(actualFullRow);
+    }
+}
@@ -6,7 +6,9 @@ import io.github.gabrielmsouza.catalogo.application.category.save.SaveCategoryUs
 import io.github.gabrielmsouza.catalogo.domain.Fixture;
 import io.github.gabrielmsouza.catalogo.domain.category.Category;
 import io.github.gabrielmsouza.catalogo.domain.category.CategorySearchQuery;
+import io.github.gabrielmsouza.catalogo.domain.pagination.Metadata;
 import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
+import io.github.gabrielmsouza.catalogo.domain.pagination.TotalHitsMode;
 import io.github.gabrielmsouza.catalogo.domain.utils.IDUtils;
 import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
 import io.github.gabrielmsouza.catalogo.infrastructure.category.CategoryGQLPresenter;
@@ -93,6 +95,93 @@ public class CategoryGraphQLControllerTest {
         assertEquals(expectedSort, actualQuery.sort());
         assertEquals(expectedDirection, actualQuery.direction());
         assertEquals(expectedSearch, actualQuery.terms());
+        assertEquals(TotalHitsMode.NONE, actualQuery.totalHits());
+    }
+
+    @Test
+    void givenACursor_whenCallsCategoriesPage_thenShouldReturnItemsAndCursors() {
+        // given
+        final var categories = List.of(
+                ListCategoryUseCase.Output.from(Fixture.Categories.lives()),
+                ListCategoryUseCase.Output.from(Fixture.Categories.aulas())
+        );
+
+        final var expectedCursor = "abc";
+        final var expectedNextCursor = "def";
+        final var expectedPrevCursor = "xyz";
+
+        final var pagination = new Pagination<>(
+                new Metadata(0, 2, 10, false, expectedNextCursor, expectedPrevCursor),
+                categories
+        );
+
+        when(this.listCategoryUseCase.execute(any())).thenReturn(pagination);
+
+        final var query = """
+                    query Categories($cursor: String) {
+                        categoriesPage(perPage: 2, cursor: $cursor) {
+                            items {
+                                id
+                                name
+                            }
+                            meta {
+                                total
+                                exactTotal
+                                nextCursor
+                                prevCursor
+                            }
+                        }
+                    }
+                """;
+
+        // when
+        final var res = this.graphql.document(query).variable("cursor", expectedCursor).execute();
+
+        // then
+        res.path("categoriesPage.items[*].id").entityList(String.class)
+                .containsExactly(categories.get(0).id(), categories.get(1).id());
+        res.path("categoriesPage.meta.total").entity(Long.class).isEqualTo(10L);
+        res.path("categoriesPage.meta.exactTotal").entity(Boolean.class).isEqualTo(false);
+        res.path("categoriesPage.meta.nextCursor").entity(String.class).isEqualTo(expectedNextCursor);
+        res.path("categoriesPage.meta.prevCursor").entity(String.class).isEqualTo(expectedPrevCursor);
+
+        final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+        verify(this.listCategoryUseCase).execute(captor.capture());
+
+        final var actualQuery = captor.getValue();
+        assertEquals(2, actualQuery.perPage());
+        assertEquals(expectedCursor, actualQuery.cursor());
+        assertEquals(TotalHitsMode.APPROXIMATE, actualQuery.totalHits());
+    }
+
+    @Test
+    void givenNoTotalSelected_whenCallsCategoriesPage_thenShouldSkipCounting() {
+        // given
+        final var categories = List.of(ListCategoryUseCase.Output.from(Fixture.Categories.lives()));
+
+        when(this.listCategoryUseCase.execute(any())).thenReturn(new Pagination<>(0, 10, 0, categories));
+
+        final var query = """
+                    {
+                        categoriesPage {
+                            items {
+                                id
+                            }
+                            meta {
+                                nextCursor
+                            }
+                        }
+                    }
+                """;
+
+        // when
+        this.graphql.document(query).execute().path("categoriesPage.items").entityList(Object.class).hasSize(1);
+
+        // then
+        final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+        verify(this.listCategoryUseCase).execute(captor.capture());
+
+        assertEquals(TotalHitsMode.NONE, captor.getValue().totalHits());
     }
 
     @Test
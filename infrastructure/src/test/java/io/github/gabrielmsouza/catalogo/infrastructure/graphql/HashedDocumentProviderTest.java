@@ -0,0 +1,96 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedDocumentProviderTest {
+    private static final String QUERY = "query Genres { genres { name } }";
+
+    private SimpleMeterRegistry meterRegistry;
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+
+        final var registry = new SchemaParser().parse("""
+                type Query { genres: [Genre] }
+                type Genre { name: String }
+                """);
+        final var wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", type -> type.dataFetcher("genres", env -> List.of(Map.of("name", "Drama"))))
+                .build();
+        final var schema = new SchemaGenerator().makeExecutableSchema(registry, wiring);
+
+        final var provider = new HashedDocumentProvider(new DocumentCache(10, this.meterRegistry), true);
+        this.graphQL = GraphQL.newGraphQL(schema).preparsedDocumentProvider(provider).build();
+    }
+
+    @Test
+    void givenTheSameQueryTwice_whenCallsExecute_thenShouldParseItOnce() {
+        // given
+        final var expectedData = Map.of("genres", List.of(Map.of("name", "Drama")));
+
+        // when
+        final var first = execute(QUERY, Map.of());
+        final var second = execute(QUERY, Map.of());
+
+        // then
+        assertEquals(expectedData, first.getData());
+        assertEquals(expectedData, second.getData());
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    void givenAnUnknownHash_whenCallsExecute_thenShouldAskForTheQueryAndServeTheHashAfterwards() {
+        // given
+        final var hash = HashedDocumentProvider.sha256(QUERY);
+        final var extensions = Map.<String, Object>of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+
+        // when
+        final var notFound = execute("PersistedQueryMarker", extensions);
+        final var registered = execute(QUERY, extensions);
+        final var byHash = execute("PersistedQueryMarker", extensions);
+
+        // then
+        assertEquals("PersistedQueryNotFound", notFound.getErrors().getFirst().getMessage());
+        assertTrue(registered.getErrors().isEmpty());
+        assertTrue(byHash.getErrors().isEmpty());
+        assertEquals(registered.<Object>getData(), byHash.getData());
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    void givenAHashNotMatchingTheQuery_whenCallsExecute_thenShouldRejectIt() {
+        // given
+        final var extensions = Map.<String, Object>of("persistedQuery", Map.of("version", 1, "sha256Hash", "abc123"));
+
+        // when
+        final var actualResult = execute(QUERY, extensions);
+
+        // then
+        assertEquals("PersistedQueryIdInvalid", actualResult.getErrors().getFirst().getMessage());
+    }
+
+    private ExecutionResult execute(final String query, final Map<String, Object> extensions) {
+        return this.graphQL.execute(ExecutionInput.newExecutionInput(query).extensions(extensions).build());
+    }
+
+    private double count(final String result) {
+        return this.meterRegistry.get("catalogo.graphql.documents").tag("result", result).counter().count();
+    }
+}
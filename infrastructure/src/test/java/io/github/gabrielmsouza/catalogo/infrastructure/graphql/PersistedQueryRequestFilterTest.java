@@ -0,0 +1,98 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class PersistedQueryRequestFilterTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final PersistedQueryRequestFilter filter = new PersistedQueryRequestFilter(mapper);
+
+    @Test
+    void givenAHashOnlyRequest_whenCallsFilter_thenShouldAddTheMarkerQuery() throws Exception {
+        // given
+        final var body = """
+                {"extensions":{"persistedQuery":{"version":1,"sha256Hash":"abc"}}}""";
+
+        // when
+        final var actualBody = filter(body);
+
+        // then
+        assertEquals("PersistedQueryMarker", this.mapper.readTree(actualBody).get("query").asText());
+        assertEquals("abc", this.mapper.readTree(actualBody).at("/extensions/persistedQuery/sha256Hash").asText());
+    }
+
+    @Test
+    void givenARequestWithTheQuery_whenCallsFilter_thenShouldKeepTheBody() throws Exception {
+        // given
+        final var body = """
+                {"query":"{ genres { name } }","extensions":{"persistedQuery":{"version":1,"sha256Hash":"abc"}}}""";
+
+        // when
+        final var actualBody = filter(body);
+
+        // then
+        assertEquals(body, actualBody);
+    }
+
+    @Test
+    void givenAReadListener_whenSetOnTheFilteredBody_thenShouldReadItRightAway() throws Exception {
+        // given
+        final var body = """
+                {"extensions":{"persistedQuery":{"version":1,"sha256Hash":"abc"}}}""";
+        final var chain = filterChain(body);
+        final var in = chain.getRequest().getInputStream();
+        final var actualBody = new ByteArrayOutputStream();
+        final var allDataRead = new AtomicBoolean();
+
+        // when
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (in.isReady() && !in.isFinished()) {
+                    actualBody.write(in.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                fail(t);
+            }
+        });
+
+        // then
+        assertTrue(allDataRead.get());
+        assertEquals("PersistedQueryMarker", this.mapper.readTree(actualBody.toByteArray()).get("query").asText());
+    }
+
+    private String filter(final String body) throws Exception {
+        return new String(filterChain(body).getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private MockFilterChain filterChain(final String body) throws Exception {
+        final var request = new MockHttpServletRequest("POST", "/graphql");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        final var chain = new MockFilterChain();
+        this.filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain;
+    }
+}
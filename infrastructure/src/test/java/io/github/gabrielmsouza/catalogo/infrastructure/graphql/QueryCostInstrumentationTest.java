@@ -0,0 +1,130 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryCostInstrumentationTest {
+    private static final String CLIENT = "catalogo-web";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger fetches;
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.fetches = new AtomicInteger();
+
+        final var registry = new SchemaParser().parse("""
+                type Query { videos(perPage: Int = 10): [Video] }
+                type Video { title: String, castMembers: [CastMember] }
+                type CastMember { name: String, videos: [Video] }
+                """);
+        final var wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", type -> type.dataFetcher("videos", env -> {
+                    this.fetches.incrementAndGet();
+                    return List.of(Map.of("title", "Aulas", "castMembers", List.of(Map.of("name", "Gabriel"))));
+                }))
+                .build();
+        final var schema = new SchemaGenerator().makeExecutableSchema(registry, wiring);
+
+        final var weights = Map.of("Query.videos", 10L, "Video.castMembers", 5L);
+        final var instrumentation = new QueryCostInstrumentation(1_000, 4, weights, this.meterRegistry, () -> CLIENT);
+        this.graphQL = GraphQL.newGraphQL(schema).instrumentation(instrumentation).build();
+    }
+
+    @Test
+    void givenAQueryWithinBudget_whenCallsExecute_thenShouldRunItAndRecordItsCost() {
+        // given
+        final var query = "{ videos(perPage: 2) { title castMembers { name } } }";
+        final var expectedCost = 10 + 2 * (1 + 5 + 1);
+
+        // when
+        final var actualResult = this.graphQL.execute(query);
+
+        // then
+        assertTrue(actualResult.getErrors().isEmpty());
+        assertEquals(1, this.fetches.get());
+        assertEquals(expectedCost, cost().totalAmount());
+    }
+
+    @Test
+    void givenAHugePerPage_whenCallsExecute_thenShouldRejectItBeforeFetchingAnything() {
+        // given
+        final var query = "{ videos(perPage: 10000) { title castMembers { name } } }";
+
+        // when
+        final var actualResult = this.graphQL.execute(query);
+
+        // then
+        assertRejected(actualResult, "Query cost 70010 exceeds the limit of 1000");
+        assertEquals(0, this.fetches.get());
+        assertEquals(1.0, rejected("cost"));
+    }
+
+    @Test
+    void givenAPerPageFromAVariable_whenCallsExecute_thenShouldScoreTheCoercedValue() {
+        // given
+        final var query = "query Videos($perPage: Int) { videos(perPage: $perPage) { title } }";
+
+        // when
+        final var actualResult = this.graphQL.execute(input -> input.query(query).variables(Map.of("perPage", 1_000)));
+
+        // then
+        assertRejected(actualResult, "Query cost 1010 exceeds the limit of 1000");
+    }
+
+    @Test
+    void givenAQueryTooDeep_whenCallsExecute_thenShouldRejectIt() {
+        // given
+        final var query = "{ videos(perPage: 1) { castMembers { videos { castMembers { name } } } } }";
+
+        // when
+        final var actualResult = this.graphQL.execute(query);
+
+        // then
+        assertRejected(actualResult, "Query depth 5 exceeds the limit of 4");
+        assertEquals(1.0, rejected("depth"));
+    }
+
+    @Test
+    void givenAnIntrospectionQuery_whenCallsExecute_thenShouldNotScoreIt() {
+        // given
+        final var query = "{ __schema { types { name fields { name type { name ofType { name ofType { name } } } } } } }";
+
+        // when
+        final var actualResult = this.graphQL.execute(query);
+
+        // then
+        assertTrue(actualResult.getErrors().isEmpty());
+        assertEquals(0.0, cost().totalAmount());
+    }
+
+    private static void assertRejected(final ExecutionResult result, final String expectedMessage) {
+        assertNull(result.getData());
+        assertEquals(expectedMessage, result.getErrors().getFirst().getMessage());
+    }
+
+    private DistributionSummary cost() {
+        return this.meterRegistry.get("catalogo.graphql.query.cost").tag("client", CLIENT).summary();
+    }
+
+    private double rejected(final String reason) {
+        return this.meterRegistry.get("catalogo.graphql.query.rejected").tag("client", CLIENT).tag("reason", reason).counter().count();
+    }
+}
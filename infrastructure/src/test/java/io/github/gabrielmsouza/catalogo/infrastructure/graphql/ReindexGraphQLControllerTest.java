@@ -0,0 +1,142 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.graphql;
+
+import io.github.gabrielmsouza.catalogo.GraphQLControllerTest;
+import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.ReindexStatus;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.Reindexer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@GraphQLControllerTest(controllers = ReindexGraphQLController.class)
+public class ReindexGraphQLControllerTest {
+    @MockBean
+    private Reindexer reindexer;
+
+    @Autowired
+    private GraphQlTester graphql;
+
+    @Test
+    void givenAnIndex_whenCallsReindexMutation_thenShouldStartItAndReturnStatus() {
+        // given
+        final var expectedIndex = "videos";
+        final var expectedSource = "videos_v1";
+        final var expectedTarget = "videos_v2";
+        final var startedAt = InstantUtils.now();
+
+        when(this.reindexer.start(expectedIndex))
+                .thenReturn(ReindexStatus.started(expectedIndex, expectedSource, expectedTarget, startedAt));
+
+        final var query = """
+                mutation Reindex($index: String!) {
+                    reindex(index: $index) {
+                        index
+                        source
+                        target
+                        state
+                        startedAt
+                    }
+                }
+                """;
+
+        // when
+        final var res = this.graphql.document(query)
+                .variable("index", expectedIndex)
+                .execute();
+
+        // then
+        res.path("reindex.index").entity(String.class).isEqualTo(expectedIndex)
+                .path("reindex.source").entity(String.class).isEqualTo(expectedSource)
+                .path("reindex.target").entity(String.class).isEqualTo(expectedTarget)
+                .path("reindex.state").entity(String.class).isEqualTo("STARTING")
+                .path("reindex.startedAt").entity(String.class).isEqualTo(startedAt.toString());
+
+        verify(this.reindexer, times(1)).start(expectedIndex);
+    }
+
+    @Test
+    void givenARunningReindex_whenCallsReindexStatus_thenShouldReturnProgress() {
+        // given
+        final var expectedIndex = "categories";
+        final var status = ReindexStatus.started(expectedIndex, "categories", "categories_v1", InstantUtils.now())
+                .backfilling("node:42", 100, 40, 2, 1);
+
+        when(this.reindexer.status(expectedIndex)).thenReturn(Optional.of(status));
+
+        final var query = """
+                {
+                    reindexStatus(index: "categories") {
+                        state
+                        task
+                        total
+                        created
+                        updated
+                        versionConflicts
+                    }
+                }
+                """;
+
+        // when
+        final var res = this.graphql.document(query).execute();
+
+        // then
+        res.path("reindexStatus.state").entity(String.class).isEqualTo("BACKFILLING")
+                .path("reindexStatus.task").entity(String.class).isEqualTo("node:42")
+                .path("reindexStatus.total").entity(Long.class).isEqualTo(100L)
+                .path("reindexStatus.created").entity(Long.class).isEqualTo(40L)
+                .path("reindexStatus.updated").entity(Long.class).isEqualTo(2L)
+                .path("reindexStatus.versionConflicts").entity(Long.class).isEqualTo(1L);
+    }
+
+    @Test
+    void givenACompletedReindex_whenCallsReindexStatus_thenShouldReturnTheRetainedVersions() {
+        // given
+        final var expectedIndex = "categories";
+        final var status = ReindexStatus.started(expectedIndex, "categories_v2", "categories_v3", InstantUtils.now())
+                .completed(0, List.of("categories_v2"), InstantUtils.now());
+
+        when(this.reindexer.status(expectedIndex)).thenReturn(Optional.of(status));
+
+        final var query = """
+                {
+                    reindexStatus(index: "categories") {
+                        state
+                        retained
+                    }
+                }
+                """;
+
+        // when
+        final var res = this.graphql.document(query).execute();
+
+        // then
+        res.path("reindexStatus.state").entity(String.class).isEqualTo("COMPLETED")
+                .path("reindexStatus.retained").entityList(String.class).containsExactly("categories_v2");
+    }
+
+    @Test
+    void givenNoReindex_whenCallsReindexStatus_thenShouldReturnNull() {
+        // given
+        when(this.reindexer.status("genres")).thenReturn(Optional.empty());
+
+        final var query = """
+                {
+                    reindexStatus(index: "genres") {
+                        state
+                    }
+                }
+                """;
+
+        // when
+        final var res = this.graphql.document(query).execute();
+
+        // then
+        res.path("reindexStatus").valueIsNull();
+    }
+}
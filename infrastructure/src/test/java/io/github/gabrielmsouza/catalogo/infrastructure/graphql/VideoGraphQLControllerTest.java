@@ -7,20 +7,29 @@ import io.github.gabrielmsouza.catalogo.application.genre.get.GetAllGenresByIdUs
 import io.github.gabrielmsouza.catalogo.application.video.list.ListVideoUseCase;
 import io.github.gabrielmsouza.catalogo.application.video.save.SaveVideoUseCase;
 import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.castmember.CastMemberType;
 import io.github.gabrielmsouza.catalogo.domain.pagination.Pagination;
 import io.github.gabrielmsouza.catalogo.domain.utils.IDUtils;
 import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.annontations.VirtualThreads;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.graphql.test.tester.GraphQlTester;
 
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +37,15 @@ import static org.mockito.Mockito.*;
 
 @GraphQLControllerTest(controllers = VideoGraphQLController.class)
 public class VideoGraphQLControllerTest {
+    @TestConfiguration
+    static class ExecutorConfiguration {
+        @Bean(destroyMethod = "close")
+        @VirtualThreads
+        ExecutorService executor() {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+    }
+
     @MockBean
     private ListVideoUseCase listVideoUseCase;
 
@@ -52,9 +70,13 @@ public class VideoGraphQLControllerTest {
         final var java21 = Fixture.Videos.java21();
         final var systemDesign = Fixture.Videos.systemDesign();
 
-        final var categories = List.of(new GetAllCategoriesByIdUseCase.Output(Fixture.Categories.lives()));
-        final var castMembers = List.of(new GetAllCastMembersByIdUseCase.Output(Fixture.CastMembers.actor()));
-        final var genres = List.of(new GetAllGenresByIdUseCase.Output(Fixture.Genres.tech()));
+        final var java21Categories = List.of(categoryOf("lives"));
+        final var java21CastMembers = List.of(castMemberOf("gabriel"));
+        final var java21Genres = List.of(genreOf("java"));
+
+        final var systemDesignCategories = List.of(categoryOf("aulas"));
+        final var systemDesignCastMembers = List.of(castMemberOf("luiz"));
+        final var systemDesignGenres = List.of(genreOf("systemdesign"));
 
         final var expectedVideos = List.of(
                 ListVideoUseCase.Output.from(java21),
@@ -75,9 +97,9 @@ public class VideoGraphQLControllerTest {
         when(this.listVideoUseCase.execute(any()))
                 .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedVideos.size(), expectedVideos));
 
-        when(this.getAllCastMembersByIdUseCase.execute(any())).thenReturn(castMembers);
-        when(this.getAllCategoriesByIdUseCase.execute(any())).thenReturn(categories);
-        when(this.getAllGenresByIdUseCase.execute(any())).thenReturn(genres);
+        when(this.getAllCastMembersByIdUseCase.execute(any())).thenReturn(List.of(java21CastMembers.get(0), systemDesignCastMembers.get(0)));
+        when(this.getAllCategoriesByIdUseCase.execute(any())).thenReturn(List.of(java21Categories.get(0), systemDesignCategories.get(0)));
+        when(this.getAllGenresByIdUseCase.execute(any())).thenReturn(List.of(java21Genres.get(0), systemDesignGenres.get(0)));
 
         final var query = """
                 {
@@ -132,8 +154,8 @@ public class VideoGraphQLControllerTest {
                 .get();
 
         // then
-        compareVideoOutput(categories, castMembers, genres, expectedVideos.get(0), actualVideos.get(0));
-        compareVideoOutput(categories, castMembers, genres, expectedVideos.get(1), actualVideos.get(1));
+        compareVideoOutput(java21Categories, java21CastMembers, java21Genres, expectedVideos.get(0), actualVideos.get(0));
+        compareVideoOutput(systemDesignCategories, systemDesignCastMembers, systemDesignGenres, expectedVideos.get(1), actualVideos.get(1));
 
         final var captor = ArgumentCaptor.forClass(ListVideoUseCase.Input.class);
 
@@ -151,14 +173,93 @@ public class VideoGraphQLControllerTest {
         Assertions.assertEquals(expectedYearLaunched, actualQuery.launchedAt());
         Assertions.assertEquals(expectedRating, actualQuery.rating());
 
-        verify(this.getAllCastMembersByIdUseCase).execute(argThat(i -> i.ids().equals(java21.castMembers())));
-        verify(this.getAllCastMembersByIdUseCase).execute(argThat(i -> i.ids().equals(systemDesign.castMembers())));
+        Assertions.assertEquals(
+                Set.of("id", "title", "description", "launchedAt", "rating", "duration", "opened", "published", "video",
+                        "trailer", "banner", "thumbnail", "thumbnailHalf", "castMembers", "categories", "genres", "createdAt", "updatedAt"),
+                actualQuery.fields()
+        );
+
+        verify(this.getAllCastMembersByIdUseCase, times(1)).execute(argThat(i -> i.ids().equals(Set.of("gabriel", "luiz"))));
+        verify(this.getAllCategoriesByIdUseCase, times(1)).execute(argThat(i -> i.ids().equals(Set.of("lives", "aulas"))));
+        verify(this.getAllGenresByIdUseCase, times(1)).execute(argThat(i -> i.ids().equals(Set.of("java", "systemdesign"))));
+    }
+
+    @Test
+    public void givenAFullPageOfVideos_whenCallsListVideosWithRelations_shouldFetchEachRelationOnce() {
+        // given
+        final var expectedPerPage = 50;
+        final var expectedVideos = IntStream.range(0, expectedPerPage)
+                .mapToObj(i -> i % 2 == 0 ? Fixture.Videos.java21() : Fixture.Videos.systemDesign())
+                .map(ListVideoUseCase.Output::from)
+                .toList();
+
+        when(this.listVideoUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, expectedVideos.size(), expectedVideos));
+
+        when(this.getAllCastMembersByIdUseCase.execute(any())).thenReturn(List.of(castMemberOf("gabriel"), castMemberOf("luiz")));
+        when(this.getAllCategoriesByIdUseCase.execute(any())).thenReturn(List.of(categoryOf("lives"), categoryOf("aulas")));
+        when(this.getAllGenresByIdUseCase.execute(any())).thenReturn(List.of(genreOf("java"), genreOf("systemdesign")));
+
+        final var query = """
+                query AllVideos($perPage: Int) {
+                  videos(perPage: $perPage) {
+                    id
+                    castMembers { id }
+                    categories { id }
+                    genres { id }
+                  }
+                }
+                """;
 
-        verify(this.getAllCategoriesByIdUseCase).execute(argThat(i -> i.ids().equals(java21.categories())));
-        verify(this.getAllCategoriesByIdUseCase).execute(argThat(i -> i.ids().equals(systemDesign.categories())));
+        // when
+        final var actualVideos = this.graphql.document(query)
+                .variable("perPage", expectedPerPage)
+                .execute()
+                .path("videos")
+                .entityList(Object.class)
+                .get();
+
+        // then
+        Assertions.assertEquals(expectedPerPage, actualVideos.size());
 
-        verify(this.getAllGenresByIdUseCase).execute(argThat(i -> i.ids().equals(java21.genres())));
-        verify(this.getAllGenresByIdUseCase).execute(argThat(i -> i.ids().equals(systemDesign.genres())));
+        verify(this.getAllCastMembersByIdUseCase, times(1)).execute(any());
+        verify(this.getAllCategoriesByIdUseCase, times(1)).execute(any());
+        verify(this.getAllGenresByIdUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    public void givenSlowRelations_whenCallsListVideosWithRelations_shouldFetchThemConcurrently() {
+        // given
+        final var expectedVideos = List.of(ListVideoUseCase.Output.from(Fixture.Videos.java21()));
+
+        when(this.listVideoUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, expectedVideos.size(), expectedVideos));
+
+        // each lookup only returns once all three are in flight, run one after another the first would time out
+        final var inFlight = new CountDownLatch(3);
+        when(this.getAllCastMembersByIdUseCase.execute(any())).thenAnswer(i -> awaitAll(inFlight, List.of(castMemberOf("gabriel"))));
+        when(this.getAllCategoriesByIdUseCase.execute(any())).thenAnswer(i -> awaitAll(inFlight, List.of(categoryOf("lives"))));
+        when(this.getAllGenresByIdUseCase.execute(any())).thenAnswer(i -> awaitAll(inFlight, List.of(genreOf("java"))));
+
+        final var query = """
+                query AllVideos {
+                  videos {
+                    id
+                    castMembers { id }
+                    categories { id }
+                    genres { id }
+                  }
+                }
+                """;
+
+        // when
+        final var res = this.graphql.document(query).execute();
+
+        // then
+        res.errors().verify();
+        res.path("videos[0].castMembers[0].id").entity(String.class).isEqualTo("gabriel");
+        res.path("videos[0].categories[0].id").entity(String.class).isEqualTo("lives");
+        res.path("videos[0].genres[0].id").entity(String.class).isEqualTo("java");
     }
 
     @Test
@@ -241,6 +342,7 @@ public class VideoGraphQLControllerTest {
         Assertions.assertEquals(expectedGenres, actualQuery.genres());
         Assertions.assertEquals(expectedYearLaunched, actualQuery.launchedAt());
         Assertions.assertEquals(expectedRating, actualQuery.rating());
+        Assertions.assertEquals(Set.of("id"), actualQuery.fields());
     }
 
     @Test
@@ -448,4 +550,24 @@ public class VideoGraphQLControllerTest {
                         && actualVideo.genres().containsAll(expectedGenres)
         );
     }
+
+    private static <T> T awaitAll(final CountDownLatch inFlight, final T result) throws InterruptedException {
+        inFlight.countDown();
+        if (!inFlight.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("relations were not fetched concurrently");
+        }
+        return result;
+    }
+
+    private static GetAllCategoriesByIdUseCase.Output categoryOf(final String id) {
+        return new GetAllCategoriesByIdUseCase.Output(id, id, null);
+    }
+
+    private static GetAllCastMembersByIdUseCase.Output castMemberOf(final String id) {
+        return new GetAllCastMembersByIdUseCase.Output(id, id, CastMemberType.ACTOR, InstantUtils.now(), InstantUtils.now());
+    }
+
+    private static GetAllGenresByIdUseCase.Output genreOf(final String id) {
+        return new GetAllGenresByIdUseCase.Output(id, id, true, Set.of(), InstantUtils.now(), InstantUtils.now(), null);
+    }
 }
@@ -0,0 +1,181 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.kafka;
+
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.KafkaProperties;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.CacheInvalidation;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.QueryResultCaches;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.HttpClient;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.NegativeCache;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.kafka.core.KafkaOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AdminCacheInvalidatorTest {
+    private static final String TOPIC = "catalogo.admin-cache-invalidations";
+    private static final String ORIGIN = "replica-1";
+
+    private ConcurrentMapCacheManager cacheManager;
+    private NegativeCache negativeCache;
+    private SingleFlight singleFlight;
+    private KafkaOperations<String, String> kafkaOperations;
+    private QueryResultCaches resultCaches;
+    private AdminCacheInvalidator invalidator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.cacheManager = new ConcurrentMapCacheManager("admin-categories");
+        this.negativeCache = new NegativeCache("categories", Duration.ofMinutes(1), 10, new SimpleMeterRegistry());
+        this.singleFlight = new SingleFlight("categories", new SimpleMeterRegistry());
+
+        final var client = mock(HttpClient.class);
+        when(client.namespace()).thenReturn("categories");
+        when(client.negativeCache()).thenReturn(this.negativeCache);
+        when(client.singleFlight()).thenReturn(this.singleFlight);
+
+        this.kafkaOperations = mock(KafkaOperations.class);
+        when(this.kafkaOperations.send(anyString(), anyString(), anyString())).thenReturn(new CompletableFuture<>());
+
+        final var props = new KafkaProperties();
+        props.setInvalidationsTopic(TOPIC);
+
+        this.resultCaches = mock(QueryResultCaches.class);
+
+        this.invalidator = new AdminCacheInvalidator(this.cacheManager, List.of(client), this.resultCaches, props, this.kafkaOperations, ORIGIN);
+    }
+
+    @Test
+    void givenCachedIds_whenCallsEvict_thenShouldEvictThemAndBroadcast() {
+        // given
+        final var cache = this.cacheManager.getCache("admin-categories");
+        cache.put("123", "aulas");
+        cache.put("456", "lives");
+        this.negativeCache.notFound("789");
+
+        // when
+        this.invalidator.evict("categories", List.of("123", "789"));
+
+        // then
+        assertNull(cache.get("123"));
+        assertNotNull(cache.get("456"));
+        assertFalse(this.negativeCache.isNotFound("789"));
+
+        final var message = ArgumentCaptor.forClass(String.class);
+        verify(this.kafkaOperations, times(1)).send(eq(TOPIC), eq("categories"), message.capture());
+        assertEquals(
+                new CacheInvalidation(ORIGIN, "categories", Set.of("123", "789")),
+                Json.readValue(message.getValue(), CacheInvalidation.class)
+        );
+    }
+
+    @Test
+    void givenAFetchStartedBeforeTheChange_whenCallsEvict_thenTheNextFetchShouldNotJoinIt() throws Exception {
+        // given
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var reload = CompletableFuture.supplyAsync(() -> this.singleFlight.execute("123", () -> {
+                started.countDown();
+                await(release);
+                return "stale";
+            }), executor);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // when
+            this.invalidator.evict("categories", "123");
+            final var actualResult = this.singleFlight.execute("123", () -> "fresh");
+
+            // then
+            assertEquals("fresh", actualResult);
+
+            release.countDown();
+            assertEquals("stale", reload.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void givenFetchedValues_whenCallsPut_thenShouldOverwriteOnlyLocally() {
+        // given
+        final var cache = this.cacheManager.getCache("admin-categories");
+        cache.put("123", "stale");
+
+        // when
+        this.invalidator.put("categories", Map.of("123", "fresh"));
+
+        // then
+        assertEquals("fresh", cache.get("123").get());
+        verifyNoInteractions(this.kafkaOperations);
+    }
+
+    @Test
+    void givenInvalidationsFromThisAndAnotherReplica_whenCallsOnMessage_thenShouldEvictOnlyTheRemoteOnes() {
+        // given
+        final var cache = this.cacheManager.getCache("admin-categories");
+        cache.put("123", "aulas");
+        cache.put("456", "lives");
+
+        // when
+        this.invalidator.onMessage(Json.writeValueAsString(new CacheInvalidation(ORIGIN, "categories", Set.of("123"))));
+        this.invalidator.onMessage(Json.writeValueAsString(new CacheInvalidation("replica-2", "categories", Set.of("456"))));
+        this.invalidator.onMessage(Json.writeValueAsString(new CacheInvalidation("replica-2", "unknown", Set.of("123"))));
+
+        // then
+        assertNotNull(cache.get("123"));
+        assertNull(cache.get("456"));
+        verifyNoInteractions(this.kafkaOperations);
+    }
+
+    @Test
+    void givenAWriteToAnIndex_whenCallsInvalidateResults_thenShouldBroadcastItOnly() {
+        // when
+        this.invalidator.invalidateResults("cast_members");
+
+        // then
+        final var message = ArgumentCaptor.forClass(String.class);
+        verify(this.kafkaOperations, times(1)).send(eq(TOPIC), eq("cast_members"), message.capture());
+        assertEquals(
+                CacheInvalidation.ofResults(ORIGIN, "cast_members"),
+                Json.readValue(message.getValue(), CacheInvalidation.class)
+        );
+        verifyNoInteractions(this.resultCaches);
+    }
+
+    @Test
+    void givenResultInvalidationsFromThisAndAnotherReplica_whenCallsOnMessage_thenShouldInvalidateOnlyTheRemoteOnes() {
+        // when
+        this.invalidator.onMessage(Json.writeValueAsString(CacheInvalidation.ofResults(ORIGIN, "categories")));
+        this.invalidator.onMessage(Json.writeValueAsString(CacheInvalidation.ofResults("replica-2", "videos")));
+
+        // then
+        verify(this.resultCaches, times(1)).invalidate("videos");
+        verify(this.resultCaches, never()).invalidate("categories");
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch was not released");
+            }
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
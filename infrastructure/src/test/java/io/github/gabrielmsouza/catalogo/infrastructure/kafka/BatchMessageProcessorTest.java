@@ -0,0 +1,500 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.category.Category;
+import io.github.gabrielmsouza.catalogo.infrastructure.category.models.CategoryEvent;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.Operation;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.Source;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.ValuePayload;
+import io.github.gabrielmsouza.catalogo.infrastructure.search.ExternalVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchMessageProcessorTest {
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.categories";
+    private static final int MAX_IN_FLIGHT = 4;
+
+    private final List<List<Category>> bulkSaves = new ArrayList<>();
+    private final List<Category> singleSaves = new ArrayList<>();
+    private final List<Set<String>> bulkDeletes = new ArrayList<>();
+    private final List<String> singleDeletes = new ArrayList<>();
+    private final Map<String, Long> writeVersions = new HashMap<>();
+
+    private Category aulas;
+    private Category lives;
+    private Category talks;
+    private Map<String, Category> admin;
+    private Consumer<String> onFetch = id -> {};
+    private boolean failBulk;
+    private String failingId;
+
+    private final List<String> fetches = new CopyOnWriteArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchMessageProcessor<CategoryEvent, Category> processor;
+
+    @BeforeEach
+    void setUp() {
+        this.aulas = Fixture.Categories.aulas();
+        this.lives = Fixture.Categories.lives();
+        this.talks = Fixture.Categories.talks();
+        this.admin = Map.of(aulas.id(), aulas, lives.id(), lives, talks.id(), talks);
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.processor = processor(null);
+    }
+
+    private BatchMessageProcessor<CategoryEvent, Category> processor(final Function<List<CategoryEvent>, Map<String, Category>> fetchAll) {
+        final var executor = Executors.newVirtualThreadPerTaskExecutor();
+        final Function<CategoryEvent, CompletableFuture<Optional<Category>>> fetch = it -> CompletableFuture.supplyAsync(() -> {
+            this.fetches.add(it.id());
+            this.onFetch.accept(it.id());
+            return Optional.ofNullable(this.admin.get(it.id()));
+        }, executor);
+
+        return new BatchMessageProcessor<>(
+                "categories",
+                this.meterRegistry,
+                MAX_IN_FLIGHT,
+                new TypeReference<MessageValue<CategoryEvent>>() {
+                },
+                CategoryEvent::id,
+                fetch,
+                fetchAll,
+                categories -> {
+                    if (this.failBulk) {
+                        throw new IllegalStateException("bulk failed");
+                    }
+                    categories.forEach(it -> this.writeVersions.put(it.id(), ExternalVersions.of(it.id())));
+                    this.bulkSaves.add(categories);
+                },
+                category -> {
+                    if (category.id().equals(this.failingId)) {
+                        throw new IllegalStateException("save failed");
+                    }
+                    this.writeVersions.put(category.id(), ExternalVersions.of(category.id()));
+                    this.singleSaves.add(category);
+                },
+                ids -> {
+                    ids.forEach(it -> this.writeVersions.put(it, ExternalVersions.of(it)));
+                    this.bulkDeletes.add(ids);
+                },
+                id -> {
+                    this.writeVersions.put(id, ExternalVersions.of(id));
+                    this.singleDeletes.add(id);
+                }
+        );
+    }
+
+    @Test
+    void givenABulkFetch_whenCallsProcess_thenShouldResolveAllUpsertsInOneCall() {
+        // given
+        final var bulkFetches = new ArrayList<List<String>>();
+        this.processor = processor(events -> {
+            bulkFetches.add(events.stream().map(CategoryEvent::id).toList());
+            return Map.of(aulas.id(), aulas, talks.id(), talks);
+        });
+
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                aRecord(1, upsert("unknown")),
+                aRecord(2, delete(lives.id())),
+                aRecord(3, upsert(talks.id()))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(List.of(List.of(aulas.id(), "unknown", talks.id())), bulkFetches);
+        assertTrue(this.fetches.isEmpty());
+        assertEquals(List.of(List.of(aulas), List.of(talks)), this.bulkSaves);
+        assertEquals(List.of(Set.of(lives.id())), this.bulkDeletes);
+    }
+
+    @Test
+    void givenAFailingBulkFetch_whenCallsProcess_thenShouldFallBackToSingleFetches() {
+        // given
+        this.processor = processor(events -> {
+            throw new IllegalStateException("admin unavailable");
+        });
+
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                aRecord(1, upsert(lives.id()))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(Set.of(aulas.id(), lives.id()), Set.copyOf(this.fetches));
+        assertEquals(List.of(List.of(aulas, lives)), this.bulkSaves);
+    }
+
+    @Test
+    void givenOnlyUpserts_whenCallsProcess_thenShouldSaveThemInOneBulk() {
+        // given
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                aRecord(1, null),
+                aRecord(2, upsert(lives.id()))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(List.of(List.of(aulas, lives)), this.bulkSaves);
+        assertTrue(this.singleSaves.isEmpty());
+        assertTrue(this.bulkDeletes.isEmpty());
+    }
+
+    @Test
+    void givenInterleavedOperations_whenCallsProcess_thenShouldKeepOnlyLatestOperationPerId() {
+        // given
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                aRecord(1, delete(aulas.id())),
+                aRecord(2, delete(lives.id())),
+                aRecord(3, upsert(talks.id()))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(List.of(talks.id()), this.fetches);
+        assertEquals(List.of(List.of(talks)), this.bulkSaves);
+        assertEquals(List.of(Set.of(aulas.id(), lives.id())), this.bulkDeletes);
+        assertEquals(1.0, coalescedCount());
+    }
+
+    @Test
+    void givenRepeatedUpserts_whenCallsProcess_thenShouldFetchAndSaveOnlyOnce() {
+        // given
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                aRecord(1, upsert(lives.id())),
+                aRecord(2, upsert(aulas.id())),
+                aRecord(3, upsert(aulas.id()))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(2, this.fetches.size());
+        assertEquals(Set.of(lives.id(), aulas.id()), Set.copyOf(this.fetches));
+        assertEquals(List.of(List.of(lives, aulas)), this.bulkSaves);
+        assertEquals(2.0, coalescedCount());
+        assertEquals(4.0, this.meterRegistry.get("catalogo.kafka.events.received").counter().count());
+    }
+
+    @Test
+    void givenUpsertsFollowedByDelete_whenCallsProcess_thenDeleteShouldWin() {
+        // given
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                aRecord(1, upsert(aulas.id())),
+                aRecord(2, delete(aulas.id()))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertTrue(this.fetches.isEmpty());
+        assertTrue(this.bulkSaves.isEmpty());
+        assertEquals(List.of(Set.of(aulas.id())), this.bulkDeletes);
+        assertEquals(2.0, coalescedCount());
+    }
+
+    @Test
+    void givenUnknownResource_whenCallsProcess_thenShouldSkipIt() {
+        // given
+        final var records = List.of(
+                aRecord(0, upsert("unknown")),
+                aRecord(1, upsert(aulas.id()))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(List.of(List.of(aulas)), this.bulkSaves);
+    }
+
+    @Test
+    void givenBulkFailure_whenCallsProcess_thenShouldFallBackToSingleSavesAndReportFailingRecord() {
+        // given
+        this.failBulk = true;
+        this.failingId = lives.id();
+
+        final var failingRecord = aRecord(1, upsert(lives.id()));
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                failingRecord,
+                aRecord(2, upsert(talks.id()))
+        );
+
+        // when
+        final var actualException = assertThrows(BatchListenerFailedException.class, () -> this.processor.process(records));
+
+        // then
+        assertSame(failingRecord, actualException.getRecord());
+        assertEquals(List.of(aulas), this.singleSaves);
+    }
+
+    @Test
+    void givenDistinctIds_whenCallsProcess_thenShouldFetchThemConcurrently() {
+        // given
+        final var barrier = new CountDownLatch(2);
+        this.onFetch = id -> {
+            barrier.countDown();
+            try {
+                if (!barrier.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("fetches were not concurrent");
+                }
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                aRecord(1, upsert(lives.id()))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(List.of(List.of(aulas, lives)), this.bulkSaves);
+    }
+
+    @Test
+    void givenMoreIdsThanMaxInFlight_whenCallsProcess_thenShouldBoundPendingFetches() {
+        // given
+        final var pending = new AtomicInteger();
+        final var maxPending = new AtomicInteger();
+        this.onFetch = id -> {
+            maxPending.accumulateAndGet(pending.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        };
+
+        final var records = new ArrayList<ConsumerRecord<String, String>>();
+        for (var i = 0; i < MAX_IN_FLIGHT * 3; i++) {
+            records.add(aRecord(i, upsert("id-" + i)));
+        }
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(MAX_IN_FLIGHT * 3, this.fetches.size());
+        assertTrue(maxPending.get() <= MAX_IN_FLIGHT, "pending fetches: " + maxPending.get());
+    }
+
+    @Test
+    void givenFetchFailure_whenCallsProcess_thenShouldSavePreviousAndReportFailingRecord() {
+        // given
+        this.onFetch = id -> {
+            if (id.equals(lives.id())) {
+                throw new IllegalStateException("admin unavailable");
+            }
+        };
+
+        final var failingRecord = aRecord(1, upsert(lives.id()));
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                failingRecord,
+                aRecord(2, upsert(talks.id()))
+        );
+
+        // when
+        final var actualException = assertThrows(BatchListenerFailedException.class, () -> this.processor.process(records));
+
+        // then
+        assertSame(failingRecord, actualException.getRecord());
+        assertEquals(List.of(List.of(aulas)), this.bulkSaves);
+    }
+
+    @Test
+    void givenFetchFailureWhileOthersAreInFlight_whenCallsProcess_thenShouldWaitForThemBeforeRethrowing() {
+        // given
+        final var completed = new CopyOnWriteArrayList<String>();
+        this.onFetch = id -> {
+            if (id.equals(lives.id())) {
+                throw new IllegalStateException("admin unavailable");
+            }
+            if (id.equals(talks.id())) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            completed.add(id);
+        };
+
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                aRecord(1, upsert(lives.id())),
+                aRecord(2, upsert(talks.id()))
+        );
+
+        // when
+        assertThrows(BatchListenerFailedException.class, () -> this.processor.process(records));
+
+        // then
+        assertTrue(completed.contains(talks.id()), "in-flight fetch still running after the batch failed");
+
+        final var retried = new ArrayList<ConsumerRecord<String, String>>();
+        for (var i = 0; i < MAX_IN_FLIGHT; i++) {
+            retried.add(aRecord(i, upsert("id-" + i)));
+        }
+        final var pending = new AtomicInteger();
+        final var maxPending = new AtomicInteger();
+        final var barrier = new CountDownLatch(MAX_IN_FLIGHT);
+        this.onFetch = id -> {
+            maxPending.accumulateAndGet(pending.incrementAndGet(), Math::max);
+            barrier.countDown();
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        };
+
+        this.processor.process(retried);
+        assertEquals(MAX_IN_FLIGHT, maxPending.get());
+    }
+
+    @Test
+    void givenInvalidPayload_whenCallsProcess_thenShouldFlushPreviousAndReportIt() {
+        // given
+        final var invalidRecord = aRecord(1, "{invalid");
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id())),
+                invalidRecord
+        );
+
+        // when
+        final var actualException = assertThrows(BatchListenerFailedException.class, () -> this.processor.process(records));
+
+        // then
+        assertSame(invalidRecord, actualException.getRecord());
+        assertEquals(List.of(List.of(aulas)), this.bulkSaves);
+    }
+
+    @Test
+    void givenEventsWithBinlogPositions_whenCallsProcess_thenShouldWriteEachIdWithItsPositionAsVersion() {
+        // given
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id(), "mysql-bin.000003", 120L)),
+                aRecord(1, delete(lives.id(), "mysql-bin.000004", 4L)),
+                aRecord(2, upsert(talks.id(), "mysql-bin", 240L))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(3L << 32 | 120L, this.writeVersions.get(aulas.id()));
+        assertEquals(4L << 32 | 4L, this.writeVersions.get(lives.id()));
+        assertTrue(this.writeVersions.containsKey(talks.id()));
+        assertNull(this.writeVersions.get(talks.id()));
+        assertNull(ExternalVersions.of(aulas.id()));
+    }
+
+    @Test
+    void givenAFailingBulkSave_whenCallsProcess_thenShouldReplayEachItemWithItsVersion() {
+        // given
+        this.failBulk = true;
+
+        final var records = List.of(
+                aRecord(0, upsert(aulas.id(), "mysql-bin.000003", 120L)),
+                aRecord(1, upsert(lives.id(), "mysql-bin.000003", 360L))
+        );
+
+        // when
+        this.processor.process(records);
+
+        // then
+        assertEquals(List.of(aulas, lives), this.singleSaves);
+        assertEquals(3L << 32 | 120L, this.writeVersions.get(aulas.id()));
+        assertEquals(3L << 32 | 360L, this.writeVersions.get(lives.id()));
+    }
+
+    private double coalescedCount() {
+        return this.meterRegistry.get("catalogo.kafka.events.coalesced").tag("listener", "categories").counter().count();
+    }
+
+    private static ConsumerRecord<String, String> aRecord(final long offset, final String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+    }
+
+    private static String upsert(final String id) {
+        return Json.writeValueAsString(new MessageValue<>(
+                new ValuePayload<>(new CategoryEvent(id), null, aSource(), Operation.UPDATE)
+        ));
+    }
+
+    private static String delete(final String id) {
+        return Json.writeValueAsString(new MessageValue<>(
+                new ValuePayload<>(null, new CategoryEvent(id), aSource(), Operation.DELETE)
+        ));
+    }
+
+    private static String upsert(final String id, final String file, final Long position) {
+        return Json.writeValueAsString(new MessageValue<>(
+                new ValuePayload<>(new CategoryEvent(id), null, aSource(file, position), Operation.UPDATE)
+        ));
+    }
+
+    private static String delete(final String id, final String file, final Long position) {
+        return Json.writeValueAsString(new MessageValue<>(
+                new ValuePayload<>(null, new CategoryEvent(id), aSource(file, position), Operation.DELETE)
+        ));
+    }
+
+    private static Source aSource() {
+        return new Source("admin_mysql", "admin_catalogo", "categories");
+    }
+
+    private static Source aSource(final String file, final Long position) {
+        return new Source("admin_mysql", "admin_catalogo", "categories", null, file, position);
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.search;
+
+import io.github.gabrielmsouza.catalogo.AbstractElasticsearchTest;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.domain.category.CategorySearchQuery;
+import io.github.gabrielmsouza.catalogo.infrastructure.category.CategoryElasticsearchGateway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReindexerTest extends AbstractElasticsearchTest {
+    private static final String INDEX = "categories";
+
+    @Autowired
+    private Reindexer reindexer;
+
+    @Autowired
+    private SearchIndices indices;
+
+    @Autowired
+    private CategoryElasticsearchGateway gateway;
+
+    @Test
+    void givenAVersionedIndex_whenCallsStart_thenShouldBackfillNextVersionAndSwapAliases() throws InterruptedException {
+        // given
+        final var aulas = Fixture.Categories.aulas();
+        final var lives = Fixture.Categories.lives();
+        this.gateway.saveAll(List.of(aulas, lives));
+
+        final var before = this.indices.layout(INDEX);
+        final var expectedTarget = INDEX + "_v" + (before.version() + 1);
+
+        // when
+        final var actualStarted = this.reindexer.start(INDEX);
+        final var actualWriteTargets = this.indices.writeTargets(INDEX);
+        this.gateway.deleteById(lives.id());
+
+        final var actualStatus = await();
+
+        // then
+        assertEquals(before.readIndex(), actualStarted.source());
+        assertEquals(expectedTarget, actualStarted.target());
+        assertEquals(2, actualWriteTargets.size());
+        assertEquals(expectedTarget, actualWriteTargets.get(1).getIndexName());
+
+        assertEquals(ReindexStatus.State.COMPLETED, actualStatus.state(), actualStatus.error());
+        assertNotNull(actualStatus.finishedAt());
+
+        final var after = this.indices.layout(INDEX);
+        assertEquals(expectedTarget, after.readIndex());
+        assertEquals(expectedTarget, after.writeIndex());
+        assertTrue(after.backfill().isEmpty());
+        assertEquals(List.of(before.readIndex()), after.retired());
+        assertEquals(List.of(before.readIndex()), actualStatus.retained());
+
+        final var actualPage = this.gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+        assertEquals(1, actualPage.meta().total());
+        assertEquals(aulas.id(), actualPage.data().get(0).id());
+    }
+
+    @Test
+    void givenARunningReindex_whenCallsStartAgain_thenShouldRejectIt() throws InterruptedException {
+        // given
+        this.gateway.save(Fixture.Categories.talks());
+        this.reindexer.start(INDEX);
+
+        // when
+        final var actualException = assertThrows(RuntimeException.class, () -> this.reindexer.start(INDEX));
+
+        // then
+        assertEquals("A reindex of 'categories' is already running", actualException.getMessage());
+        await();
+    }
+
+    @Test
+    void givenARetainedVersion_whenCallsStartAgain_thenShouldKeepOnlyTheLatestPreviousVersion() throws InterruptedException {
+        // given
+        this.gateway.save(Fixture.Categories.aulas());
+
+        this.reindexer.start(INDEX);
+        final var first = await();
+        assertEquals(ReindexStatus.State.COMPLETED, first.state(), first.error());
+
+        // when
+        this.reindexer.start(INDEX);
+        final var actualStatus = await();
+
+        // then
+        assertEquals(ReindexStatus.State.COMPLETED, actualStatus.state(), actualStatus.error());
+        assertEquals(List.of(first.target()), actualStatus.retained());
+        assertEquals(List.of(first.target()), this.indices.layout(INDEX).retired());
+    }
+
+    private ReindexStatus await() throws InterruptedException {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        var status = this.reindexer.status(INDEX).orElseThrow();
+        while (status.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+            status = this.reindexer.status(INDEX).orElseThrow();
+        }
+        return status;
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import io.github.gabrielmsouza.catalogo.domain.Fixture;
+import io.github.gabrielmsouza.catalogo.infrastructure.category.persistence.CategoryDocument;
+import io.github.gabrielmsouza.catalogo.infrastructure.utils.StaleWriteHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SearchIndexWriterTest {
+    private static final String INDEX = "categories";
+
+    private ElasticsearchOperations operations;
+    private ElasticsearchClient client;
+    private IndexOperations indexOps;
+    private QueryResultCaches resultCaches;
+    private SimpleMeterRegistry meterRegistry;
+    private SearchIndexWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        this.operations = mock(ElasticsearchOperations.class);
+        final var indices = mock(SearchIndices.class);
+        this.client = mock(ElasticsearchClient.class);
+        this.indexOps = mock(IndexOperations.class);
+        this.resultCaches = mock(QueryResultCaches.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+
+        when(this.operations.indexOps(any(IndexCoordinates.class))).thenReturn(this.indexOps);
+        when(indices.writeTargets(INDEX)).thenReturn(List.of(IndexCoordinates.of("categories_v1"), IndexCoordinates.of("categories_v2")));
+
+        final var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", this.meterRegistry);
+        final var staleWriteHandler = new StaleWriteHandler(beanFactory.getBeanProvider(MeterRegistry.class));
+
+        this.writer = new SearchIndexWriter(this.operations, this.client, indices, staleWriteHandler, this.resultCaches);
+    }
+
+    @Test
+    void givenADocumentInAVersionScope_whenCallsSave_thenShouldSendItWithTheVersionOfItsId() {
+        // given
+        final var aulas = CategoryDocument.from(Fixture.Categories.aulas());
+        final var lives = CategoryDocument.from(Fixture.Categories.lives());
+
+        // when
+        ExternalVersions.with(aulas.id(), 42L, () -> {
+            this.writer.save(INDEX, aulas.id(), aulas);
+            this.writer.save(INDEX, lives.id(), lives);
+        });
+
+        // then
+        assertEquals(42L, aulas.version());
+        assertNull(lives.version());
+        verify(this.operations).save(aulas, IndexCoordinates.of("categories_v1"));
+        verify(this.operations).save(aulas, IndexCoordinates.of("categories_v2"));
+        verify(this.resultCaches, times(2)).invalidate(INDEX);
+    }
+
+    @Test
+    void givenIds_whenCallsDeleteAllById_thenShouldSendDeletesVersionedByTheirScopeToEveryWriteTarget() throws Exception {
+        // given
+        final var request = ArgumentCaptor.forClass(BulkRequest.class);
+        when(this.client.bulk(request.capture())).thenReturn(response());
+
+        final var versions = new HashMap<String, Long>();
+        versions.put("1", 42L);
+        versions.put("2", null);
+
+        // when
+        ExternalVersions.with(versions, () -> this.writer.deleteAllById(INDEX, Set.of("1", "2", "3")));
+
+        // then
+        final var requests = request.getAllValues();
+        assertEquals(2, requests.size());
+        assertEquals(List.of("categories_v1", "categories_v2"), requests.stream().map(it -> it.operations().getFirst().delete().index()).toList());
+
+        final var deletes = requests.stream().flatMap(it -> it.operations().stream()).map(it -> it.delete()).toList();
+        assertEquals(6, deletes.size());
+        for (final var delete : deletes) {
+            if ("1".equals(delete.id())) {
+                assertEquals(42L, delete.version());
+                assertEquals(VersionType.ExternalGte, delete.versionType());
+            } else {
+                assertNull(delete.version());
+                assertNull(delete.versionType());
+            }
+        }
+
+        verify(this.indexOps, times(2)).refresh();
+        verify(this.resultCaches).invalidate(INDEX);
+    }
+
+    @Test
+    void givenADocumentNewerThanTheDelete_whenCallsDeleteById_thenShouldRethrowTheConflict() throws Exception {
+        // given
+        when(this.client.bulk(any(BulkRequest.class))).thenReturn(response(item("1", 409, "version_conflict_engine_exception")));
+
+        // when
+        final var actualException = assertThrows(
+                BulkFailureException.class,
+                () -> ExternalVersions.with("1", 42L, () -> this.writer.deleteById(INDEX, "1"))
+        );
+
+        // then
+        assertEquals(409, actualException.getFailedDocuments().get("1").status());
+        assertNull(this.meterRegistry.find("catalogo.elasticsearch.writes.stale").counter());
+    }
+
+    @Test
+    void givenAFailedDelete_whenCallsDeleteById_thenShouldRethrowIt() throws Exception {
+        // given
+        when(this.client.bulk(any(BulkRequest.class))).thenReturn(response(item("1", 429, "es_rejected_execution_exception")));
+
+        // when
+        final var actualException = assertThrows(BulkFailureException.class, () -> this.writer.deleteById(INDEX, "1"));
+
+        // then
+        assertEquals(429, actualException.getFailedDocuments().get("1").status());
+    }
+
+    @Test
+    void givenNoIds_whenCallsDeleteAllById_thenShouldNotCallElasticsearch() {
+        // when
+        this.writer.deleteAllById(INDEX, Set.of());
+
+        // then
+        verifyNoInteractions(this.client);
+    }
+
+    private static BulkResponse response(final BulkResponseItem... items) {
+        return BulkResponse.of(b -> b.took(1).errors(items.length > 0).items(List.of(items)));
+    }
+
+    private static BulkResponseItem item(final String id, final int status, final String reason) {
+        return BulkResponseItem.of(i -> i
+                .operationType(OperationType.Delete)
+                .index("categories_v1")
+                .id(id)
+                .status(status)
+                .error(e -> e.type(reason).reason(reason))
+        );
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import com.google.common.base.Ticker;
+import io.github.gabrielmsouza.catalogo.infrastructure.exceptions.LimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveLimiterTest {
+    private static final Duration SLOW_CALL = Duration.ofMillis(500);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private Ticker ticker;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.nanos = new AtomicLong();
+        this.ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+    }
+
+    @Test
+    void givenFastCallsUsingTheLimit_whenCallsExecute_thenShouldIncreaseLimitAdditively() {
+        // given
+        final var limiter = limiter(2, 1, 4, Duration.ZERO);
+
+        // when
+        limiter.execute(() -> call(Duration.ofMillis(10)));
+        final var afterFirst = limiter.limit();
+        limiter.execute(() -> call(Duration.ofMillis(10)));
+
+        // then
+        assertEquals(3, afterFirst);
+        assertEquals(3, limiter.limit());
+        assertEquals(3.0, gauge("catalogo.http.concurrency.limit"));
+    }
+
+    @Test
+    void givenFailedAndSlowCalls_whenCallsExecute_thenShouldDecreaseLimitMultiplicatively() {
+        // given
+        final var limiter = limiter(20, 17, 100, Duration.ZERO);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> limiter.execute(() -> {
+            throw new IllegalStateException("admin unavailable");
+        }));
+        final var afterFailure = limiter.limit();
+        limiter.execute(() -> call(SLOW_CALL.plusMillis(1)));
+        final var afterSlowCall = limiter.limit();
+        limiter.execute(() -> call(SLOW_CALL.plusMillis(1)));
+
+        // then
+        assertEquals(18, afterFailure);
+        assertEquals(17, afterSlowCall);
+        assertEquals(17, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void givenTheLimitInUse_whenCallsExecuteWithoutWait_thenShouldRejectIt() throws Exception {
+        // given
+        final var limiter = limiter(1, 1, 1, Duration.ZERO);
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var pending = CompletableFuture.supplyAsync(() -> limiter.execute(() -> {
+                started.countDown();
+                await(release);
+                return "aulas";
+            }), executor);
+            await(started);
+
+            // when
+            final var actualException = assertThrows(LimitExceededException.class, () -> limiter.execute(() -> "lives"));
+            release.countDown();
+
+            // then
+            assertEquals("Concurrency limit of categories is reached [limit:1]", actualException.getMessage());
+            assertEquals("aulas", pending.get(1, TimeUnit.SECONDS));
+            assertEquals(1.0, this.meterRegistry.get("catalogo.http.concurrency.rejected").tag("namespace", "categories").counter().count());
+        }
+    }
+
+    @Test
+    void givenTheLimitInUse_whenCallsExecuteWithWait_thenShouldQueueUntilASlotIsReleased() throws Exception {
+        // given
+        final var limiter = limiter(1, 1, 1, Duration.ofSeconds(5));
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var first = CompletableFuture.supplyAsync(() -> limiter.execute(() -> {
+                started.countDown();
+                await(release);
+                return "aulas";
+            }), executor);
+            await(started);
+
+            // when
+            final var second = CompletableFuture.supplyAsync(() -> limiter.execute(() -> "lives"), executor);
+            while (limiter.waiting() == 0) {
+                Thread.onSpinWait();
+            }
+            final var actualWaiting = gauge("catalogo.http.concurrency.waiting");
+            release.countDown();
+
+            // then
+            assertEquals(1.0, actualWaiting);
+            assertEquals("aulas", first.get(1, TimeUnit.SECONDS));
+            assertEquals("lives", second.get(1, TimeUnit.SECONDS));
+            assertEquals(0, limiter.waiting());
+        }
+    }
+
+    private AdaptiveLimiter limiter(final int initial, final int min, final int max, final Duration maxWait) {
+        return new AdaptiveLimiter("categories", initial, min, max, maxWait, SLOW_CALL, this.meterRegistry, this.ticker);
+    }
+
+    private String call(final Duration latency) {
+        this.nanos.addAndGet(latency.toNanos());
+        return "aulas";
+    }
+
+    private double gauge(final String name) {
+        return this.meterRegistry.get(name).tag("namespace", "categories").gauge().value();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch was not released");
+            }
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
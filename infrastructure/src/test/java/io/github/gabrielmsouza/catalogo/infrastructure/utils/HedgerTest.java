@@ -0,0 +1,166 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import io.github.gabrielmsouza.catalogo.domain.exceptions.InternalErrorException;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.HedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgerTest {
+    private static final Duration MIN_DELAY = Duration.ofMillis(20);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void givenHedgingDisabled_whenCallsExecute_thenShouldCallOnce() {
+        // given
+        final var hedger = hedger(false, 1);
+        final var calls = new AtomicInteger();
+
+        // when
+        final var actualResult = hedger.execute(() -> "aulas-" + calls.incrementAndGet());
+
+        // then
+        assertEquals("aulas-1", actualResult);
+        assertEquals(1, calls.get());
+        assertEquals(Long.MAX_VALUE, hedger.delayNanos());
+        assertEquals(0.0, count("sent"));
+    }
+
+    @Test
+    void givenEnoughSamples_whenCallsExecute_thenShouldUseThePercentileDelayBoundedByTheMinimum() {
+        // given
+        final var hedger = hedger(true, 0.1);
+
+        // when
+        warmUp(hedger);
+
+        // then
+        assertEquals(MIN_DELAY.toNanos(), hedger.delayNanos());
+    }
+
+    @Test
+    void givenASlowPrimary_whenCallsExecute_thenShouldReturnTheHedgeAnswer() {
+        // given
+        final var hedger = hedger(true, 1);
+        warmUp(hedger);
+
+        final var release = new CountDownLatch(1);
+        final var calls = new AtomicInteger();
+
+        // when
+        final var actualResult = hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                await(release);
+                return "primary";
+            }
+            return "hedge";
+        });
+        release.countDown();
+
+        // then
+        assertEquals("hedge", actualResult);
+        assertEquals(2, calls.get());
+        assertEquals(1.0, count("sent"));
+        assertEquals(1.0, count("won"));
+    }
+
+    @Test
+    void givenBothCopiesFailing_whenCallsExecute_thenShouldRethrowTheFailure() {
+        // given
+        final var hedger = hedger(true, 1);
+        warmUp(hedger);
+
+        final var expectedException = InternalErrorException.with("Error observed from videos [resourceId:123] [status:500]");
+        final var calls = new AtomicInteger();
+
+        // when
+        final var actualException = assertThrows(InternalErrorException.class, () -> hedger.execute(() -> {
+            calls.incrementAndGet();
+            sleep(MIN_DELAY.multipliedBy(3));
+            throw expectedException;
+        }));
+
+        // then
+        assertSame(expectedException, actualException);
+        assertEquals(2, calls.get());
+        assertEquals(0.0, count("won"));
+    }
+
+    @Test
+    void givenNoBudget_whenCallsExecute_thenShouldWaitForThePrimary() {
+        // given
+        final var hedger = hedger(true, 0);
+        warmUp(hedger);
+
+        final var calls = new AtomicInteger();
+
+        // when
+        final var actualResult = hedger.execute(() -> {
+            calls.incrementAndGet();
+            sleep(MIN_DELAY.multipliedBy(3));
+            return "primary";
+        });
+
+        // then
+        assertEquals("primary", actualResult);
+        assertEquals(1, calls.get());
+        assertEquals(0.0, count("sent"));
+        assertEquals(1.0, count("denied"));
+    }
+
+    private Hedger hedger(final boolean enabled, final double budget) {
+        final var settings = new HedgingProperties.Settings(enabled, 95, MIN_DELAY, budget);
+        return new Hedger("videos", settings, this.executor, this.meterRegistry);
+    }
+
+    private static void warmUp(final Hedger hedger) {
+        for (var i = 0; i < 20; i++) {
+            hedger.execute(() -> "warm-up");
+        }
+    }
+
+    private double count(final String result) {
+        return this.meterRegistry.get("catalogo.http.hedges").tag("namespace", "videos").tag("result", result).counter().count();
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch was not released");
+            }
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeCacheTest {
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+    private NegativeCache negativeCache;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        final var ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        this.negativeCache = new NegativeCache("videos", Duration.ofSeconds(10), 2, this.meterRegistry, ticker);
+    }
+
+    @Test
+    void givenANotFoundId_whenCallsIsNotFoundWithinTtl_thenShouldReturnTrueAndCountHit() {
+        // given
+        this.negativeCache.notFound("123");
+
+        // when
+        final var actualNotFound = this.negativeCache.isNotFound("123");
+
+        // then
+        assertTrue(actualNotFound);
+        assertEquals(1.0, count("hit"));
+        assertEquals(0.0, count("miss"));
+    }
+
+    @Test
+    void givenANotFoundId_whenTtlElapses_thenShouldForgetItAndCountMiss() {
+        // given
+        this.negativeCache.notFound("123");
+        this.nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // when
+        final var actualNotFound = this.negativeCache.isNotFound("123");
+
+        // then
+        assertFalse(actualNotFound);
+        assertEquals(0.0, count("hit"));
+        assertEquals(1.0, count("miss"));
+    }
+
+    @Test
+    void givenMoreIdsThanCapacity_whenCallsNotFound_thenShouldKeepItBounded() {
+        // when
+        this.negativeCache.notFound("1");
+        this.negativeCache.notFound("2");
+        this.negativeCache.notFound("3");
+
+        // then
+        final var remembered = Stream.of("1", "2", "3").filter(this.negativeCache::isNotFound).count();
+        assertTrue(remembered <= 2);
+    }
+
+    private double count(final String result) {
+        return this.meterRegistry.get("catalogo.http.negative-cache")
+                .tag("namespace", "videos")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import com.google.common.base.Ticker;
+import io.github.gabrielmsouza.catalogo.domain.genre.GenreSearchQuery;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.properties.QueryCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryResultCacheTest {
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private AtomicInteger searches;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.nanos = new AtomicLong();
+        this.searches = new AtomicInteger();
+    }
+
+    @Test
+    void givenTheSameQueryTwice_whenCallsGet_thenShouldSearchOnce() {
+        // given
+        final var cache = cache(true);
+        final var query = new GenreSearchQuery(0, 10, "", "name", "asc", Set.of("c1"));
+
+        // when
+        final var first = cache.get(query, this::search);
+        final var second = cache.get(new GenreSearchQuery(0, 10, "", "name", "asc", Set.of("c1")), this::search);
+
+        // then
+        assertEquals("result-1", first);
+        assertEquals("result-1", second);
+        assertEquals(1, this.searches.get());
+        assertEquals(1.0, count("hit"));
+        assertEquals(1.0, count("miss"));
+    }
+
+    @Test
+    void givenAnInvalidation_whenCallsGet_thenShouldSearchAgain() {
+        // given
+        final var cache = cache(true);
+        final var query = new GenreSearchQuery(0, 10, "", "name", "asc", Set.of());
+        cache.get(query, this::search);
+
+        // when
+        cache.invalidate();
+        final var actualResult = cache.get(query, this::search);
+
+        // then
+        assertEquals("result-2", actualResult);
+        assertEquals(2, this.searches.get());
+    }
+
+    @Test
+    void givenAnInvalidationDuringTheSearch_whenCallsGet_thenShouldNotServeTheResultAfterwards() {
+        // given
+        final var cache = cache(true);
+        final var query = new GenreSearchQuery(0, 10, "", "name", "asc", Set.of());
+
+        // when
+        cache.get(query, () -> {
+            cache.invalidate();
+            return search();
+        });
+        final var actualResult = cache.get(query, this::search);
+
+        // then
+        assertEquals("result-2", actualResult);
+    }
+
+    @Test
+    void givenAnExpiredEntry_whenCallsGet_thenShouldSearchAgain() {
+        // given
+        final var cache = cache(true);
+        final var query = new GenreSearchQuery(0, 10, "", "name", "asc", Set.of());
+        cache.get(query, this::search);
+
+        // when
+        this.nanos.addAndGet(TTL.toNanos());
+        final var actualResult = cache.get(query, this::search);
+
+        // then
+        assertEquals("result-2", actualResult);
+    }
+
+    @Test
+    void givenADisabledCache_whenCallsGet_thenShouldAlwaysSearch() {
+        // given
+        final var cache = cache(false);
+        final var query = new GenreSearchQuery(0, 10, "", "name", "asc", Set.of());
+
+        // when
+        cache.get(query, this::search);
+        cache.get(query, this::search);
+
+        // then
+        assertEquals(2, this.searches.get());
+    }
+
+    private QueryResultCache cache(final boolean enabled) {
+        final var ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        return new QueryResultCache("genres", new QueryCacheProperties.Settings(enabled, 10, TTL), this.meterRegistry, ticker);
+    }
+
+    private String search() {
+        return "result-" + this.searches.incrementAndGet();
+    }
+
+    private double count(final String result) {
+        return this.meterRegistry.get("catalogo.search.results").tag("index", "genres").tag("result", result).counter().count();
+    }
+}
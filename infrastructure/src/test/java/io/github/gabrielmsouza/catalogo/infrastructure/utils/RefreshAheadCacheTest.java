@@ -0,0 +1,267 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshAheadCacheTest {
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final Duration REFRESH_AHEAD = Duration.ofSeconds(10);
+    private static final Duration STALE_WHILE_REVALIDATE = Duration.ofSeconds(30);
+
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private Function<Object, Object> reload = key -> load("lives");
+
+    private MutableClock clock;
+    private RefreshAheadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.clock = new MutableClock();
+        this.cache = new RefreshAheadCache(
+                new ConcurrentMapCache("admin-categories"),
+                TTL,
+                REFRESH_AHEAD,
+                STALE_WHILE_REVALIDATE,
+                this.refreshes::add,
+                this.clock
+        );
+        this.cache.loader(key -> this.reload.apply(key));
+    }
+
+    @Test
+    void givenAFreshEntry_whenCallsGet_thenShouldNotReload() {
+        // given
+        this.cache.get("123", () -> load("aulas"));
+        this.clock.advance(Duration.ofSeconds(49));
+
+        // when
+        final var actualValue = this.cache.get("123", () -> load("lives"));
+
+        // then
+        assertEquals("aulas", actualValue);
+        assertEquals(1, this.loads.get());
+        assertTrue(this.refreshes.isEmpty());
+    }
+
+    @Test
+    void givenAnEntryInsideTheRefreshAheadWindow_whenCallsGet_thenShouldReturnItAndReloadInBackground() {
+        // given
+        this.cache.get("123", () -> load("aulas"));
+        this.clock.advance(Duration.ofSeconds(55));
+
+        // when
+        final var actualValue = this.cache.get("123", () -> load("lives"));
+        this.cache.get("123", () -> load("talks"));
+
+        // then
+        assertEquals("aulas", actualValue);
+        assertEquals(1, this.refreshes.size());
+
+        this.refreshes.getFirst().run();
+        assertEquals("lives", this.cache.get("123", () -> load("talks")));
+        assertEquals(2, this.loads.get());
+    }
+
+    @Test
+    void givenAnExpiredEntryInsideTheStaleWindow_whenCallsGet_thenShouldServeTheStaleValue() {
+        // given
+        this.cache.get("123", () -> load("aulas"));
+        this.clock.advance(Duration.ofSeconds(80));
+
+        // when
+        final var actualValue = this.cache.get("123", () -> load("lives"));
+
+        // then
+        assertEquals("aulas", actualValue);
+        assertEquals(1, this.refreshes.size());
+    }
+
+    @Test
+    void givenAnEntryPastTheStaleWindow_whenCallsGet_thenShouldLoadItAgain() {
+        // given
+        this.cache.get("123", () -> load("aulas"));
+        this.clock.advance(Duration.ofSeconds(90));
+
+        // when
+        final var actualValue = this.cache.get("123", () -> load("lives"));
+
+        // then
+        assertEquals("lives", actualValue);
+        assertEquals(2, this.loads.get());
+        assertTrue(this.refreshes.isEmpty());
+    }
+
+    @Test
+    void givenAFailingReload_whenRefreshRuns_thenShouldKeepServingTheStaleValue() {
+        // given
+        this.cache.get("123", () -> load("aulas"));
+        this.clock.advance(Duration.ofSeconds(70));
+
+        this.reload = key -> {
+            throw new IllegalStateException("admin unavailable");
+        };
+
+        // when
+        this.cache.get("123", () -> load("lives"));
+        this.refreshes.getFirst().run();
+
+        // then
+        assertEquals("aulas", this.cache.get("123", () -> load("lives")));
+        assertEquals(2, this.refreshes.size());
+    }
+
+    @Test
+    void givenAPutWhileARefreshIsRunning_whenTheRefreshCompletes_thenShouldKeepThePutValue() {
+        // given
+        this.cache.get("123", () -> load("aulas"));
+        this.clock.advance(Duration.ofSeconds(55));
+        this.cache.get("123", () -> load("aulas"));
+
+        // when
+        this.cache.evict("123");
+        this.cache.put("123", "talks");
+        this.refreshes.getFirst().run();
+
+        // then
+        assertEquals("talks", this.cache.get("123").get());
+        assertEquals(2, this.loads.get());
+    }
+
+    @Test
+    void givenAnEvictWhileARefreshIsRunning_whenTheRefreshCompletes_thenShouldNotStoreItsValue() {
+        // given
+        this.cache.get("123", () -> load("aulas"));
+        this.clock.advance(Duration.ofSeconds(55));
+        this.cache.get("123", () -> load("aulas"));
+
+        // when
+        this.cache.evict("123");
+        this.refreshes.getFirst().run();
+
+        // then
+        assertNull(this.cache.get("123"));
+        assertEquals("talks", this.cache.get("123", () -> load("talks")));
+    }
+
+    @Test
+    void givenNoLoader_whenCallsGetInsideTheRefreshAheadWindow_thenShouldNotReload() {
+        // given
+        final var cache = new RefreshAheadCache(
+                new ConcurrentMapCache("admin-categories"),
+                TTL,
+                REFRESH_AHEAD,
+                STALE_WHILE_REVALIDATE,
+                this.refreshes::add,
+                this.clock
+        );
+        cache.get("123", () -> load("aulas"));
+        this.clock.advance(Duration.ofSeconds(55));
+
+        // when
+        final var actualValue = cache.get("123", () -> load("lives"));
+
+        // then
+        assertEquals("aulas", actualValue);
+        assertTrue(this.refreshes.isEmpty());
+    }
+
+    @Test
+    void givenAMissingEntryAndAFailingLoader_whenCallsGet_thenShouldThrowValueRetrievalException() {
+        // when
+        final var actualException = assertThrows(Cache.ValueRetrievalException.class, () ->
+                this.cache.get("123", () -> {
+                    throw new IllegalStateException("admin unavailable");
+                }));
+
+        // then
+        assertInstanceOf(IllegalStateException.class, actualException.getCause());
+        assertNull(this.cache.get("123"));
+    }
+
+    @Test
+    void givenConcurrentMissesOnTheSameKey_whenCallsGet_thenShouldLoadItOnce() throws Exception {
+        // given
+        final var expectedCallers = 10;
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var results = new AtomicReferenceArray<Object>(expectedCallers);
+
+        // when
+        final var leader = Thread.ofVirtual().start(() -> results.set(0, this.cache.get("123", () -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return load("aulas");
+        })));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final var followers = new ArrayList<Thread>();
+        for (var i = 1; i < expectedCallers; i++) {
+            final var index = i;
+            followers.add(Thread.ofVirtual().start(() -> results.set(index, this.cache.get("123", () -> load("lives")))));
+        }
+        for (final var follower : followers) {
+            while (follower.isAlive() && follower.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+        }
+        release.countDown();
+
+        leader.join(5_000);
+        for (final var follower : followers) {
+            follower.join(5_000);
+        }
+
+        // then
+        assertEquals(1, this.loads.get());
+        for (var i = 0; i < expectedCallers; i++) {
+            assertEquals("aulas", results.get(i));
+        }
+        assertEquals("aulas", this.cache.get("123").get());
+    }
+
+    private String load(final String value) {
+        this.loads.incrementAndGet();
+        return value;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-02-04T22:43:31Z");
+
+        void advance(final Duration duration) {
+            this.now = this.now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.now;
+        }
+    }
+}
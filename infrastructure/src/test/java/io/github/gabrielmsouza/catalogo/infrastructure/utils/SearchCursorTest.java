@@ -0,0 +1,109 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import io.github.gabrielmsouza.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCursorTest {
+
+    @Test
+    void givenNoCursor_whenCallsPageable_thenShouldUseOffsetWithIdTiebreaker() {
+        // given
+        final var cursor = SearchCursor.decode(null);
+
+        // when
+        final var actualPageable = cursor.pageable(2, 10, Sort.by(Sort.Direction.DESC, "name.keyword"));
+
+        // then
+        assertEquals(20, actualPageable.getOffset());
+        assertEquals(Sort.by(Sort.Order.desc("name.keyword"), Sort.Order.asc("id")), actualPageable.getSort());
+    }
+
+    @Test
+    void givenAFullFirstPage_whenCallsPaginate_thenShouldReturnOnlyNextCursor() {
+        // given
+        final var cursor = SearchCursor.decode("");
+
+        // when
+        final var actualPage = cursor.paginate(hits("a", "b"), 0, 2, Function.identity());
+
+        // then
+        assertEquals(List.of("a", "b"), actualPage.data());
+        assertNotNull(actualPage.meta().nextCursor());
+        assertNull(actualPage.meta().prevCursor());
+        assertEquals(2, actualPage.meta().total());
+        assertTrue(actualPage.meta().exactTotal());
+    }
+
+    @Test
+    void givenANextCursor_whenCallsApplyTo_thenShouldSearchAfterTheLastHit() {
+        // given
+        final var nextCursor = SearchCursor.decode(null)
+                .paginate(hits("a", "b"), 0, 2, Function.identity())
+                .meta()
+                .nextCursor();
+
+        final var cursor = SearchCursor.decode(nextCursor);
+        final var query = Query.findAll();
+
+        // when
+        cursor.applyTo(query.setPageable(cursor.pageable(5, 2, Sort.by("name.keyword"))));
+
+        // then
+        assertEquals(List.of("b", "b"), query.getSearchAfter());
+        assertEquals(0, query.getPageable().getOffset());
+        assertEquals(Sort.by(Sort.Order.asc("name.keyword"), Sort.Order.asc("id")), query.getPageable().getSort());
+    }
+
+    @Test
+    void givenAPrevCursor_whenCallsPageableAndPaginate_thenShouldReverseSortAndHits() {
+        // given
+        final var prevCursor = SearchCursor.decode(null)
+                .paginate(hits("c", "d"), 1, 2, Function.identity())
+                .meta()
+                .prevCursor();
+
+        final var cursor = SearchCursor.decode(prevCursor);
+
+        // when
+        final var actualPageable = cursor.pageable(0, 2, Sort.by("name.keyword"));
+        final var actualPage = cursor.paginate(hits("b", "a"), 0, 2, Function.identity());
+
+        // then
+        assertEquals(Sort.by(Sort.Order.desc("name.keyword"), Sort.Order.desc("id")), actualPageable.getSort());
+        assertEquals(List.of("a", "b"), actualPage.data());
+        assertNotNull(actualPage.meta().nextCursor());
+        assertNotNull(actualPage.meta().prevCursor());
+    }
+
+    @Test
+    void givenAnInvalidCursor_whenCallsDecode_thenShouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "Invalid cursor 'not-a-cursor'";
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> SearchCursor.decode("not-a-cursor"));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    private static SearchHits<String> hits(final String... ids) {
+        final var hits = Arrays.stream(ids)
+                .map(id -> new SearchHit<>("idx", id, null, 1.0f, new Object[]{id, id}, Map.of(), Map.of(), null, null, List.of(), id))
+                .toList();
+        return new SearchHitsImpl<>(hits.size(), TotalHitsRelation.EQUAL_TO, 1.0f, null, null, hits, null, null, null);
+    }
+}
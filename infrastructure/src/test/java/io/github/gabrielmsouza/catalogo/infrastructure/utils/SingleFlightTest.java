@@ -0,0 +1,176 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import io.github.gabrielmsouza.catalogo.domain.exceptions.InternalErrorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.singleFlight = new SingleFlight("categories", this.meterRegistry);
+    }
+
+    @Test
+    void givenConcurrentCallsForSameKey_whenCallsExecute_thenShouldShareOneCall() throws Exception {
+        // given
+        final var expectedCallers = 10;
+        final var calls = new AtomicInteger();
+        final var release = new CountDownLatch(1);
+
+        // when
+        final var results = new ArrayList<CompletableFuture<String>>();
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(CompletableFuture.supplyAsync(() -> this.singleFlight.execute("123", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "aulas";
+            }), executor));
+
+            while (calls.get() == 0) {
+                Thread.onSpinWait();
+            }
+            for (var i = 1; i < expectedCallers; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> this.singleFlight.execute("123", () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                }), executor));
+            }
+
+            while (coalescedCount() < expectedCallers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        }
+
+        // then
+        assertEquals(1, calls.get());
+        for (final var result : results) {
+            assertEquals("aulas", result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(expectedCallers - 1, coalescedCount());
+    }
+
+    @Test
+    void givenAFailingCall_whenCallsExecuteConcurrently_thenShouldShareTheException() throws Exception {
+        // given
+        final var expectedException = InternalErrorException.with("Error observed from categories [resourceId:123] [status:500]");
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var leader = CompletableFuture.runAsync(() -> this.singleFlight.execute("123", () -> {
+                started.countDown();
+                await(release);
+                throw expectedException;
+            }), executor);
+            await(started);
+
+            final var follower = CompletableFuture.supplyAsync(() -> {
+                try {
+                    this.singleFlight.execute("123", () -> "aulas");
+                    return null;
+                } catch (final InternalErrorException e) {
+                    return e;
+                }
+            }, executor);
+
+            while (coalescedCount() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // when
+            release.countDown();
+
+            // then
+            assertSame(expectedException, follower.get(1, TimeUnit.SECONDS));
+            assertThrows(Exception.class, () -> leader.get(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void givenSequentialCalls_whenCallsExecute_thenShouldNotCoalesce() {
+        // given
+        final var calls = new AtomicInteger();
+
+        // when
+        this.singleFlight.execute("123", calls::incrementAndGet);
+        this.singleFlight.execute("123", calls::incrementAndGet);
+        this.singleFlight.execute("456", calls::incrementAndGet);
+
+        // then
+        assertEquals(3, calls.get());
+        assertEquals(0, coalescedCount());
+    }
+
+    @Test
+    void givenACallInFlight_whenCallsForget_thenNextCallerShouldStartANewOne() throws Exception {
+        // given
+        final var calls = new AtomicInteger();
+        final var releaseStale = new CountDownLatch(1);
+        final var releaseFresh = new CountDownLatch(1);
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var stale = CompletableFuture.supplyAsync(() -> this.singleFlight.execute("123", () -> {
+                calls.incrementAndGet();
+                await(releaseStale);
+                return "stale";
+            }), executor);
+            while (calls.get() == 0) {
+                Thread.onSpinWait();
+            }
+
+            // when
+            this.singleFlight.forget("123");
+
+            final var fresh = CompletableFuture.supplyAsync(() -> this.singleFlight.execute("123", () -> {
+                calls.incrementAndGet();
+                await(releaseFresh);
+                return "fresh";
+            }), executor);
+            while (calls.get() == 1) {
+                Thread.onSpinWait();
+            }
+            releaseStale.countDown();
+            assertEquals("stale", stale.get(5, TimeUnit.SECONDS));
+
+            final var follower = CompletableFuture.supplyAsync(() -> this.singleFlight.execute("123", () -> "other"), executor);
+            while (coalescedCount() < 1) {
+                Thread.onSpinWait();
+            }
+            releaseFresh.countDown();
+
+            // then
+            assertEquals("fresh", fresh.get(5, TimeUnit.SECONDS));
+            assertEquals("fresh", follower.get(5, TimeUnit.SECONDS));
+            assertEquals(2, calls.get());
+        }
+    }
+
+    private double coalescedCount() {
+        return this.meterRegistry.get("catalogo.http.requests.coalesced").tag("namespace", "categories").counter().count();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch was not released");
+            }
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.VersionConflictException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaleWriteHandlerTest {
+    private SimpleMeterRegistry meterRegistry;
+    private StaleWriteHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+
+        final var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", this.meterRegistry);
+
+        this.handler = new StaleWriteHandler(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void givenVersionConflict_whenCallsSave_thenShouldIgnoreAndCountIt() {
+        // given
+        final Runnable write = () -> {
+            throw new VersionConflictException("Version conflict", null);
+        };
+
+        // when
+        assertDoesNotThrow(() -> this.handler.save("categories", "123", write));
+
+        // then
+        assertEquals(1.0, staleCount("categories"));
+    }
+
+    @Test
+    void givenOtherFailure_whenCallsSave_thenShouldRethrowIt() {
+        // given
+        final Runnable write = () -> {
+            throw new IllegalStateException("cluster unavailable");
+        };
+
+        // when
+        assertThrows(IllegalStateException.class, () -> this.handler.save("categories", "123", write));
+
+        // then
+        assertEquals(0.0, staleCount("categories"));
+    }
+
+    @Test
+    void givenOnlyConflictsInBulk_whenCallsSaveAll_thenShouldIgnoreAndCountThem() {
+        // given
+        final Runnable write = () -> {
+            throw new BulkFailureException("Bulk operation has failures", Map.of(
+                    "1", new BulkFailureException.FailureDetails(409, "version_conflict_engine_exception"),
+                    "2", new BulkFailureException.FailureDetails(409, "version_conflict_engine_exception")
+            ));
+        };
+
+        // when
+        assertDoesNotThrow(() -> this.handler.saveAll("videos", write));
+
+        // then
+        assertEquals(2.0, staleCount("videos"));
+    }
+
+    @Test
+    void givenMixedFailuresInBulk_whenCallsSaveAll_thenShouldRethrowOnlyNonConflicts() {
+        // given
+        final Runnable write = () -> {
+            throw new BulkFailureException("Bulk operation has failures", Map.of(
+                    "1", new BulkFailureException.FailureDetails(409, "version_conflict_engine_exception"),
+                    "2", new BulkFailureException.FailureDetails(429, "es_rejected_execution_exception")
+            ));
+        };
+
+        // when
+        final var actualException = assertThrows(BulkFailureException.class, () -> this.handler.saveAll("videos", write));
+
+        // then
+        assertEquals(Map.of("2", new BulkFailureException.FailureDetails(429, "es_rejected_execution_exception")), actualException.getFailedDocuments());
+        assertEquals(1.0, staleCount("videos"));
+    }
+
+    private double staleCount(final String index) {
+        final var counter = this.meterRegistry.find("catalogo.elasticsearch.writes.stale").tag("index", index).counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.utils;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubstringQueryTest {
+
+    @Test
+    void givenFields_whenCallsContaining_thenShouldTargetTheirNgramAndAutocompleteSubfields() {
+        // given
+        final var expectedTerms = "ula";
+        final var expectedFields = List.of("name.ngram", "name.autocomplete", "description.ngram", "description.autocomplete");
+
+        // when
+        final var actualQuery = SubstringQuery.containing(expectedTerms, "name", "description");
+
+        // then
+        assertTrue(actualQuery.isMultiMatch());
+        assertFalse(actualQuery.isQueryString());
+
+        final var actualMultiMatch = actualQuery.multiMatch();
+        assertEquals(expectedTerms, actualMultiMatch.query());
+        assertEquals(expectedFields, actualMultiMatch.fields());
+        assertEquals(Operator.And, actualMultiMatch.operator());
+        assertEquals(TextQueryType.BestFields, actualMultiMatch.type());
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.gabrielmsouza.catalogo.infrastructure.video;
 
 import io.github.gabrielmsouza.catalogo.AbstractElasticsearchTest;
+import io.github.gabrielmsouza.catalogo.application.video.list.ListVideoUseCase;
 import io.github.gabrielmsouza.catalogo.domain.Fixture;
 import io.github.gabrielmsouza.catalogo.domain.utils.IDUtils;
 import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
@@ -17,6 +18,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.Year;
+import java.util.List;
 import java.util.Set;
 
 class VideoElasticsearchGatewayTest extends AbstractElasticsearchTest {
@@ -212,6 +214,43 @@ class VideoElasticsearchGatewayTest extends AbstractElasticsearchTest {
         Assertions.assertDoesNotThrow(() -> this.videoGateway.deleteById(expectedId));
     }
 
+    @Test
+    public void givenValidVideos_whenCallsSaveAll_thenShouldPersistThemInBulk() {
+        // given
+        final var first = Fixture.Videos.java21();
+        final var second = Fixture.Videos.golang();
+
+        // when
+        final var actualOutput = this.videoGateway.saveAll(List.of(first, second));
+
+        // then
+        Assertions.assertEquals(List.of(first, second), actualOutput);
+        Assertions.assertTrue(this.videoRepository.existsById(first.id()));
+        Assertions.assertTrue(this.videoRepository.existsById(second.id()));
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteAllById_thenShouldDeleteThem() {
+        // given
+        final var first = Fixture.Videos.java21();
+        final var second = Fixture.Videos.golang();
+
+        this.videoRepository.saveAll(List.of(VideoDocument.from(first), VideoDocument.from(second)));
+
+        // when
+        this.videoGateway.deleteAllById(Set.of(first.id(), second.id()));
+
+        // then
+        Assertions.assertFalse(this.videoRepository.existsById(first.id()));
+        Assertions.assertFalse(this.videoRepository.existsById(second.id()));
+    }
+
+    @Test
+    public void givenEmptyIds_whenCallsDeleteAllById_thenShouldBeOk() {
+        // when/then
+        Assertions.assertDoesNotThrow(() -> this.videoGateway.deleteAllById(Set.of()));
+    }
+
     @Test
     public void givenNullId_whenCallsDeleteById_shouldBeOk() {
         // given
@@ -381,6 +420,57 @@ class VideoElasticsearchGatewayTest extends AbstractElasticsearchTest {
         Assertions.assertEquals(expectedTotal, actualOutput.data().size());
     }
 
+    @Test
+    public void givenAProjection_whenCallsFindAll_shouldLoadOnlyTheSelectedFields() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "", "title", "asc", null, null,
+                Set.of(), Set.of(), Set.of(),
+                Set.of("id", "title", "launchedAt")
+        );
+
+        // when
+        final var actualOutput = this.videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(3, actualOutput.meta().total());
+        Assertions.assertEquals(3, actualOutput.data().size());
+
+        final var actualVideo = actualOutput.data().get(0);
+        Assertions.assertNotNull(actualVideo.id());
+        Assertions.assertEquals("Golang 1.22", actualVideo.title());
+        Assertions.assertEquals(2024, actualVideo.launchedAt().getValue());
+        Assertions.assertNull(actualVideo.description());
+        Assertions.assertNull(actualVideo.rating());
+        Assertions.assertNull(actualVideo.video());
+        Assertions.assertEquals(Set.of(), actualVideo.categories());
+    }
+
+    @Test
+    public void givenAProjectionWithoutLaunchedAtAndRating_whenCallsFindAll_shouldMapTheHitsToOutputs() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "", "title", "asc", null, null,
+                Set.of(), Set.of(), Set.of(),
+                Set.of("id", "title")
+        );
+
+        // when
+        final var actualOutput = this.videoGateway.findAll(aQuery).map(ListVideoUseCase.Output::from);
+
+        // then
+        Assertions.assertEquals(3, actualOutput.data().size());
+
+        final var actualVideo = actualOutput.data().get(0);
+        Assertions.assertEquals("Golang 1.22", actualVideo.title());
+        Assertions.assertNull(actualVideo.yearLaunched());
+        Assertions.assertNull(actualVideo.rating());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "go,0,10,1,1,Golang 1.22",
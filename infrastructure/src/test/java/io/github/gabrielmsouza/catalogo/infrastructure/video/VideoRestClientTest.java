@@ -4,6 +4,7 @@ import io.github.gabrielmsouza.catalogo.AbstractRestClientTest;
 import io.github.gabrielmsouza.catalogo.domain.Fixture;
 import io.github.gabrielmsouza.catalogo.domain.exceptions.InternalErrorException;
 import io.github.gabrielmsouza.catalogo.domain.utils.IDUtils;
+import io.github.gabrielmsouza.catalogo.domain.video.Video;
 import io.github.gabrielmsouza.catalogo.infrastructure.authentication.ClientCredentialsManager;
 import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
 import io.github.gabrielmsouza.catalogo.infrastructure.video.models.ImageResourceDTO;
@@ -19,7 +20,10 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.mockito.Mockito.doReturn;
@@ -227,6 +231,96 @@ class VideoRestClientTest extends AbstractRestClientTest {
         verify(expectedRetries, getRequestedFor(urlPathEqualTo("/api/videos/%s".formatted(expectedId))));
     }
 
+    @Test
+    public void givenVideoIds_whenCallsVideosOfIds_shouldFetchThemInChunksAndRememberTheMissingOnes() {
+        // given
+        final var golang = Fixture.Videos.golang();
+        final var java21 = Fixture.Videos.java21();
+        final var systemDesign = Fixture.Videos.systemDesign();
+
+        final var expectedToken = "access-123";
+        doReturn(expectedToken).when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/videos"))
+                        .withQueryParam("ids", equalTo("%s,%s".formatted(golang.id(), java21.id())))
+                        .withHeader(HttpHeaders.AUTHORIZATION, equalTo("bearer %s".formatted(expectedToken)))
+                        .willReturn(aResponse()
+                                .withStatus(200)
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(listOf(aDTO(golang)))
+                        )
+        );
+        stubFor(
+                get(urlPathEqualTo("/api/videos"))
+                        .withQueryParam("ids", equalTo(systemDesign.id()))
+                        .withHeader(HttpHeaders.AUTHORIZATION, equalTo("bearer %s".formatted(expectedToken)))
+                        .willReturn(aResponse()
+                                .withStatus(200)
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(listOf(aDTO(systemDesign)))
+                        )
+        );
+
+        final var ids = new LinkedHashSet<>(List.of(golang.id(), java21.id(), systemDesign.id()));
+
+        // when
+        final var actualVideos = this.target.videosOfIds(ids);
+        final var actualMissing = this.target.videosOfIds(Set.of(java21.id()));
+
+        // then
+        Assertions.assertEquals(List.of(golang.id(), systemDesign.id()), List.copyOf(actualVideos.keySet()));
+        Assertions.assertEquals(golang.title(), actualVideos.get(golang.id()).title());
+        Assertions.assertEquals(systemDesign.title(), actualVideos.get(systemDesign.id()).title());
+        Assertions.assertTrue(actualMissing.isEmpty());
+        Assertions.assertTrue(this.target.negativeCache().isNotFound(java21.id()));
+
+        verify(2, getRequestedFor(urlPathEqualTo("/api/videos")));
+    }
+
+    @Test
+    public void givenVideoIds_whenAChunkReceives5xxFromServer_shouldReturnInternalError() {
+        // given
+        final var golang = Fixture.Videos.golang();
+        final var java21 = Fixture.Videos.java21();
+        final var systemDesign = Fixture.Videos.systemDesign();
+        final var expectedErrorMessage = "Error observed from videos [resourceId:%s] [status:500]".formatted(systemDesign.id());
+        final var expectedRetries = 2;
+
+        final var expectedToken = "access-123";
+        doReturn(expectedToken).when(credentialsManager).retrieve();
+
+        stubFor(
+                get(urlPathEqualTo("/api/videos"))
+                        .withQueryParam("ids", equalTo("%s,%s".formatted(golang.id(), java21.id())))
+                        .willReturn(aResponse()
+                                .withStatus(200)
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(listOf(aDTO(golang), aDTO(java21)))
+                        )
+        );
+        stubFor(
+                get(urlPathEqualTo("/api/videos"))
+                        .withQueryParam("ids", equalTo(systemDesign.id()))
+                        .willReturn(aResponse()
+                                .withStatus(500)
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .withBody(Json.writeValueAsString(Map.of("message", "Internal Server Error")))
+                        )
+        );
+
+        final var ids = new LinkedHashSet<>(List.of(golang.id(), java21.id(), systemDesign.id()));
+
+        // when
+        final var actualEx = Assertions.assertThrows(InternalErrorException.class, () -> this.target.videosOfIds(ids));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualEx.getMessage());
+        Assertions.assertFalse(this.target.negativeCache().isNotFound(systemDesign.id()));
+
+        verify(expectedRetries, getRequestedFor(urlPathEqualTo("/api/videos")).withQueryParam("ids", equalTo(systemDesign.id())));
+    }
+
     @Test
     public void givenAVideo_whenReceiveTimeout_shouldReturnInternalError() {
         // given
@@ -347,6 +441,38 @@ class VideoRestClientTest extends AbstractRestClientTest {
         verify(3, getRequestedFor(urlPathEqualTo("/api/videos/%s".formatted(expectedId))));
     }
 
+    private static VideoDTO aDTO(final Video video) {
+        return new VideoDTO(
+                video.id(),
+                video.title(),
+                video.description(),
+                video.launchedAt().getValue(),
+                video.rating().getName(),
+                video.duration(),
+                video.opened(),
+                video.published(),
+                videoResourceDTO(video.video()),
+                videoResourceDTO(video.trailer()),
+                imageResourceDTO(video.banner()),
+                imageResourceDTO(video.thumbnail()),
+                imageResourceDTO(video.thumbnailHalf()),
+                video.categories(),
+                video.castMembers(),
+                video.genres(),
+                video.createdAt().toString(),
+                video.updatedAt().toString()
+        );
+    }
+
+    private static String listOf(final VideoDTO... items) {
+        return Json.writeValueAsString(Map.of(
+                "current_page", 0,
+                "per_page", items.length,
+                "total", items.length,
+                "items", List.of(items)
+        ));
+    }
+
     private static VideoResourceDTO videoResourceDTO(final String data) {
         return new VideoResourceDTO(IDUtils.uuid(), IDUtils.uuid(), data, data, data, "processed");
     }
@@ -0,0 +1,103 @@
+package io.github.gabrielmsouza.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.gabrielmsouza.catalogo.domain.utils.InstantUtils;
+import io.github.gabrielmsouza.catalogo.infrastructure.configuration.json.Json;
+import io.github.gabrielmsouza.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoEventTest {
+    private static final TypeReference<MessageValue<VideoEvent>> VIDEO_MESSAGE = new TypeReference<>() {
+    };
+
+    @Test
+    void givenADebeziumRowImage_whenReadingIt_thenShouldMapEveryColumnAndBeAFullRow() {
+        // given
+        final var expectedDate = LocalDateTime.of(2024, 2, 4, 22, 43, 31).toInstant(ZoneOffset.UTC);
+
+        final var payload = """
+                {
+                  "payload": {
+                    "before": null,
+                    "after": {
+                      "id": "123",
+                      "title": "Aprendendo Go",
+                      "description": "Curso de Go",
+                      "year_launched": 2024,
+                      "rating": "L",
+                      "opened": 1,
+                      "published": 0,
+                      "duration": 120.0,
+                      "created_at": 1707086611086071,
+                      "updated_at": 1707086611086071
+                    },
+                    "source": {"name": "adm_videos_mysql", "db": "adm_videos", "table": "videos"},
+                    "op": "c"
+                  }
+                }
+                """;
+
+        // when
+        final var actualEvent = Json.readValue(payload, VIDEO_MESSAGE).payload().after();
+
+        // then
+        assertTrue(actualEvent.isFullRow());
+        assertEquals("123", actualEvent.id());
+        assertEquals("Aprendendo Go", actualEvent.title());
+        assertEquals("Curso de Go", actualEvent.description());
+        assertEquals(2024, actualEvent.yearLaunched());
+        assertEquals("L", actualEvent.rating());
+        assertTrue(actualEvent.opened());
+        assertFalse(actualEvent.published());
+        assertEquals(expectedDate, InstantUtils.fromTimestamp(actualEvent.createdAt()).truncatedTo(ChronoUnit.SECONDS));
+        assertEquals(expectedDate, InstantUtils.fromTimestamp(actualEvent.updatedAt()).truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void givenAPartialRowImage_whenCallsIsFullRow_thenShouldReturnFalse() {
+        // given
+        final var payload = """
+                {
+                  "payload": {
+                    "before": null,
+                    "after": {
+                      "id": "123",
+                      "title": "Aprendendo Go",
+                      "published": 1,
+                      "updated_at": 1707086611086071
+                    },
+                    "source": {"name": "adm_videos_mysql", "db": "adm_videos", "table": "videos"},
+                    "op": "u"
+                  }
+                }
+                """;
+
+        // when
+        final var actualEvent = Json.readValue(payload, VIDEO_MESSAGE).payload().after();
+
+        // then
+        assertFalse(actualEvent.isFullRow());
+        assertEquals("123", actualEvent.id());
+        assertEquals("Aprendendo Go", actualEvent.title());
+        assertNull(actualEvent.yearLaunched());
+        assertNull(actualEvent.createdAt());
+    }
+
+    @Test
+    void givenAnIdOnlyPayload_whenCallsIsFullRow_thenShouldReturnFalse() {
+        // given
+        final var event = new VideoEvent("123");
+
+        // when
+        final var actualFullRow = event.isFullRow();
+
+        // then
+        assertFalse(actualFullRow);
+    }
+}